@@ -119,6 +119,35 @@ tasks.jar {
     from(sourceSets.main.get().output)
 }
 
+// Unit Tests (Run with `gradlew :common:test`)
+dependencies {
+    testImplementation("org.junit.jupiter:junit-jupiter:${"junit_version"()!!}")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
+
+// JMH Benchmarks (Run with `gradlew :common:jmh`)
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+    runtimeClasspath += sourceSets.main.get().output + sourceSets.main.get().runtimeClasspath
+}
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:${"jmh_version"()!!}")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:${"jmh_version"()!!}")
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks"
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args = listOfNotNull(project.findProperty("jmhInclude") as String?)
+}
+
 tasks.shadowJar {
     configurations = listOf(project.configurations.getByName("shade"), project.configurations.getByName("shadeOnly"))
 
@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.integrations.discord;
+
+import io.github.cdagaming.unicore.utils.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link AccessorCache} field and method access, compared against
+ * the uncached {@link StringUtils} reflection that {@link FunctionsLib} used before it
+ *
+ * @author CDAGaming
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessorCacheBenchmark {
+    /**
+     * The parameter types used when invoking {@link Target#add(int)}
+     */
+    private static final Class<?>[] ADD_TYPES = new Class<?>[]{int.class};
+    /**
+     * The parameters used when invoking {@link Target#add(int)}
+     */
+    private static final Object[] ADD_PARAMETERS = new Object[]{5};
+    /**
+     * The instance being accessed
+     */
+    private Target target;
+
+    @Setup
+    public void setup() {
+        target = new Target();
+        // Resolve each member once, so that only repeated lookups are measured
+        AccessorCache.getField(Target.class, target, "value");
+        AccessorCache.getField(Target.class, target, "missing");
+        AccessorCache.executeMethod(Target.class, target, null, null, "getValue");
+        AccessorCache.executeMethod(Target.class, target, ADD_TYPES, ADD_PARAMETERS, "add");
+    }
+
+    @Benchmark
+    public Object cachedFieldRead() {
+        return AccessorCache.getField(Target.class, target, "value");
+    }
+
+    @Benchmark
+    public Object legacyFieldRead() {
+        return StringUtils.getField(Target.class, target, "value");
+    }
+
+    @Benchmark
+    public Object cachedMissingField() {
+        return AccessorCache.getField(Target.class, target, "missing");
+    }
+
+    @Benchmark
+    public Object legacyMissingField() {
+        return StringUtils.getField(Target.class, target, "missing");
+    }
+
+    @Benchmark
+    public Object cachedMethodInvoke() {
+        return AccessorCache.executeMethod(Target.class, target, null, null, "getValue");
+    }
+
+    @Benchmark
+    public Object legacyMethodInvoke() {
+        return StringUtils.executeMethod(Target.class, target, null, null, "getValue");
+    }
+
+    @Benchmark
+    public Object cachedMethodWithParameters() {
+        return AccessorCache.executeMethod(Target.class, target, ADD_TYPES, ADD_PARAMETERS, "add");
+    }
+
+    @Benchmark
+    public Object legacyMethodWithParameters() {
+        return StringUtils.executeMethod(Target.class, target, ADD_TYPES, ADD_PARAMETERS, "add");
+    }
+
+    /**
+     * A sample class, with private members as commonly accessed from placeholder expressions
+     */
+    public static class Target {
+        private int value = 42;
+
+        private int getValue() {
+            return value;
+        }
+
+        private int add(final int amount) {
+            return value + amount;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.utils.discord;
+
+import io.github.cdagaming.unicore.utils.StringUtils;
+import org.meteordev.starscript.value.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks for {@link PlaceholderRegistry} prefix lookups, prefix removals and indexed type lookups, compared against
+ * the synchronized {@link TreeMap} scan it replaced
+ * <p>Each placeholder consumes {@link PlaceholderRegistryBenchmark#EVALUATION_COST} tokens of CPU time when evaluated,
+ * approximating the cost of wrapping a game object into a {@link Value}
+ *
+ * @author CDAGaming
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlaceholderRegistryBenchmark {
+    /**
+     * The prefixes used to group the generated placeholders
+     */
+    private static final String[] PREFIXES = {"general.", "player.", "world.", "server.", "item.", "custom."};
+    /**
+     * The prefixes removed by the removal benchmarks, as passed to {@link DiscordUtils#removeArguments(String...)}
+     */
+    private static final String[] REMOVED_PREFIXES = {"player.", "world."};
+    /**
+     * The amount of CPU tokens consumed when evaluating a placeholder
+     */
+    private static final long EVALUATION_COST = 64;
+    /**
+     * The amount of placeholders to generate
+     */
+    @Param({"1000", "10000", "50000"})
+    public int size;
+    /**
+     * The registry being measured
+     */
+    private PlaceholderRegistry registry;
+    /**
+     * The synchronized mapping used before {@link PlaceholderRegistry}
+     */
+    private Map<String, Supplier<Value>> legacyData;
+    /**
+     * The placeholders matching {@link PlaceholderRegistryBenchmark#REMOVED_PREFIXES}, restored before each removal
+     */
+    private Map<String, Supplier<Value>> removedData;
+    /**
+     * The placeholder value revision passed to {@link PlaceholderRegistry#getKeysOfType}
+     */
+    private long revision;
+
+    @Setup
+    public void setup() {
+        registry = new PlaceholderRegistry();
+        legacyData = Collections.synchronizedMap(new TreeMap<>());
+        for (int index = 0; index < size; index++) {
+            final String name = PREFIXES[index % PREFIXES.length] + "entry_" + index;
+            final Value value = Value.string(name);
+            final Supplier<Value> supplier = () -> {
+                Blackhole.consumeCPU(EVALUATION_COST);
+                return value;
+            };
+            registry.put(name, supplier);
+            legacyData.put(name, supplier);
+        }
+        removedData = new TreeMap<>();
+        for (String prefix : REMOVED_PREFIXES) {
+            removedData.putAll(registry.getMatching(prefix));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void restore() {
+        for (Map.Entry<String, Supplier<Value>> entry : removedData.entrySet()) {
+            registry.put(entry.getKey(), entry.getValue());
+            legacyData.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Benchmark
+    public void registryPrefixLookup(final Blackhole blackhole) {
+        for (String name : registry.getMatching("player.").keySet()) {
+            blackhole.consume(name);
+        }
+    }
+
+    @Benchmark
+    public void legacyPrefixScan(final Blackhole blackhole) {
+        synchronized (legacyData) {
+            for (String name : legacyData.keySet()) {
+                if (name.startsWith("player.")) {
+                    blackhole.consume(name);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void registryPrefixRemoval(final Blackhole blackhole) {
+        synchronized (registry) {
+            for (String key : registry.getMatchingKeys(REMOVED_PREFIXES)) {
+                blackhole.consume(registry.remove(key));
+            }
+        }
+    }
+
+    @Benchmark
+    public void legacyPrefixRemoval(final Blackhole blackhole) {
+        synchronized (legacyData) {
+            final List<String> items = StringUtils.newArrayList(legacyData.keySet());
+            for (String key : items) {
+                for (String format : REMOVED_PREFIXES) {
+                    if (key.startsWith(format)) {
+                        blackhole.consume(legacyData.remove(key));
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void registryTypeLookup(final Blackhole blackhole) {
+        // No placeholder value has changed, so only the placeholders restored before this invocation are evaluated
+        for (String name : registry.getKeysOfType("string"::equals, 0L)) {
+            blackhole.consume(name);
+        }
+    }
+
+    @Benchmark
+    public void registryChangedTypeLookup(final Blackhole blackhole) {
+        // A placeholder value has changed, so every non-constant placeholder is evaluated again
+        for (String name : registry.getKeysOfType("string"::equals, ++revision)) {
+            blackhole.consume(name);
+        }
+    }
+
+    @Benchmark
+    public void legacyTypeScan(final Blackhole blackhole) {
+        synchronized (legacyData) {
+            for (Supplier<Value> supplier : legacyData.values()) {
+                blackhole.consume(PlaceholderRegistry.getType(supplier.get()));
+            }
+        }
+    }
+}
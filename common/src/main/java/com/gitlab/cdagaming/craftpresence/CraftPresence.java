@@ -26,6 +26,7 @@ package com.gitlab.cdagaming.craftpresence;
 
 import com.gitlab.cdagaming.craftpresence.config.Config;
 import com.gitlab.cdagaming.craftpresence.core.Constants;
+import com.gitlab.cdagaming.craftpresence.core.impl.ModuleEventBus;
 import com.gitlab.cdagaming.craftpresence.utils.CommandUtils;
 import com.gitlab.cdagaming.craftpresence.utils.KeyUtils;
 import com.gitlab.cdagaming.craftpresence.utils.discord.DiscordUtils;
@@ -83,6 +84,11 @@ public class CraftPresence {
      * The {@link GuiUtils} Instance for this Mod
      */
     public static final GuiUtils GUIS = new GuiUtils();
+    /**
+     * The {@link ModuleEventBus} Instance for this Mod
+     * <p>Loader-specific event hooks may post to this, in addition to the detected game state changes
+     */
+    public static final ModuleEventBus EVENTS = new ModuleEventBus();
     /**
      * The Minecraft Instance attached to this Mod
      */
@@ -264,8 +264,12 @@ public final class Config extends Module implements Serializable {
 
         if (advancedSettings.debugMode != old.advancedSettings.debugMode ||
                 advancedSettings.verboseMode != old.advancedSettings.verboseMode ||
-                advancedSettings.refreshRate != old.advancedSettings.refreshRate) {
-            CommandUtils.updateModes(); // Debug Mode, Verbose Mode, or Refresh Rate changed
+                advancedSettings.refreshRate != old.advancedSettings.refreshRate ||
+                advancedSettings.maxCachedImages != old.advancedSettings.maxCachedImages ||
+                advancedSettings.maxImageCacheSize != old.advancedSettings.maxImageCacheSize ||
+                advancedSettings.maxAnimatedImageSize != old.advancedSettings.maxAnimatedImageSize ||
+                advancedSettings.presenceSendInterval != old.advancedSettings.presenceSendInterval) {
+            CommandUtils.updateModes(); // Debug Mode, Verbose Mode, Refresh Rate, Image Cache Limits, or Presence Send Interval changed
         }
 
         if (advancedSettings.enableClassGraph != old.advancedSettings.enableClassGraph) {
@@ -276,6 +280,10 @@ public final class Config extends Module implements Serializable {
             CommandUtils.syncDynamicVariables(old.displaySettings.dynamicVariables); // Dynamic Variables changed
         }
 
+        if (!Objects.equals(displaySettings.presenceData, old.displaySettings.presenceData)) {
+            CommandUtils.clearCompiledScripts(); // Presence Data changed
+        }
+
         if (accessibilitySettings.stripTranslationColors != old.accessibilitySettings.stripTranslationColors) {
             Constants.TRANSLATOR.setStripColors(accessibilitySettings.stripTranslationColors); // Strip Translation Colors changed
         }
@@ -53,6 +53,10 @@ public class Advanced extends Module implements Serializable {
     public String playerSkinEndpoint = "https://mc-heads.net/avatar/{getOrDefault(player.uuid.short, player.name)}";
     public boolean allowDuplicatePackets = false;
     public int maxConnectionAttempts = 10;
+    public int presenceSendInterval = 1000;
+    public int maxCachedImages = 128;
+    public int maxImageCacheSize = 64;
+    public int maxAnimatedImageSize = 256;
     public boolean enableClassGraph = false;
 
     public Advanced(final Advanced other) {
@@ -95,6 +99,10 @@ public class Advanced extends Module implements Serializable {
             playerSkinEndpoint = data.playerSkinEndpoint;
             allowDuplicatePackets = data.allowDuplicatePackets;
             maxConnectionAttempts = data.maxConnectionAttempts;
+            presenceSendInterval = data.presenceSendInterval;
+            maxCachedImages = data.maxCachedImages;
+            maxImageCacheSize = data.maxImageCacheSize;
+            maxAnimatedImageSize = data.maxAnimatedImageSize;
             enableClassGraph = data.enableClassGraph;
         }
     }
@@ -127,6 +135,10 @@ public class Advanced extends Module implements Serializable {
                 Objects.equals(other.playerSkinEndpoint, playerSkinEndpoint) &&
                 Objects.equals(other.allowDuplicatePackets, allowDuplicatePackets) &&
                 Objects.equals(other.maxConnectionAttempts, maxConnectionAttempts) &&
+                Objects.equals(other.presenceSendInterval, presenceSendInterval) &&
+                Objects.equals(other.maxCachedImages, maxCachedImages) &&
+                Objects.equals(other.maxImageCacheSize, maxImageCacheSize) &&
+                Objects.equals(other.maxAnimatedImageSize, maxAnimatedImageSize) &&
                 Objects.equals(other.enableClassGraph, enableClassGraph);
     }
 
@@ -140,6 +152,8 @@ public class Advanced extends Module implements Serializable {
                 allowEndpointIcons,
                 serverIconEndpoint, playerSkinEndpoint,
                 allowDuplicatePackets, maxConnectionAttempts,
+                presenceSendInterval, maxCachedImages, maxImageCacheSize,
+                maxAnimatedImageSize,
                 enableClassGraph
         );
     }
@@ -51,7 +51,8 @@ public class AdvancedSettingsGui extends ConfigurationGui<Advanced> {
             formatWordsButton, debugModeButton, verboseModeButton,
             allowPlaceholderPreviewsButton, allowEndpointIconsButton, allowDuplicatePacketsButton,
             enableClassGraphButton;
-    private ExtendedTextControl refreshRate, maxConnectionAttempts,
+    private ExtendedTextControl refreshRate, maxConnectionAttempts, presenceSendInterval,
+            maxCachedImages, maxImageCacheSize, maxAnimatedImageSize,
             playerSkinEndpoint, serverIconEndpoint;
 
     AdvancedSettingsGui() {
@@ -99,9 +100,73 @@ public class AdvancedSettingsGui extends ConfigurationGui<Advanced> {
         );
         maxConnectionAttempts.setControlMessage(Integer.toString(getInstanceData().maxConnectionAttempts));
 
+        presenceSendInterval = childFrame.addControl(
+                new TextWidget(
+                        getFontRenderer(),
+                        getButtonY(2),
+                        180, 20,
+                        () -> getInstanceData().presenceSendInterval = StringUtils.getValidInteger(presenceSendInterval.getControlMessage()).getSecond(),
+                        "gui.config.name.advanced.presence_send_interval",
+                        () -> drawMultiLineString(
+                                StringUtils.splitTextByNewLine(
+                                        Constants.TRANSLATOR.translate("gui.config.comment.advanced.presence_send_interval")
+                                )
+                        )
+                )
+        );
+        presenceSendInterval.setControlMessage(Integer.toString(getInstanceData().presenceSendInterval));
+
+        maxCachedImages = childFrame.addControl(
+                new TextWidget(
+                        getFontRenderer(),
+                        getButtonY(3),
+                        180, 20,
+                        () -> getInstanceData().maxCachedImages = StringUtils.getValidInteger(maxCachedImages.getControlMessage()).getSecond(),
+                        "gui.config.name.advanced.max_cached_images",
+                        () -> drawMultiLineString(
+                                StringUtils.splitTextByNewLine(
+                                        Constants.TRANSLATOR.translate("gui.config.comment.advanced.max_cached_images")
+                                )
+                        )
+                )
+        );
+        maxCachedImages.setControlMessage(Integer.toString(getInstanceData().maxCachedImages));
+
+        maxImageCacheSize = childFrame.addControl(
+                new TextWidget(
+                        getFontRenderer(),
+                        getButtonY(4),
+                        180, 20,
+                        () -> getInstanceData().maxImageCacheSize = StringUtils.getValidInteger(maxImageCacheSize.getControlMessage()).getSecond(),
+                        "gui.config.name.advanced.max_image_cache_size",
+                        () -> drawMultiLineString(
+                                StringUtils.splitTextByNewLine(
+                                        Constants.TRANSLATOR.translate("gui.config.comment.advanced.max_image_cache_size")
+                                )
+                        )
+                )
+        );
+        maxImageCacheSize.setControlMessage(Integer.toString(getInstanceData().maxImageCacheSize));
+
+        maxAnimatedImageSize = childFrame.addControl(
+                new TextWidget(
+                        getFontRenderer(),
+                        getButtonY(5),
+                        180, 20,
+                        () -> getInstanceData().maxAnimatedImageSize = StringUtils.getValidInteger(maxAnimatedImageSize.getControlMessage()).getSecond(),
+                        "gui.config.name.advanced.max_animated_image_size",
+                        () -> drawMultiLineString(
+                                StringUtils.splitTextByNewLine(
+                                        Constants.TRANSLATOR.translate("gui.config.comment.advanced.max_animated_image_size")
+                                )
+                        )
+                )
+        );
+        maxAnimatedImageSize.setControlMessage(Integer.toString(getInstanceData().maxAnimatedImageSize));
+
         guiMessagesButton = childFrame.addControl(
                 new ExtendedButtonControl(
-                        calc1, getButtonY(2),
+                        calc1, getButtonY(6),
                         180, 20,
                         "gui.config.name.advanced.gui_messages",
                         () -> openScreen(
@@ -194,7 +259,7 @@ public class AdvancedSettingsGui extends ConfigurationGui<Advanced> {
         );
         itemMessagesButton = childFrame.addControl(
                 new ExtendedButtonControl(
-                        calc2, getButtonY(2),
+                        calc2, getButtonY(6),
                         180, 20,
                         "gui.config.name.advanced.item_messages",
                         () -> openScreen(
@@ -274,7 +339,7 @@ public class AdvancedSettingsGui extends ConfigurationGui<Advanced> {
         );
         entityTargetMessagesButton = childFrame.addControl(
                 new ExtendedButtonControl(
-                        calc1, getButtonY(3),
+                        calc1, getButtonY(7),
                         180, 20,
                         "gui.config.name.advanced.entity_target_messages",
                         () -> openScreen(
@@ -370,7 +435,7 @@ public class AdvancedSettingsGui extends ConfigurationGui<Advanced> {
         );
         entityRidingMessagesButton = childFrame.addControl(
                 new ExtendedButtonControl(
-                        calc2, getButtonY(3),
+                        calc2, getButtonY(7),
                         180, 20,
                         "gui.config.name.advanced.entity_riding_messages",
                         () -> openScreen(
@@ -467,7 +532,7 @@ public class AdvancedSettingsGui extends ConfigurationGui<Advanced> {
 
         enablePerGuiButton = childFrame.addControl(
                 new CheckBoxControl(
-                        calc1, getButtonY(4),
+                        calc1, getButtonY(8),
                         "gui.config.name.advanced.enable_per_gui",
                         getInstanceData().enablePerGui,
                         () -> getInstanceData().enablePerGui = enablePerGuiButton.isChecked(),
@@ -480,7 +545,7 @@ public class AdvancedSettingsGui extends ConfigurationGui<Advanced> {
         );
         enablePerItemButton = childFrame.addControl(
                 new CheckBoxControl(
-                        calc2, getButtonY(4),
+                        calc2, getButtonY(8),
                         "gui.config.name.advanced.enable_per_item",
                         getInstanceData().enablePerItem,
                         () -> getInstanceData().enablePerItem = enablePerItemButton.isChecked(),
@@ -493,7 +558,7 @@ public class AdvancedSettingsGui extends ConfigurationGui<Advanced> {
         );
         enablePerEntityButton = childFrame.addControl(
                 new CheckBoxControl(
-                        calc1, getButtonY(5, -10),
+                        calc1, getButtonY(9, -10),
                         "gui.config.name.advanced.enable_per_entity",
                         getInstanceData().enablePerEntity,
                         () -> getInstanceData().enablePerEntity = enablePerEntityButton.isChecked(),
@@ -506,7 +571,7 @@ public class AdvancedSettingsGui extends ConfigurationGui<Advanced> {
         );
         debugModeButton = childFrame.addControl(
                 new CheckBoxControl(
-                        calc2, getButtonY(5, -10),
+                        calc2, getButtonY(9, -10),
                         "gui.config.name.advanced.debug_mode",
                         getInstanceData().debugMode,
                         () -> getInstanceData().debugMode = debugModeButton.isChecked(),
@@ -519,7 +584,7 @@ public class AdvancedSettingsGui extends ConfigurationGui<Advanced> {
         );
         formatWordsButton = childFrame.addControl(
                 new CheckBoxControl(
-                        calc1, getButtonY(6, -20),
+                        calc1, getButtonY(10, -20),
                         "gui.config.name.advanced.format_words",
                         getInstanceData().formatWords,
                         () -> getInstanceData().formatWords = formatWordsButton.isChecked(),
@@ -532,7 +597,7 @@ public class AdvancedSettingsGui extends ConfigurationGui<Advanced> {
         );
         verboseModeButton = childFrame.addControl(
                 new CheckBoxControl(
-                        calc2, getButtonY(6, -20),
+                        calc2, getButtonY(10, -20),
                         "gui.config.name.advanced.verbose_mode",
                         getInstanceData().verboseMode,
                         () -> getInstanceData().verboseMode = verboseModeButton.isChecked(),
@@ -545,7 +610,7 @@ public class AdvancedSettingsGui extends ConfigurationGui<Advanced> {
         );
         allowPlaceholderPreviewsButton = childFrame.addControl(
                 new CheckBoxControl(
-                        calc1, getButtonY(7, -30),
+                        calc1, getButtonY(11, -30),
                         "gui.config.name.advanced.allow_placeholder_previews",
                         getInstanceData().allowPlaceholderPreviews,
                         () -> getInstanceData().allowPlaceholderPreviews = allowPlaceholderPreviewsButton.isChecked(),
@@ -558,7 +623,7 @@ public class AdvancedSettingsGui extends ConfigurationGui<Advanced> {
         );
         allowEndpointIconsButton = childFrame.addControl(
                 new CheckBoxControl(
-                        calc2, getButtonY(7, -30),
+                        calc2, getButtonY(11, -30),
                         "gui.config.name.advanced.allow_endpoint_icons",
                         getInstanceData().allowEndpointIcons,
                         () -> getInstanceData().allowEndpointIcons = allowEndpointIconsButton.isChecked(),
@@ -571,7 +636,7 @@ public class AdvancedSettingsGui extends ConfigurationGui<Advanced> {
         );
         allowDuplicatePacketsButton = childFrame.addControl(
                 new CheckBoxControl(
-                        calc1, getButtonY(8, -40),
+                        calc1, getButtonY(12, -40),
                         "gui.config.name.advanced.allow_duplicate_packets",
                         getInstanceData().allowDuplicatePackets,
                         () -> getInstanceData().allowDuplicatePackets = allowDuplicatePacketsButton.isChecked(),
@@ -584,7 +649,7 @@ public class AdvancedSettingsGui extends ConfigurationGui<Advanced> {
         );
         enableClassGraphButton = childFrame.addControl(
                 new CheckBoxControl(
-                        calc2, getButtonY(8, -40),
+                        calc2, getButtonY(12, -40),
                         "gui.config.name.advanced.enable_class_graph",
                         getInstanceData().enableClassGraph,
                         () -> getInstanceData().enableClassGraph = enableClassGraphButton.isChecked()//,
@@ -607,7 +672,7 @@ public class AdvancedSettingsGui extends ConfigurationGui<Advanced> {
 
         // Endpoint Section
         childFrame.addWidget(new ScrollableTextWidget(
-                calc1, getButtonY(7),
+                calc1, getButtonY(11),
                 childFrame.getScreenWidth(),
                 Constants.TRANSLATOR.translate("gui.config.message.endpoints")
         ));
@@ -615,7 +680,7 @@ public class AdvancedSettingsGui extends ConfigurationGui<Advanced> {
         playerSkinEndpoint = childFrame.addControl(
                 new TextWidget(
                         getFontRenderer(),
-                        getButtonY(8),
+                        getButtonY(12),
                         180, 20,
                         () -> getInstanceData().playerSkinEndpoint = playerSkinEndpoint.getControlMessage(),
                         "gui.config.name.advanced.player_skin_endpoint",
@@ -631,7 +696,7 @@ public class AdvancedSettingsGui extends ConfigurationGui<Advanced> {
         serverIconEndpoint = childFrame.addControl(
                 new TextWidget(
                         getFontRenderer(),
-                        getButtonY(9),
+                        getButtonY(13),
                         180, 20,
                         () -> getInstanceData().serverIconEndpoint = serverIconEndpoint.getControlMessage(),
                         "gui.config.name.advanced.server_icon_endpoint",
@@ -655,8 +720,16 @@ public class AdvancedSettingsGui extends ConfigurationGui<Advanced> {
         super.syncRenderStates();
 
         final Pair<Boolean, Integer> refreshRateData = StringUtils.getValidInteger(refreshRate.getControlMessage());
+        final Pair<Boolean, Integer> sendIntervalData = StringUtils.getValidInteger(presenceSendInterval.getControlMessage());
+        final Pair<Boolean, Integer> cachedImagesData = StringUtils.getValidInteger(maxCachedImages.getControlMessage());
+        final Pair<Boolean, Integer> imageCacheSizeData = StringUtils.getValidInteger(maxImageCacheSize.getControlMessage());
+        final Pair<Boolean, Integer> animatedImageSizeData = StringUtils.getValidInteger(maxAnimatedImageSize.getControlMessage());
         proceedButton.setControlEnabled(
-                (refreshRateData.getFirst() && refreshRateData.getSecond() >= ScheduleUtils.MINIMUM_REFRESH_RATE)
+                (refreshRateData.getFirst() && refreshRateData.getSecond() >= ScheduleUtils.MINIMUM_REFRESH_RATE) &&
+                        (sendIntervalData.getFirst() && sendIntervalData.getSecond() >= 0) &&
+                        (cachedImagesData.getFirst() && cachedImagesData.getSecond() > 0) &&
+                        (imageCacheSizeData.getFirst() && imageCacheSizeData.getSecond() > 0) &&
+                        (animatedImageSizeData.getFirst() && animatedImageSizeData.getSecond() > 0)
         );
 
         guiMessagesButton.setControlEnabled(CraftPresence.GUIS.enabled);
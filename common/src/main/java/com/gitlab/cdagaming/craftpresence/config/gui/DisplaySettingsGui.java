@@ -113,24 +113,12 @@ public class DisplaySettingsGui extends ConfigurationGui<Display> {
                                                                         .setName(attributeName)
                                                                         .setUrl(inputText)
                                                                         .setType(DiscordAsset.AssetType.CUSTOM);
-                                                                if (!DiscordAssetUtils.CUSTOM_ASSET_LIST.containsKey(asset.getName())) {
-                                                                    DiscordAssetUtils.CUSTOM_ASSET_LIST.put(asset.getName(), asset);
-                                                                }
-                                                                // If a Discord Icon exists with the same name, give priority to the custom one
-                                                                // Unless the icon is the default template, in which we don't add it at all
-                                                                if (!asset.getName().equalsIgnoreCase("default")) {
-                                                                    DiscordAssetUtils.ASSET_LIST.put(asset.getName(), asset);
-                                                                }
+                                                                DiscordAssetUtils.putCustomAsset(asset);
                                                             },
                                                             (screenInstance, attributeName, inputText) -> {
                                                                 // Event to occur when removing set data
                                                                 getInstanceData().dynamicIcons.remove(attributeName);
-                                                                if (DiscordAssetUtils.CUSTOM_ASSET_LIST.containsKey(attributeName)) {
-                                                                    DiscordAssetUtils.CUSTOM_ASSET_LIST.remove(attributeName);
-                                                                    if (!attributeName.equalsIgnoreCase("default")) {
-                                                                        DiscordAssetUtils.ASSET_LIST.remove(attributeName);
-                                                                    }
-                                                                }
+                                                                DiscordAssetUtils.removeCustomAsset(attributeName);
                                                             }, null,
                                                             (attributeName, screenInstance) -> {
                                                                 // Event to occur when Hovering over Primary Label
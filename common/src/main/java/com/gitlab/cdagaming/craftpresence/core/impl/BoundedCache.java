@@ -0,0 +1,358 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.core.impl;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * A Size-Limited Cache, evicting the Least Recently Used entries once its capacity is exceeded
+ * <p>Capacity can be limited by both the amount of entries and their combined weight
+ * <p>Pinned entries are never evicted, allowing the cache to temporarily exceed its capacity
+ *
+ * @param <K> The type of the keys being stored
+ * @param <V> The type of the values being stored
+ * @author CDAGaming
+ */
+public class BoundedCache<K, V> {
+    /**
+     * The underlying access-ordered data mapping for this cache
+     */
+    private final LinkedHashMap<K, V> data = new LinkedHashMap<>(16, 0.75f, true);
+    /**
+     * The last calculated weight for each entry, if a weigher is present
+     */
+    private final Map<K, Long> weights = new HashMap<>();
+    /**
+     * The function used to calculate the weight of an entry, if any
+     */
+    private final ToLongFunction<V> weigher;
+    /**
+     * The action to perform once an entry leaves this cache, if any
+     */
+    private final BiConsumer<K, V> removalListener;
+    /**
+     * The function used to determine whether an entry is pinned, and may not be evicted, if any
+     */
+    private final BiPredicate<K, V> pinFilter;
+    /**
+     * The maximum amount of entries this cache may retain
+     */
+    private int maxSize;
+    /**
+     * The maximum combined weight of the entries this cache may retain
+     */
+    private long maxWeight;
+    /**
+     * The combined weight of the entries currently within this cache
+     */
+    private long totalWeight;
+    /**
+     * The amount of successful lookups performed on this cache
+     */
+    private long hits;
+    /**
+     * The amount of unsuccessful lookups performed on this cache
+     */
+    private long misses;
+    /**
+     * The amount of entries that have been evicted from this cache
+     */
+    private long evictions;
+
+    /**
+     * Initializes a new Bounded Cache
+     *
+     * @param maxSize         The maximum amount of entries this cache may retain
+     * @param maxWeight       The maximum combined weight of the entries this cache may retain
+     * @param weigher         The function used to calculate the weight of an entry, if any
+     * @param removalListener The action to perform once an entry leaves this cache, if any
+     * @param pinFilter       The function used to determine whether an entry may not be evicted, if any
+     */
+    public BoundedCache(final int maxSize, final long maxWeight, final ToLongFunction<V> weigher, final BiConsumer<K, V> removalListener, final BiPredicate<K, V> pinFilter) {
+        this.maxSize = Math.max(1, maxSize);
+        this.maxWeight = Math.max(0, maxWeight);
+        this.weigher = weigher;
+        this.removalListener = removalListener;
+        this.pinFilter = pinFilter;
+    }
+
+    /**
+     * Initializes a new Bounded Cache
+     *
+     * @param maxSize         The maximum amount of entries this cache may retain
+     * @param maxWeight       The maximum combined weight of the entries this cache may retain
+     * @param weigher         The function used to calculate the weight of an entry, if any
+     * @param removalListener The action to perform once an entry leaves this cache, if any
+     */
+    public BoundedCache(final int maxSize, final long maxWeight, final ToLongFunction<V> weigher, final BiConsumer<K, V> removalListener) {
+        this(maxSize, maxWeight, weigher, removalListener, null);
+    }
+
+    /**
+     * Initializes a new Bounded Cache
+     *
+     * @param maxSize The maximum amount of entries this cache may retain
+     */
+    public BoundedCache(final int maxSize) {
+        this(maxSize, Long.MAX_VALUE, null, null);
+    }
+
+    /**
+     * Retrieve the value attached to the specified key, if present
+     *
+     * @param key The key to interpret
+     * @return the attached value, or null if not present
+     */
+    public synchronized V get(final K key) {
+        final V result = data.get(key);
+        if (result != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return result;
+    }
+
+    /**
+     * Retrieve the value attached to the specified key, if present, without counting towards the hit and miss statistics
+     *
+     * @param key The key to interpret
+     * @return the attached value, or null if not present
+     */
+    public synchronized V peek(final K key) {
+        return data.get(key);
+    }
+
+    /**
+     * Attach the specified value to the specified key, evicting older entries if needed
+     *
+     * @param key   The key to interpret
+     * @param value The value to attach
+     */
+    public synchronized void put(final K key, final V value) {
+        final V previous = data.put(key, value);
+        if (previous != null && previous != value) {
+            onRemoval(key, previous);
+        }
+        updateWeight(key, value);
+        trim();
+    }
+
+    /**
+     * Recalculate the weight of the value attached to the specified key, evicting older entries if needed
+     * <p>Should be called whenever a value has been modified in a way that changes its weight
+     *
+     * @param key The key to interpret
+     */
+    public synchronized void reweigh(final K key) {
+        final V value = data.get(key);
+        if (value != null) {
+            updateWeight(key, value);
+            trim();
+        }
+    }
+
+    /**
+     * Remove the value attached to the specified key, if present
+     *
+     * @param key The key to interpret
+     * @return the previously attached value, or null if not present
+     */
+    public synchronized V remove(final K key) {
+        final V result = data.remove(key);
+        if (result != null) {
+            totalWeight -= getWeight(key);
+            weights.remove(key);
+            onRemoval(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Remove all entries from this cache
+     */
+    public synchronized void clear() {
+        if (removalListener != null) {
+            for (Map.Entry<K, V> entry : data.entrySet()) {
+                removalListener.accept(entry.getKey(), entry.getValue());
+            }
+        }
+        data.clear();
+        weights.clear();
+        totalWeight = 0;
+    }
+
+    /**
+     * Retrieve the amount of entries currently within this cache
+     *
+     * @return the current entry count
+     */
+    public synchronized int size() {
+        return data.size();
+    }
+
+    /**
+     * Retrieve the maximum amount of entries this cache may retain
+     *
+     * @return the maximum entry count
+     */
+    public synchronized int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Sets the maximum amount of entries this cache may retain
+     * <p>Excess entries are evicted immediately
+     *
+     * @param maxSize The new maximum entry count
+     */
+    public synchronized void setMaxSize(final int maxSize) {
+        this.maxSize = Math.max(1, maxSize);
+        trim();
+    }
+
+    /**
+     * Retrieve the combined weight of the entries currently within this cache
+     *
+     * @return the current combined weight
+     */
+    public synchronized long getTotalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * Retrieve the maximum combined weight of the entries this cache may retain
+     *
+     * @return the maximum combined weight
+     */
+    public synchronized long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * Sets the maximum combined weight of the entries this cache may retain
+     * <p>Excess entries are evicted immediately
+     *
+     * @param maxWeight The new maximum combined weight
+     */
+    public synchronized void setMaxWeight(final long maxWeight) {
+        this.maxWeight = Math.max(0, maxWeight);
+        trim();
+    }
+
+    /**
+     * Retrieve the amount of successful lookups performed on this cache
+     *
+     * @return the current hit count
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Retrieve the amount of unsuccessful lookups performed on this cache
+     *
+     * @return the current miss count
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Retrieve the amount of entries that have been evicted from this cache
+     *
+     * @return the current eviction count
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Retrieve the last calculated weight for the specified key
+     *
+     * @param key The key to interpret
+     * @return the last calculated weight, or zero if not present
+     */
+    private long getWeight(final K key) {
+        final Long result = weights.get(key);
+        return result != null ? result : 0L;
+    }
+
+    /**
+     * Recalculate the weight for the specified entry, if a weigher is present
+     *
+     * @param key   The key to interpret
+     * @param value The value attached to the key
+     */
+    private void updateWeight(final K key, final V value) {
+        if (weigher != null) {
+            final long weight = Math.max(0, weigher.applyAsLong(value));
+            totalWeight += weight - getWeight(key);
+            weights.put(key, weight);
+        }
+    }
+
+    /**
+     * Evict the Least Recently Used entries, until this cache is within its capacity
+     * <p>The most recently used entry and any pinned entries are always retained,
+     * even if they alone exceed the maximum size or weight
+     */
+    private void trim() {
+        final Iterator<Map.Entry<K, V>> iterator = data.entrySet().iterator();
+        while ((data.size() > maxSize || totalWeight > maxWeight) && iterator.hasNext()) {
+            final Map.Entry<K, V> eldest = iterator.next();
+            if (!iterator.hasNext()) {
+                break;
+            }
+            if (pinFilter != null && pinFilter.test(eldest.getKey(), eldest.getValue())) {
+                continue;
+            }
+            iterator.remove();
+            totalWeight -= getWeight(eldest.getKey());
+            weights.remove(eldest.getKey());
+            evictions++;
+            onRemoval(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    /**
+     * Perform the removal action for the specified entry, if any
+     *
+     * @param key   The key that was removed
+     * @param value The value that was removed
+     */
+    private void onRemoval(final K key, final V value) {
+        if (removalListener != null) {
+            removalListener.accept(key, value);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.core.impl;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+/**
+ * An {@link Executor} wrapper, limiting how many tasks sharing the same key may run at once
+ * <p>Tasks over the limit are queued per-key, rather than occupying a thread while waiting
+ *
+ * @author CDAGaming
+ */
+public class LimitedExecutor implements Executor {
+    /**
+     * The underlying executor to run tasks on
+     */
+    private final Executor executor;
+    /**
+     * The maximum amount of tasks sharing the same key that may run at once
+     */
+    private final int maxPerKey;
+    /**
+     * The amount of tasks currently running for each key
+     */
+    private final Map<String, Integer> activeTasks = new HashMap<>();
+    /**
+     * The tasks awaiting their turn for each key
+     */
+    private final Map<String, Queue<Runnable>> pendingTasks = new HashMap<>();
+
+    /**
+     * Initializes a new Limited Executor
+     *
+     * @param executor  The underlying executor to run tasks on
+     * @param maxPerKey The maximum amount of tasks sharing the same key that may run at once
+     */
+    public LimitedExecutor(final Executor executor, final int maxPerKey) {
+        this.executor = executor;
+        this.maxPerKey = Math.max(1, maxPerKey);
+    }
+
+    /**
+     * Run the specified task, once fewer than the maximum amount of tasks with the same key are running
+     *
+     * @param key  The key to limit the task by, or null to run without limits
+     * @param task The task to run
+     */
+    public void execute(final String key, final Runnable task) {
+        if (key == null) {
+            executor.execute(task);
+            return;
+        }
+
+        synchronized (this) {
+            final int active = activeTasks.getOrDefault(key, 0);
+            if (active >= maxPerKey) {
+                pendingTasks.computeIfAbsent(key, k -> new ArrayDeque<>()).add(task);
+                return;
+            }
+            activeTasks.put(key, active + 1);
+        }
+        submit(key, task);
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        execute(null, task);
+    }
+
+    /**
+     * Run the specified task on the underlying executor, starting the next pending task for its key afterwards
+     *
+     * @param key  The key the task is limited by
+     * @param task The task to run
+     */
+    private void submit(final String key, final Runnable task) {
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    next(key);
+                }
+            });
+        } catch (RuntimeException ex) {
+            next(key);
+            throw ex;
+        }
+    }
+
+    /**
+     * Start the next pending task for the specified key, or release its slot if none are pending
+     *
+     * @param key The key to interpret
+     */
+    private void next(final String key) {
+        final Runnable task;
+        synchronized (this) {
+            final Queue<Runnable> queue = pendingTasks.get(key);
+            task = queue != null ? queue.poll() : null;
+            if (task == null) {
+                pendingTasks.remove(key);
+                final int active = activeTasks.getOrDefault(key, 1) - 1;
+                if (active > 0) {
+                    activeTasks.put(key, active);
+                } else {
+                    activeTasks.remove(key);
+                }
+                return;
+            }
+        }
+        submit(key, task);
+    }
+}
@@ -26,6 +26,8 @@ package com.gitlab.cdagaming.craftpresence.core.impl;
 
 import com.gitlab.cdagaming.craftpresence.core.Constants;
 
+import java.util.Set;
+
 /**
  * Module Section defining properties to be used for Rich Presence Displays
  *
@@ -47,6 +49,57 @@ public interface Module {
      */
     void onTick();
 
+    /**
+     * Retrieve the {@link ModuleEvent} types that this module reacts to
+     * <p>
+     * Modules are ticked once a relevant event occurs, and are otherwise polled on an adaptive interval
+     * between {@link Module#getPollInterval()} and {@link Module#getMaxPollInterval()}
+     * <p>
+     * Modules that return null react to no events, and are only ticked by this polling
+     *
+     * @return the event types this module reacts to, or null to rely on polling alone
+     */
+    default Set<ModuleEvent> getEventTypes() {
+        return null;
+    }
+
+    /**
+     * Retrieve the minimum amount of ticks between polling this module
+     * <p>
+     * Used as the polling interval while this module's data is frequently changing
+     *
+     * @return the minimum polling interval, in ticks
+     */
+    default int getPollInterval() {
+        return 1;
+    }
+
+    /**
+     * Retrieve the maximum amount of ticks between polling this module
+     * <p>
+     * The polling interval backs off towards this value while this module's data is unchanged
+     *
+     * @return the maximum polling interval, in ticks
+     */
+    default int getMaxPollInterval() {
+        return getPollInterval();
+    }
+
+    /**
+     * Whether this module can be ticked concurrently with other modules
+     * <p>
+     * Only applicable to modules that read game state, and write data solely through placeholder updates
+     * <p>
+     * While a concurrent tick is in flight, the fields written by {@link Module#onTick()} are owned by its worker thread;
+     * State that is also read or changed by other threads, such as scan flags, name registries and mappings,
+     * must be volatile or thread-safe, and any other shared data must only be changed through placeholder updates
+     *
+     * @return {@link Boolean#TRUE} if this module can be ticked concurrently
+     */
+    default boolean canRunConcurrently() {
+        return false;
+    }
+
     /**
      * Synchronizes Data related to this module, if needed
      */
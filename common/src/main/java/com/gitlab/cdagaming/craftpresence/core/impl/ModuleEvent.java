@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.core.impl;
+
+/**
+ * The types of game state changes that a {@link Module} is able to react to
+ *
+ * @author CDAGaming
+ */
+public enum ModuleEvent {
+    /**
+     * The current player has joined, left, or been replaced
+     */
+    PLAYER_CHANGE,
+    /**
+     * The current screen has been opened, closed, or replaced
+     */
+    SCREEN_CHANGE,
+    /**
+     * The player has moved to a different world or dimension
+     */
+    DIMENSION_CHANGE,
+    /**
+     * The player has moved to a different block column
+     */
+    POSITION_CHANGE,
+    /**
+     * The targeted or ridden entity has changed
+     */
+    TARGET_CHANGE,
+    /**
+     * The held items or worn armor have changed
+     */
+    HELD_ITEM_CHANGE,
+    /**
+     * The current server, connection, or player count has changed
+     */
+    SERVER_CHANGE
+}
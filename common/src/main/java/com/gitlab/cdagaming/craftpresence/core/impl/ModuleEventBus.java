@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.core.impl;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A Collection Point for {@link ModuleEvent} data, to be consumed once per tick
+ * <p>Events may be posted from any thread, including loader-specific event hooks,
+ * and are merged until the next call to {@link ModuleEventBus#poll()}
+ *
+ * @author CDAGaming
+ */
+public class ModuleEventBus {
+    /**
+     * All available event types
+     */
+    private static final ModuleEvent[] EVENT_TYPES = ModuleEvent.values();
+    /**
+     * The pending events, stored as a bitmask of {@link ModuleEvent} ordinals
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+    /**
+     * The events posted directly by the mod loader, stored as a bitmask of {@link ModuleEvent} ordinals
+     */
+    private volatile int provided = 0;
+
+    /**
+     * Post the specified event, to be processed on the next tick
+     *
+     * @param event The event to post
+     */
+    public void post(final ModuleEvent event) {
+        final int flag = 1 << event.ordinal();
+        pending.getAndUpdate(mask -> mask | flag);
+    }
+
+    /**
+     * Flag the specified events as posted directly by the mod loader,
+     * so that they no longer need to be detected by comparing game states
+     *
+     * @param events The events to interpret
+     */
+    public void setProvided(final ModuleEvent... events) {
+        int mask = 0;
+        for (ModuleEvent event : events) {
+            mask |= 1 << event.ordinal();
+        }
+        provided = mask;
+    }
+
+    /**
+     * Whether the specified event is posted directly by the mod loader
+     *
+     * @param event The event to interpret
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean isProvided(final ModuleEvent event) {
+        return (provided & (1 << event.ordinal())) != 0;
+    }
+
+    /**
+     * Whether any events are awaiting to be processed
+     *
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean hasPending() {
+        return pending.get() != 0;
+    }
+
+    /**
+     * Retrieve and clear the pending events
+     *
+     * @return the events posted since this method was last called
+     */
+    public Set<ModuleEvent> poll() {
+        final int mask = pending.getAndSet(0);
+        final Set<ModuleEvent> result = EnumSet.noneOf(ModuleEvent.class);
+        if (mask != 0) {
+            for (ModuleEvent event : EVENT_TYPES) {
+                if ((mask & (1 << event.ordinal())) != 0) {
+                    result.add(event);
+                }
+            }
+        }
+        return result;
+    }
+}
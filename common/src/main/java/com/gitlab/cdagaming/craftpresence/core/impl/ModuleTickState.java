@@ -0,0 +1,215 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.core.impl;
+
+/**
+ * The Adaptive Polling State and Timing Statistics for a {@link Module}
+ * <p>
+ * The polling interval starts at the module's minimum, doubles after each tick that
+ * produced no changes (up to the module's maximum), and returns to the minimum once
+ * a change is detected
+ *
+ * @author CDAGaming
+ */
+public class ModuleTickState {
+    /**
+     * The minimum amount of ticks between polls
+     */
+    private int minInterval;
+    /**
+     * The maximum amount of ticks between polls
+     */
+    private int maxInterval;
+    /**
+     * The current amount of ticks between polls
+     */
+    private int interval;
+    /**
+     * The amount of ticks remaining until the next poll
+     */
+    private int ticksUntilDue;
+    /**
+     * The amount of times the module has been ticked
+     */
+    private long tickCount;
+    /**
+     * The amount of times the module was skipped, as it was not due
+     */
+    private long skipCount;
+    /**
+     * The amount of ticks that resulted in a change
+     */
+    private long changeCount;
+    /**
+     * The total time spent ticking the module, in nanoseconds
+     */
+    private long totalTime;
+    /**
+     * The longest time spent on a single tick, in nanoseconds
+     */
+    private long maxTime;
+    /**
+     * The time spent on the most recent tick, in nanoseconds
+     */
+    private long lastTime;
+
+    /**
+     * Initializes a new Tick State
+     *
+     * @param minInterval The minimum amount of ticks between polls
+     * @param maxInterval The maximum amount of ticks between polls
+     */
+    public ModuleTickState(final int minInterval, final int maxInterval) {
+        setIntervals(minInterval, maxInterval);
+        this.interval = this.minInterval;
+        this.ticksUntilDue = 0;
+    }
+
+    /**
+     * Set the polling interval bounds, in ticks
+     *
+     * @param minInterval The minimum amount of ticks between polls
+     * @param maxInterval The maximum amount of ticks between polls
+     */
+    public synchronized void setIntervals(final int minInterval, final int maxInterval) {
+        this.minInterval = Math.max(1, minInterval);
+        this.maxInterval = Math.max(this.minInterval, maxInterval);
+        this.interval = Math.min(Math.max(interval, this.minInterval), this.maxInterval);
+    }
+
+    /**
+     * Advance this state by one tick
+     *
+     * @return {@link Boolean#TRUE} if the module is due to be polled
+     */
+    public synchronized boolean advance() {
+        if (ticksUntilDue > 0) {
+            ticksUntilDue--;
+        }
+        return ticksUntilDue <= 0;
+    }
+
+    /**
+     * Record that the module was not ticked during this tick
+     */
+    public synchronized void skip() {
+        skipCount++;
+    }
+
+    /**
+     * Record the result of ticking the module, and schedule the next poll
+     *
+     * @param elapsedTime The time spent ticking the module, in nanoseconds
+     * @param changed     Whether the tick resulted in a change
+     */
+    public synchronized void record(final long elapsedTime, final boolean changed) {
+        tickCount++;
+        totalTime += elapsedTime;
+        lastTime = elapsedTime;
+        if (elapsedTime > maxTime) {
+            maxTime = elapsedTime;
+        }
+
+        if (changed) {
+            changeCount++;
+            interval = minInterval;
+        } else if (interval < maxInterval) {
+            interval = Math.min(maxInterval, interval * 2);
+        }
+        ticksUntilDue = interval;
+    }
+
+    /**
+     * Retrieve the current amount of ticks between polls
+     *
+     * @return the current polling interval
+     */
+    public synchronized int getInterval() {
+        return interval;
+    }
+
+    /**
+     * Retrieve the amount of times the module has been ticked
+     *
+     * @return the tick count
+     */
+    public synchronized long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Retrieve the amount of times the module was skipped, as it was not due
+     *
+     * @return the skip count
+     */
+    public synchronized long getSkipCount() {
+        return skipCount;
+    }
+
+    /**
+     * Retrieve the amount of ticks that resulted in a change
+     *
+     * @return the change count
+     */
+    public synchronized long getChangeCount() {
+        return changeCount;
+    }
+
+    /**
+     * Retrieve the total time spent ticking the module, in nanoseconds
+     *
+     * @return the total tick time
+     */
+    public synchronized long getTotalTime() {
+        return totalTime;
+    }
+
+    /**
+     * Retrieve the average time spent on a single tick, in nanoseconds
+     *
+     * @return the average tick time
+     */
+    public synchronized long getAverageTime() {
+        return tickCount > 0 ? totalTime / tickCount : 0;
+    }
+
+    /**
+     * Retrieve the longest time spent on a single tick, in nanoseconds
+     *
+     * @return the longest tick time
+     */
+    public synchronized long getMaxTime() {
+        return maxTime;
+    }
+
+    /**
+     * Retrieve the time spent on the most recent tick, in nanoseconds
+     *
+     * @return the most recent tick time
+     */
+    public synchronized long getLastTime() {
+        return lastTime;
+    }
+}
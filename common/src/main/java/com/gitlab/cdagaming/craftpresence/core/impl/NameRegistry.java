@@ -0,0 +1,310 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.core.impl;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * An Insertion-Ordered, Hash-Indexed List of unique entries, used for Module discovery data
+ * <p>Lookups, additions and removals are constant-time, and duplicate entries are ignored.
+ * <p>Reads are served from an immutable snapshot, rebuilt on the first read after a change,
+ * allowing the registry to be iterated from one thread while another appends to it.
+ * <p>Positional changes are also supported, though they rebuild the registry and are linear-time.
+ *
+ * @param <T> The type of the entries being stored
+ * @author CDAGaming
+ */
+public class NameRegistry<T> extends AbstractList<T> implements RandomAccess {
+    /**
+     * An empty snapshot, used before any entries are added
+     */
+    private static final Object[] EMPTY = new Object[0];
+    /**
+     * The underlying insertion-ordered entries for this registry
+     */
+    private final Set<T> entries = new LinkedHashSet<>();
+    /**
+     * The last published snapshot of this registry, or null if it requires a rebuild
+     */
+    private volatile Object[] snapshot = EMPTY;
+
+    /**
+     * Initializes a new, empty Name Registry
+     */
+    public NameRegistry() {
+    }
+
+    /**
+     * Initializes a new Name Registry, containing the specified entries
+     *
+     * @param source The entries to add
+     */
+    public NameRegistry(final Collection<? extends T> source) {
+        addAll(source);
+    }
+
+    /**
+     * Retrieve the current snapshot of this registry, rebuilding it if required
+     *
+     * @return the current snapshot of this registry
+     */
+    private Object[] getSnapshot() {
+        Object[] result = snapshot;
+        if (result == null) {
+            synchronized (entries) {
+                result = snapshot;
+                if (result == null) {
+                    snapshot = result = entries.toArray();
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds the specified entry to the end of this registry, if not already present
+     *
+     * @param entry The entry to add
+     * @return {@link Boolean#TRUE} if the entry was not already present
+     */
+    @Override
+    public boolean add(final T entry) {
+        synchronized (entries) {
+            if (entries.add(entry)) {
+                snapshot = null;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Adds the specified entries to the end of this registry, skipping any already present
+     *
+     * @param source The entries to add
+     * @return {@link Boolean#TRUE} if any entry was not already present
+     */
+    @Override
+    public boolean addAll(final Collection<? extends T> source) {
+        // Copy the source first, in case it is another registry being modified
+        final Object[] data = source instanceof NameRegistry ? ((NameRegistry<?>) source).getSnapshot() : source.toArray();
+        synchronized (entries) {
+            boolean changed = false;
+            for (Object entry : data) {
+                @SuppressWarnings("unchecked") final T value = (T) entry;
+                changed |= entries.add(value);
+            }
+            if (changed) {
+                snapshot = null;
+            }
+            return changed;
+        }
+    }
+
+    /**
+     * Inserts the specified entry at the specified position in this registry, if not already present
+     *
+     * @param index The position to insert the entry at
+     * @param entry The entry to insert
+     */
+    @Override
+    public void add(final int index, final T entry) {
+        synchronized (entries) {
+            if (index < 0 || index > entries.size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + entries.size());
+            }
+            if (!entries.contains(entry)) {
+                final List<T> data = new ArrayList<>(entries);
+                data.add(index, entry);
+                replaceEntries(data);
+            }
+        }
+    }
+
+    /**
+     * Replaces the entry at the specified position in this registry
+     * <p>If the new entry is already present elsewhere, the two entries swap positions,
+     * so that the size of this registry is unchanged, and in-place sorts keep every entry
+     *
+     * @param index The position of the entry to replace
+     * @param entry The entry to store at the specified position
+     * @return the entry previously at the specified position
+     */
+    @Override
+    public T set(final int index, final T entry) {
+        synchronized (entries) {
+            final List<T> data = new ArrayList<>(entries);
+            final T previous = data.get(index);
+            if (previous != null ? !previous.equals(entry) : entry != null) {
+                final int existingIndex = data.indexOf(entry);
+                data.set(index, entry);
+                if (existingIndex >= 0) {
+                    data.set(existingIndex, previous);
+                }
+                replaceEntries(data);
+            }
+            return previous;
+        }
+    }
+
+    /**
+     * Removes the entry at the specified position in this registry
+     *
+     * @param index The position of the entry to remove
+     * @return the removed entry
+     */
+    @Override
+    public T remove(final int index) {
+        synchronized (entries) {
+            final List<T> data = new ArrayList<>(entries);
+            final T previous = data.remove(index);
+            entries.remove(previous);
+            snapshot = null;
+            return previous;
+        }
+    }
+
+    /**
+     * Replace the entries of this registry with the specified entries, in order
+     * <p>Must be called while holding the lock on {@link NameRegistry#entries}
+     *
+     * @param data The new entries for this registry
+     */
+    private void replaceEntries(final List<T> data) {
+        entries.clear();
+        entries.addAll(data);
+        snapshot = null;
+    }
+
+    @Override
+    public boolean remove(final Object entry) {
+        synchronized (entries) {
+            if (entries.remove(entry)) {
+                snapshot = null;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    @Override
+    public boolean removeAll(final Collection<?> source) {
+        synchronized (entries) {
+            boolean changed = false;
+            for (Object entry : source.toArray()) {
+                changed |= entries.remove(entry);
+            }
+            if (changed) {
+                snapshot = null;
+            }
+            return changed;
+        }
+    }
+
+    @Override
+    public boolean retainAll(final Collection<?> source) {
+        synchronized (entries) {
+            if (entries.retainAll(source)) {
+                snapshot = null;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            snapshot = EMPTY;
+        }
+    }
+
+    @Override
+    public boolean contains(final Object entry) {
+        synchronized (entries) {
+            return entries.contains(entry);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(final int index) {
+        return (T) getSnapshot()[index];
+    }
+
+    @Override
+    public int size() {
+        return getSnapshot().length;
+    }
+
+    @Override
+    public Object[] toArray() {
+        final Object[] data = getSnapshot();
+        return Arrays.copyOf(data, data.length);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        final Object[] data = getSnapshot();
+        return new Iterator<T>() {
+            private int cursor = 0;
+            private int lastIndex = -1;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < data.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (cursor >= data.length) {
+                    throw new NoSuchElementException();
+                }
+                lastIndex = cursor++;
+                return (T) data[lastIndex];
+            }
+
+            @Override
+            public void remove() {
+                if (lastIndex < 0) {
+                    throw new IllegalStateException();
+                }
+                NameRegistry.this.remove(data[lastIndex]);
+                lastIndex = -1;
+            }
+        };
+    }
+}
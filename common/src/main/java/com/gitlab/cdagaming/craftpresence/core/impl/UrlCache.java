@@ -0,0 +1,499 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.core.impl;
+
+import com.gitlab.cdagaming.craftpresence.core.Constants;
+import io.github.cdagaming.unicore.impl.Pair;
+import io.github.cdagaming.unicore.utils.FileUtils;
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A Persistent, Content-Addressed Disk Cache for Url responses
+ * <p>Responses are served from disk while fresh, revalidated through conditional requests once expired,
+ * and served from disk when offline
+ * <p>Changes to the cache index are batched, and written to disk after {@link UrlCache#saveDelay}
+ *
+ * @author CDAGaming
+ */
+public class UrlCache {
+    /**
+     * The name of the file storing the cache index
+     */
+    private static final String INDEX_NAME = "index.json";
+    /**
+     * The default time, in milliseconds, to wait before writing changes to the cache index
+     */
+    private static final long DEFAULT_SAVE_DELAY = 5000L;
+    /**
+     * The default maximum size, in bytes, of a single response body
+     */
+    private static final int DEFAULT_MAX_BODY_SIZE = 16 * 1024 * 1024;
+    /**
+     * The directory storing the cached responses
+     */
+    private final File directory;
+    /**
+     * The maximum combined size, in bytes, of the cached responses
+     */
+    private final long maxSize;
+    /**
+     * The time, in milliseconds, to wait before writing changes to the cache index, or zero to write immediately
+     */
+    private final long saveDelay;
+    /**
+     * The maximum size, in bytes, of a single response body
+     */
+    private final int maxBodySize;
+    /**
+     * The metadata for each cached response
+     * <p>Format: url, entryData
+     */
+    private final Map<String, UrlCacheEntry> entries = StringUtils.newHashMap();
+    /**
+     * Whether the cache index has been read from disk
+     */
+    private boolean loaded = false;
+    /**
+     * Whether the cache index has changes that have not yet been written to disk
+     */
+    private boolean dirty = false;
+    /**
+     * Whether a write of the cache index is currently scheduled
+     */
+    private boolean saveScheduled = false;
+
+    /**
+     * Initializes a new Url Cache
+     *
+     * @param directory   The directory to store the cached responses in
+     * @param maxSize     The maximum combined size, in bytes, of the cached responses
+     * @param saveDelay   The time, in milliseconds, to wait before writing changes to the cache index, or zero to write immediately
+     * @param maxBodySize The maximum size, in bytes, of a single response body
+     */
+    public UrlCache(final File directory, final long maxSize, final long saveDelay, final int maxBodySize) {
+        this.directory = directory;
+        this.maxSize = Math.max(0, maxSize);
+        this.saveDelay = Math.max(0, saveDelay);
+        this.maxBodySize = Math.max(0, maxBodySize);
+    }
+
+    /**
+     * Initializes a new Url Cache
+     *
+     * @param directory The directory to store the cached responses in
+     * @param maxSize   The maximum combined size, in bytes, of the cached responses
+     * @param saveDelay The time, in milliseconds, to wait before writing changes to the cache index, or zero to write immediately
+     */
+    public UrlCache(final File directory, final long maxSize, final long saveDelay) {
+        this(directory, maxSize, saveDelay, DEFAULT_MAX_BODY_SIZE);
+    }
+
+    /**
+     * Initializes a new Url Cache
+     *
+     * @param directory The directory to store the cached responses in
+     * @param maxSize   The maximum combined size, in bytes, of the cached responses
+     */
+    public UrlCache(final File directory, final long maxSize) {
+        this(directory, maxSize, DEFAULT_SAVE_DELAY);
+    }
+
+    /**
+     * Open a stream to the specified {@link URL}, using the cached response when possible
+     * <p>Cached responses are used as-is while fresh, revalidated with the server once expired,
+     * and used as-is if the server cannot be reached
+     * <p>Responses marked with {@code Cache-Control: no-store} are never written to disk
+     *
+     * @param url            The url to open a stream for
+     * @param connectTimeout The time, in milliseconds, to wait for a connection to be established
+     * @param readTimeout    The time, in milliseconds, to wait for data to be received
+     * @param userAgent      The User Agent to identify as
+     * @return the resulting stream
+     * @throws IOException If the url cannot be reached, and no cached response is available,
+     *                     or if the response body exceeds {@link UrlCache#maxBodySize}
+     */
+    public InputStream getStream(final URL url, final int connectTimeout, final int readTimeout, final String userAgent) throws IOException {
+        final URLConnection connection = url.openConnection();
+        connection.setConnectTimeout(connectTimeout);
+        connection.setReadTimeout(readTimeout);
+        connection.setRequestProperty("User-Agent", userAgent);
+        if (!(connection instanceof HttpURLConnection)) {
+            return connection.getInputStream();
+        }
+
+        final String key = url.toString();
+        final UrlCacheEntry entry = getEntry(key);
+        final byte[] cachedData = entry != null ? read(entry) : null;
+        if (cachedData != null) {
+            if (System.currentTimeMillis() < entry.expires) {
+                return new ByteArrayInputStream(cachedData);
+            }
+            if (!StringUtils.isNullOrEmpty(entry.eTag)) {
+                connection.setRequestProperty("If-None-Match", entry.eTag);
+            }
+            if (!StringUtils.isNullOrEmpty(entry.lastModified)) {
+                connection.setRequestProperty("If-Modified-Since", entry.lastModified);
+            }
+        }
+
+        final HttpURLConnection httpConnection = (HttpURLConnection) connection;
+        try {
+            final int responseCode = httpConnection.getResponseCode();
+            if (responseCode == HttpURLConnection.HTTP_NOT_MODIFIED && cachedData != null) {
+                synchronized (this) {
+                    entry.expires = getExpiration(connection);
+                    entry.lastAccess = System.currentTimeMillis();
+                    scheduleSave();
+                }
+                return new ByteArrayInputStream(cachedData);
+            } else if (responseCode == HttpURLConnection.HTTP_OK) {
+                final byte[] data;
+                try (InputStream stream = connection.getInputStream()) {
+                    data = readAll(stream, maxBodySize);
+                }
+                if (isNoStore(connection)) {
+                    remove(key);
+                } else {
+                    store(key, data, connection);
+                }
+                return new ByteArrayInputStream(data);
+            } else if (cachedData != null) {
+                return new ByteArrayInputStream(cachedData);
+            }
+            throw new IOException("Unexpected response code " + responseCode + " for " + key);
+        } catch (IOException ex) {
+            if (cachedData != null) {
+                // Server unreachable, so fallback to the cached response
+                Constants.LOG.debugError(ex);
+                return new ByteArrayInputStream(cachedData);
+            }
+            throw ex;
+        } finally {
+            httpConnection.disconnect();
+        }
+    }
+
+    /**
+     * Retrieve the cached metadata for the specified url, if any
+     *
+     * @param key The url to interpret
+     * @return the cached metadata, or null if not present
+     */
+    private synchronized UrlCacheEntry getEntry(final String key) {
+        load();
+        return entries.get(key);
+    }
+
+    /**
+     * Read the cached response for the specified entry, if still present on disk
+     *
+     * @param entry The entry to interpret
+     * @return the cached response body, or null if unavailable
+     */
+    private byte[] read(final UrlCacheEntry entry) {
+        final File file = new File(directory, entry.hash);
+        try {
+            if (file.exists()) {
+                synchronized (this) {
+                    entry.lastAccess = System.currentTimeMillis();
+                }
+                return Files.readAllBytes(file.toPath());
+            }
+        } catch (Exception ex) {
+            Constants.LOG.debugError(ex);
+        }
+        return null;
+    }
+
+    /**
+     * Store the specified response, evicting the least recently used responses if over capacity
+     *
+     * @param key        The url the response was retrieved from
+     * @param data       The response body
+     * @param connection The connection the response was retrieved through
+     */
+    private void store(final String key, final byte[] data, final URLConnection connection) {
+        try {
+            final String hash = getHash(data);
+            final File file = new File(directory, hash);
+            if (!file.exists()) {
+                if (!directory.exists() && !directory.mkdirs()) {
+                    return;
+                }
+                final File tempFile = File.createTempFile(hash, ".tmp", directory);
+                Files.write(tempFile.toPath(), data);
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            synchronized (this) {
+                load();
+                final UrlCacheEntry entry = new UrlCacheEntry();
+                entry.url = key;
+                entry.hash = hash;
+                entry.eTag = connection.getHeaderField("ETag");
+                entry.lastModified = connection.getHeaderField("Last-Modified");
+                entry.expires = getExpiration(connection);
+                entry.size = data.length;
+                entry.lastAccess = System.currentTimeMillis();
+                final UrlCacheEntry previous = entries.put(key, entry);
+                if (previous != null) {
+                    deleteIfUnused(previous.hash);
+                }
+                trim();
+                scheduleSave();
+            }
+        } catch (Exception ex) {
+            Constants.LOG.debugError(ex);
+        }
+    }
+
+    /**
+     * Remove the stored response for the specified url, if any
+     *
+     * @param key The url to interpret
+     */
+    private synchronized void remove(final String key) {
+        load();
+        final UrlCacheEntry previous = entries.remove(key);
+        if (previous != null) {
+            deleteIfUnused(previous.hash);
+            scheduleSave();
+        }
+    }
+
+    /**
+     * Evict the least recently used responses, until this cache is within its capacity
+     */
+    private void trim() {
+        long totalSize = 0;
+        for (UrlCacheEntry entry : entries.values()) {
+            totalSize += entry.size;
+        }
+        if (totalSize <= maxSize) {
+            return;
+        }
+
+        final List<UrlCacheEntry> sortedEntries = new ArrayList<>(entries.values());
+        sortedEntries.sort(Comparator.comparingLong(entry -> entry.lastAccess));
+        for (UrlCacheEntry entry : sortedEntries) {
+            if (totalSize <= maxSize) {
+                break;
+            }
+            entries.remove(entry.url);
+            deleteIfUnused(entry.hash);
+            totalSize -= entry.size;
+        }
+    }
+
+    /**
+     * Delete the stored response body with the specified hash, if no remaining entries use it
+     *
+     * @param hash The content hash to interpret
+     */
+    private void deleteIfUnused(final String hash) {
+        for (UrlCacheEntry entry : entries.values()) {
+            if (entry.hash.equals(hash)) {
+                return;
+            }
+        }
+        final File file = new File(directory, hash);
+        if (file.exists() && !file.delete()) {
+            Constants.LOG.debugWarn(Constants.TRANSLATOR.translate("craftpresence.logger.warning.cache.delete", file.getAbsolutePath()));
+        }
+    }
+
+    /**
+     * Read the cache index from disk, if not already done
+     */
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+
+        final File indexFile = new File(directory, INDEX_NAME);
+        if (indexFile.exists()) {
+            try {
+                final UrlCacheEntry[] data = FileUtils.getJsonData(indexFile, UrlCacheEntry[].class);
+                if (data != null) {
+                    for (UrlCacheEntry entry : data) {
+                        if (entry != null && entry.url != null && entry.hash != null) {
+                            entries.put(entry.url, entry);
+                        }
+                    }
+                }
+            } catch (Exception ex) {
+                Constants.LOG.debugError(ex);
+            }
+        }
+    }
+
+    /**
+     * Mark the cache index as changed, scheduling it to be written to disk if not already scheduled
+     */
+    private void scheduleSave() {
+        dirty = true;
+        if (saveScheduled) {
+            return;
+        }
+        if (saveDelay <= 0) {
+            save();
+            return;
+        }
+
+        saveScheduled = true;
+        try {
+            Constants.getThreadPool().schedule(this::flush, saveDelay, TimeUnit.MILLISECONDS);
+        } catch (Exception ex) {
+            // Scheduler unavailable, such as while shutting down, so write immediately
+            Constants.LOG.debugError(ex);
+            saveScheduled = false;
+            save();
+        }
+    }
+
+    /**
+     * Write any pending changes to the cache index to disk
+     */
+    public synchronized void flush() {
+        saveScheduled = false;
+        if (dirty) {
+            save();
+        }
+    }
+
+    /**
+     * Write the cache index to disk
+     */
+    private void save() {
+        dirty = false;
+        if (directory.exists() || directory.mkdirs()) {
+            FileUtils.writeJsonData(
+                    entries.values().toArray(new UrlCacheEntry[0]),
+                    new File(directory, INDEX_NAME), "UTF-8"
+            );
+        }
+    }
+
+    /**
+     * Retrieve the time, in milliseconds, that the response from the specified connection stays fresh until
+     * <p>The {@code Cache-Control} header takes priority over the {@code Expires} header, if present
+     *
+     * @param connection The connection the response was retrieved through
+     * @return the expiration timestamp, or zero if the response must always be revalidated
+     */
+    static long getExpiration(final URLConnection connection) {
+        final String cacheControl = connection.getHeaderField("Cache-Control");
+        if (!StringUtils.isNullOrEmpty(cacheControl)) {
+            long maxAge = -1;
+            for (String directive : cacheControl.split(",")) {
+                final String part = directive.trim().toLowerCase();
+                if (part.equals("no-cache") || part.equals("no-store")) {
+                    return 0;
+                } else if (part.startsWith("max-age=")) {
+                    final Pair<Boolean, Long> maxAgeData = StringUtils.getValidLong(part.substring(8).replace("\"", "").trim());
+                    if (maxAgeData.getFirst()) {
+                        maxAge = maxAgeData.getSecond();
+                    }
+                }
+            }
+            if (maxAge >= 0) {
+                return System.currentTimeMillis() + (maxAge * 1000L);
+            }
+        }
+        return connection.getExpiration();
+    }
+
+    /**
+     * Whether the response from the specified connection must not be stored
+     *
+     * @param connection The connection the response was retrieved through
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    static boolean isNoStore(final URLConnection connection) {
+        final String cacheControl = connection.getHeaderField("Cache-Control");
+        if (!StringUtils.isNullOrEmpty(cacheControl)) {
+            for (String directive : cacheControl.split(",")) {
+                if (directive.trim().equalsIgnoreCase("no-store")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Calculate the content hash for the specified data
+     *
+     * @param data The data to interpret
+     * @return the hexadecimal SHA-256 hash of the data
+     * @throws Exception If an error occurs during operation
+     */
+    private static String getHash(final byte[] data) throws Exception {
+        final StringBuilder result = new StringBuilder();
+        for (byte part : MessageDigest.getInstance("SHA-256").digest(data)) {
+            result.append(String.format("%02x", part));
+        }
+        return result.toString();
+    }
+
+    /**
+     * Read the remaining data from the specified stream
+     *
+     * @param stream  The stream to interpret
+     * @param maxSize The maximum amount of data, in bytes, to read
+     * @return the remaining data
+     * @throws IOException If an error occurs during operation, or if the data exceeds the maximum size
+     */
+    private static byte[] readAll(final InputStream stream, final int maxSize) throws IOException {
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        int length;
+        while ((length = stream.read(buffer)) != -1) {
+            if (result.size() + length > maxSize) {
+                throw new IOException("Response body exceeds the maximum size of " + maxSize + " bytes");
+            }
+            result.write(buffer, 0, length);
+        }
+        return result.toByteArray();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.core.impl;
+
+/**
+ * Metadata for a Url response stored within a {@link UrlCache}
+ *
+ * @author CDAGaming
+ */
+public class UrlCacheEntry {
+    /**
+     * The url this response was retrieved from
+     */
+    public String url;
+    /**
+     * The content hash of the response body, used as its file name
+     */
+    public String hash;
+    /**
+     * The ETag header of the response, if any
+     */
+    public String eTag;
+    /**
+     * The Last-Modified header of the response, if any
+     */
+    public String lastModified;
+    /**
+     * The time, in milliseconds, until which this response can be used without revalidation
+     */
+    public long expires;
+    /**
+     * The size, in bytes, of the response body
+     */
+    public long size;
+    /**
+     * The time, in milliseconds, this response was last used
+     */
+    public long lastAccess;
+}
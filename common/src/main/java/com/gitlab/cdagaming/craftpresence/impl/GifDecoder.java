@@ -0,0 +1,445 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.impl;
+
+import com.gitlab.cdagaming.craftpresence.core.Constants;
+import io.github.cdagaming.unicore.utils.StringUtils;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * A Streaming Decoder for Animated GIF Data
+ * <p>Frames are composed on demand from the underlying {@link ImageReader},
+ * with only a small ring buffer of composed frames being retained
+ *
+ * @author CDAGaming
+ */
+public class GifDecoder {
+    /**
+     * The amount of composed frames to retain at once
+     */
+    private static final int BUFFER_SIZE = 4;
+    /**
+     * The reader used to decode the raw frame data
+     */
+    private final ImageReader reader;
+    /**
+     * The lazily decoded frames for this image
+     */
+    private final List<ImageFrame> frames = StringUtils.newArrayList();
+    /**
+     * The horizontal and vertical positions of each frame within the canvas
+     */
+    private final int[][] positions;
+    /**
+     * The composed frames currently being retained
+     */
+    private final BufferedImage[] buffer = new BufferedImage[BUFFER_SIZE];
+    /**
+     * The frame index for each composed frame being retained, or -1 if empty
+     */
+    private final int[] bufferIndex = new int[BUFFER_SIZE];
+    /**
+     * The width of the canvas frames are composed onto
+     */
+    private final int canvasWidth;
+    /**
+     * The height of the canvas frames are composed onto
+     */
+    private final int canvasHeight;
+    /**
+     * The width of the frames produced by this decoder
+     */
+    private final int width;
+    /**
+     * The height of the frames produced by this decoder
+     */
+    private final int height;
+    /**
+     * The background color for this image, if any
+     */
+    private final Color backgroundColor;
+    /**
+     * Whether any frame restores the canvas to a previous frame, once displayed
+     */
+    private final boolean usesPreviousFrames;
+    /**
+     * The canvas that frames are being composed onto
+     */
+    private BufferedImage master;
+    /**
+     * The canvas from the last frame that did not restore to a previous frame, if needed
+     */
+    private BufferedImage previousMaster;
+    /**
+     * Whether the first frame covers the entire canvas
+     */
+    private boolean hasBackground = false;
+    /**
+     * Whether this decoder has been disposed, and can no longer decode frames
+     */
+    private boolean disposed = false;
+    /**
+     * The index of the next frame to be composed
+     */
+    private int nextIndex = 0;
+    /**
+     * The horizontal position of the last composed frame
+     */
+    private int lastX = 0;
+    /**
+     * The vertical position of the last composed frame
+     */
+    private int lastY = 0;
+
+    /**
+     * Initializes a new GIF Decoder, reading the frame metadata from the specified data
+     *
+     * @param data      The raw GIF data to be interpreted
+     * @param maxWidth  The maximum width for produced frames, or -1 to use the original width
+     * @param maxHeight The maximum height for produced frames, or -1 to use the original height
+     * @throws IOException If an error occurs during operation
+     */
+    public GifDecoder(final byte[] data, final int maxWidth, final int maxHeight) throws IOException {
+        reader = ImageIO.getImageReadersByFormatName("gif").next();
+        boolean success = false;
+        try {
+            reader.setInput(ImageIO.createImageInputStream(new ByteArrayInputStream(data)));
+
+            int globalWidth = -1;
+            int globalHeight = -1;
+            Color background = null;
+
+            final IIOMetadata metadata = reader.getStreamMetadata();
+            if (metadata != null) {
+                final IIOMetadataNode globalRoot = (IIOMetadataNode) metadata.getAsTree(metadata.getNativeMetadataFormatName());
+
+                final NodeList globalColorTable = globalRoot.getElementsByTagName("GlobalColorTable");
+                final NodeList globalScreeDescriptor = globalRoot.getElementsByTagName("LogicalScreenDescriptor");
+
+                if (globalScreeDescriptor.getLength() > 0) {
+                    final IIOMetadataNode screenDescriptor = (IIOMetadataNode) globalScreeDescriptor.item(0);
+
+                    if (screenDescriptor != null) {
+                        globalWidth = Integer.parseInt(screenDescriptor.getAttribute("logicalScreenWidth"));
+                        globalHeight = Integer.parseInt(screenDescriptor.getAttribute("logicalScreenHeight"));
+                    }
+                }
+
+                if (globalColorTable.getLength() > 0) {
+                    final IIOMetadataNode colorTable = (IIOMetadataNode) globalColorTable.item(0);
+
+                    if (colorTable != null) {
+                        final String backgroundIndex = colorTable.getAttribute("backgroundColorIndex");
+
+                        IIOMetadataNode colorEntry = (IIOMetadataNode) colorTable.getFirstChild();
+                        while (colorEntry != null) {
+                            if (colorEntry.getAttribute("index").equals(backgroundIndex)) {
+                                final int red = Integer.parseInt(colorEntry.getAttribute("red"));
+                                final int green = Integer.parseInt(colorEntry.getAttribute("green"));
+                                final int blue = Integer.parseInt(colorEntry.getAttribute("blue"));
+
+                                background = StringUtils.getColorFrom(red, green, blue);
+                                break;
+                            }
+
+                            colorEntry = (IIOMetadataNode) colorEntry.getNextSibling();
+                        }
+                    }
+                }
+            }
+            backgroundColor = background;
+
+            // Only the frame metadata is read here, with pixel data being decoded on demand
+            final int frameCount = reader.getNumImages(true);
+            positions = new int[frameCount][];
+            boolean restoresPrevious = false;
+            for (int frameIndex = 0; frameIndex < frameCount; frameIndex++) {
+                final IIOMetadataNode root = (IIOMetadataNode) reader.getImageMetadata(frameIndex).getAsTree("javax_imageio_gif_image_1.0");
+                final IIOMetadataNode gce = (IIOMetadataNode) root.getElementsByTagName("GraphicControlExtension").item(0);
+                final NodeList children = root.getChildNodes();
+
+                int x = 0, y = 0, frameWidth = -1, frameHeight = -1;
+                for (int nodeIndex = 0; nodeIndex < children.getLength(); nodeIndex++) {
+                    final Node nodeItem = children.item(nodeIndex);
+
+                    if (nodeItem.getNodeName().equals("ImageDescriptor")) {
+                        final NamedNodeMap map = nodeItem.getAttributes();
+
+                        x = Integer.parseInt(map.getNamedItem("imageLeftPosition").getNodeValue());
+                        y = Integer.parseInt(map.getNamedItem("imageTopPosition").getNodeValue());
+                        frameWidth = Integer.parseInt(map.getNamedItem("imageWidth").getNodeValue());
+                        frameHeight = Integer.parseInt(map.getNamedItem("imageHeight").getNodeValue());
+                    }
+                }
+
+                if (globalWidth == -1 || globalHeight == -1) {
+                    globalWidth = frameWidth;
+                    globalHeight = frameHeight;
+                }
+
+                final int delay = gce != null ? Integer.parseInt(gce.getAttribute("delayTime")) : 0;
+                final String disposal = gce != null ? gce.getAttribute("disposalMethod") : "none";
+                restoresPrevious |= disposal.equals("restoreToPrevious");
+
+                positions[frameIndex] = new int[]{x, y};
+                frames.add(new ImageFrame(this, frameIndex, delay, disposal, frameWidth, frameHeight));
+            }
+            usesPreviousFrames = restoresPrevious;
+
+            canvasWidth = Math.max(1, globalWidth);
+            canvasHeight = Math.max(1, globalHeight);
+
+            // Scale down, but never up, while preserving the aspect ratio
+            double scale = 1.0;
+            if (maxWidth > 0 && canvasWidth > maxWidth) {
+                scale = Math.min(scale, (double) maxWidth / canvasWidth);
+            }
+            if (maxHeight > 0 && canvasHeight > maxHeight) {
+                scale = Math.min(scale, (double) maxHeight / canvasHeight);
+            }
+            width = Math.max(1, (int) Math.round(canvasWidth * scale));
+            height = Math.max(1, (int) Math.round(canvasHeight * scale));
+            success = true;
+        } finally {
+            if (!success) {
+                // Release the reader if the metadata could not be read, as it will never be used
+                dispose();
+            }
+        }
+
+        for (int i = 0; i < BUFFER_SIZE; i++) {
+            bufferIndex[i] = -1;
+        }
+    }
+
+    /**
+     * Initializes a new GIF Decoder, reading the frame metadata from the specified stream
+     *
+     * @param stream    The stream of data to be interpreted
+     * @param maxWidth  The maximum width for produced frames, or -1 to use the original width
+     * @param maxHeight The maximum height for produced frames, or -1 to use the original height
+     * @throws IOException If an error occurs during operation
+     */
+    public GifDecoder(final InputStream stream, final int maxWidth, final int maxHeight) throws IOException {
+        this(readAll(stream), maxWidth, maxHeight);
+    }
+
+    /**
+     * Read the remaining data from the specified stream
+     *
+     * @param stream The stream to interpret
+     * @return the remaining data
+     * @throws IOException If an error occurs during operation
+     */
+    private static byte[] readAll(final InputStream stream) throws IOException {
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        final byte[] data = new byte[8192];
+        int length;
+        while ((length = stream.read(data)) != -1) {
+            result.write(data, 0, length);
+        }
+        return result.toByteArray();
+    }
+
+    /**
+     * Retrieve the lazily decoded frames for this image
+     *
+     * @return the frames for this image
+     */
+    public List<ImageFrame> getFrames() {
+        return frames;
+    }
+
+    /**
+     * Retrieve the composed image for the specified frame, decoding it if needed
+     * <p>Frames are composed in order, so requesting an earlier frame that is no longer
+     * retained restarts composition from the first frame
+     *
+     * @param frameIndex The frame index to interpret
+     * @return the composed image, or null if unable to be decoded
+     */
+    public synchronized BufferedImage getFrame(final int frameIndex) {
+        if (disposed || frameIndex < 0 || frameIndex >= frames.size()) {
+            return null;
+        }
+
+        final int slot = frameIndex % BUFFER_SIZE;
+        if (bufferIndex[slot] == frameIndex) {
+            return buffer[slot];
+        }
+
+        try {
+            if (frameIndex < nextIndex) {
+                nextIndex = 0;
+                master = null;
+                previousMaster = null;
+                lastX = 0;
+                lastY = 0;
+            }
+            while (nextIndex <= frameIndex) {
+                compose(nextIndex);
+                nextIndex++;
+            }
+            return buffer[slot];
+        } catch (Exception ex) {
+            Constants.LOG.debugError(ex);
+            return null;
+        }
+    }
+
+    /**
+     * Release the underlying {@link ImageReader} and any composed frames
+     * <p>Frames can no longer be decoded once this decoder has been disposed
+     */
+    public synchronized void dispose() {
+        if (disposed) {
+            return;
+        }
+        disposed = true;
+        try {
+            final Object input = reader.getInput();
+            if (input instanceof ImageInputStream) {
+                ((ImageInputStream) input).close();
+            }
+        } catch (Exception ex) {
+            Constants.LOG.debugError(ex);
+        } finally {
+            reader.dispose();
+            master = null;
+            previousMaster = null;
+            for (int i = 0; i < BUFFER_SIZE; i++) {
+                buffer[i] = null;
+                bufferIndex[i] = -1;
+            }
+        }
+    }
+
+    /**
+     * Compose the specified frame onto the canvas, storing the result within the ring buffer
+     *
+     * @param frameIndex The frame index to interpret
+     * @throws IOException If an error occurs during operation
+     */
+    private void compose(final int frameIndex) throws IOException {
+        final BufferedImage image = reader.read(frameIndex);
+        final String disposal = frames.get(frameIndex).getDisposal();
+
+        if (master == null) {
+            master = new BufferedImage(canvasWidth, canvasHeight, BufferedImage.TYPE_INT_ARGB);
+            master.createGraphics().setColor(backgroundColor);
+            master.createGraphics().fillRect(0, 0, master.getWidth(), master.getHeight());
+
+            hasBackground = image.getWidth() == canvasWidth && image.getHeight() == canvasHeight;
+
+            master.createGraphics().drawImage(image, 0, 0, null);
+        } else {
+            final int x = positions[frameIndex][0];
+            final int y = positions[frameIndex][1];
+
+            if (disposal.equals("restoreToPrevious")) {
+                if (previousMaster != null) {
+                    master = ImageFrame.deepCopy(previousMaster);
+                }
+            } else if (disposal.equals("restoreToBackgroundColor") && backgroundColor != null && (!hasBackground || frameIndex > 1)) {
+                final ImageFrame lastFrame = frames.get(frameIndex - 1);
+                master.createGraphics().fillRect(lastX, lastY, lastFrame.getWidth(), lastFrame.getHeight());
+            }
+            master.createGraphics().drawImage(image, x, y, null);
+
+            lastX = x;
+            lastY = y;
+        }
+
+        if (usesPreviousFrames && !disposal.equals("restoreToPrevious")) {
+            previousMaster = ImageFrame.deepCopy(master);
+        }
+
+        final int slot = frameIndex % BUFFER_SIZE;
+        buffer[slot] = scale(master);
+        bufferIndex[slot] = frameIndex;
+    }
+
+    /**
+     * Create a copy of the specified canvas, at the size of the frames produced by this decoder
+     *
+     * @param source The canvas to interpret
+     * @return the resulting image
+     */
+    private BufferedImage scale(final BufferedImage source) {
+        if (width == canvasWidth && height == canvasHeight) {
+            return ImageFrame.deepCopy(source);
+        }
+        final BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D graphics = result.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(source, 0, 0, width, height, null);
+        graphics.dispose();
+        return result;
+    }
+
+    /**
+     * Retrieve the width of the frames produced by this decoder
+     *
+     * @return the width of produced frames
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Retrieve the height of the frames produced by this decoder
+     *
+     * @return the height of produced frames
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Retrieve the estimated amount of memory occupied by this decoder
+     * <p>Accounts for the composition canvases and the ring buffer of composed frames
+     *
+     * @return the estimated amount of occupied bytes
+     */
+    public long getResidentBytes() {
+        final long canvasBytes = 4L * canvasWidth * canvasHeight;
+        return canvasBytes * (usesPreviousFrames ? 2 : 1) + 4L * width * height * BUFFER_SIZE;
+    }
+}
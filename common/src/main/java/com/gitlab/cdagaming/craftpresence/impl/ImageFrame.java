@@ -27,22 +27,13 @@ package com.gitlab.cdagaming.craftpresence.impl;
 import com.gitlab.cdagaming.craftpresence.core.Constants;
 import io.github.cdagaming.unicore.utils.StringUtils;
 import io.github.cdagaming.unicore.utils.TimeUtils;
-import org.w3c.dom.NamedNodeMap;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
-import javax.imageio.ImageIO;
-import javax.imageio.ImageReader;
-import javax.imageio.metadata.IIOMetadata;
-import javax.imageio.metadata.IIOMetadataNode;
-import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.awt.image.ColorModel;
 import java.awt.image.WritableRaster;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URLDecoder;
-import java.util.ArrayList;
 import java.util.Base64;
 
 /**
@@ -57,9 +48,17 @@ public class ImageFrame {
      */
     private final int delay;
     /**
-     * The buffered image instance being stored
+     * The buffered image instance being stored, if not decoded on demand
      */
     private final BufferedImage image;
+    /**
+     * The decoder used to retrieve this frame on demand, if any
+     */
+    private final GifDecoder decoder;
+    /**
+     * The index of this frame within its decoder
+     */
+    private final int index;
     /**
      * The disposal method flag being used for this frame
      */
@@ -88,6 +87,28 @@ public class ImageFrame {
      */
     public ImageFrame(final BufferedImage image, final int delay, final String disposal, final int width, final int height) {
         this.image = deepCopy(image);
+        this.decoder = null;
+        this.index = -1;
+        this.delay = delay;
+        this.disposal = disposal;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Initializes an Image Frame, to be decoded on demand through the specified decoder
+     *
+     * @param decoder  The decoder used to retrieve this frame
+     * @param index    The index of this frame within its decoder
+     * @param delay    The delay between now and the next image transition
+     * @param disposal The disposal method flag to use for this frame
+     * @param width    The width of this image
+     * @param height   The height of this image
+     */
+    public ImageFrame(final GifDecoder decoder, final int index, final int delay, final String disposal, final int width, final int height) {
+        this.image = null;
+        this.decoder = decoder;
+        this.index = index;
         this.delay = delay;
         this.disposal = disposal;
         this.width = width;
@@ -152,150 +173,81 @@ public class ImageFrame {
 
     /**
      * Reads an array of Image Frames from an InputStream
+     * <p>Frames are decoded on demand, rather than all at once
+     *
+     * @param stream    The stream of data to be interpreted
+     * @param maxWidth  The maximum width for decoded frames, or -1 to use the original width
+     * @param maxHeight The maximum height for decoded frames, or -1 to use the original height
+     * @return The resulting array of Image Frames, if successful
+     * @throws IOException If an error occurs during operation
+     */
+    public static ImageFrame[] readGif(final InputStream stream, final int maxWidth, final int maxHeight) throws IOException {
+        return new GifDecoder(stream, maxWidth, maxHeight).getFrames().toArray(new ImageFrame[0]);
+    }
+
+    /**
+     * Reads an array of Image Frames from an InputStream
+     * <p>Frames are decoded on demand, rather than all at once
      *
      * @param stream The stream of data to be interpreted
      * @return The resulting array of Image Frames, if successful
      * @throws IOException If an error occurs during operation
      */
     public static ImageFrame[] readGif(final InputStream stream) throws IOException {
-        final ArrayList<ImageFrame> frames = new ArrayList<>(2);
-
-        final ImageReader reader = ImageIO.getImageReadersByFormatName("gif").next();
-        reader.setInput(ImageIO.createImageInputStream(stream));
-
-        int lastX = 0;
-        int lastY = 0;
-
-        int width = -1;
-        int height = -1;
-
-        final IIOMetadata metadata = reader.getStreamMetadata();
-
-        Color backgroundColor = null;
-
-        if (metadata != null) {
-            final IIOMetadataNode globalRoot = (IIOMetadataNode) metadata.getAsTree(metadata.getNativeMetadataFormatName());
-
-            final NodeList globalColorTable = globalRoot.getElementsByTagName("GlobalColorTable");
-            final NodeList globalScreeDescriptor = globalRoot.getElementsByTagName("LogicalScreenDescriptor");
-
-            if (globalScreeDescriptor.getLength() > 0) {
-                final IIOMetadataNode screenDescriptor = (IIOMetadataNode) globalScreeDescriptor.item(0);
-
-                if (screenDescriptor != null) {
-                    width = Integer.parseInt(screenDescriptor.getAttribute("logicalScreenWidth"));
-                    height = Integer.parseInt(screenDescriptor.getAttribute("logicalScreenHeight"));
-                }
-            }
-
-            if (globalColorTable.getLength() > 0) {
-                final IIOMetadataNode colorTable = (IIOMetadataNode) globalColorTable.item(0);
-
-                if (colorTable != null) {
-                    final String backgroundIndex = colorTable.getAttribute("backgroundColorIndex");
-
-                    IIOMetadataNode colorEntry = (IIOMetadataNode) colorTable.getFirstChild();
-                    while (colorEntry != null) {
-                        if (colorEntry.getAttribute("index").equals(backgroundIndex)) {
-                            final int red = Integer.parseInt(colorEntry.getAttribute("red"));
-                            final int green = Integer.parseInt(colorEntry.getAttribute("green"));
-                            final int blue = Integer.parseInt(colorEntry.getAttribute("blue"));
+        return readGif(stream, -1, -1);
+    }
 
-                            backgroundColor = StringUtils.getColorFrom(red, green, blue);
-                            break;
-                        }
+    /**
+     * Retrieves the current buffered image being stored
+     *
+     * @return The current buffered image being stored
+     */
+    public BufferedImage getImage() {
+        return decoder != null ? decoder.getFrame(index) : deepCopy(image);
+    }
 
-                        colorEntry = (IIOMetadataNode) colorEntry.getNextSibling();
-                    }
-                }
-            }
+    /**
+     * Ensure this frame is ready to be retrieved, decoding it ahead of time if needed
+     */
+    public void prepare() {
+        if (decoder != null) {
+            decoder.getFrame(index);
         }
+    }
 
-        BufferedImage master = null;
-        boolean hasBackground = false;
-
-        for (int frameIndex = 0; ; frameIndex++) {
-            final BufferedImage image;
-            try {
-                image = reader.read(frameIndex);
-            } catch (IndexOutOfBoundsException io) {
-                break;
-            }
-
-            if (width == -1 || height == -1) {
-                width = image.getWidth();
-                height = image.getHeight();
-            }
-
-            final IIOMetadataNode root = (IIOMetadataNode) reader.getImageMetadata(frameIndex).getAsTree("javax_imageio_gif_image_1.0");
-            final IIOMetadataNode gce = (IIOMetadataNode) root.getElementsByTagName("GraphicControlExtension").item(0);
-            final NodeList children = root.getChildNodes();
-
-            final int delay = Integer.parseInt(gce.getAttribute("delayTime"));
-
-            final String disposal = gce.getAttribute("disposalMethod");
-
-            if (master == null) {
-                master = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-                master.createGraphics().setColor(backgroundColor);
-                master.createGraphics().fillRect(0, 0, master.getWidth(), master.getHeight());
-
-                hasBackground = image.getWidth() == width && image.getHeight() == height;
-
-                master.createGraphics().drawImage(image, 0, 0, null);
-            } else {
-                int x = 0;
-                int y = 0;
-
-                for (int nodeIndex = 0; nodeIndex < children.getLength(); nodeIndex++) {
-                    final Node nodeItem = children.item(nodeIndex);
-
-                    if (nodeItem.getNodeName().equals("ImageDescriptor")) {
-                        final NamedNodeMap map = nodeItem.getAttributes();
-
-                        x = Integer.parseInt(map.getNamedItem("imageLeftPosition").getNodeValue());
-                        y = Integer.parseInt(map.getNamedItem("imageTopPosition").getNodeValue());
-                    }
-                }
-
-                if (disposal.equals("restoreToPrevious")) {
-                    BufferedImage from = null;
-                    for (int i = frameIndex - 1; i >= 0; i--) {
-                        if (!frames.get(i).getDisposal().equals("restoreToPrevious") || frameIndex == 0) {
-                            from = frames.get(i).getImage();
-                            break;
-                        }
-                    }
-
-                    if (from != null) {
-                        master = deepCopy(from);
-                    }
-                } else if (disposal.equals("restoreToBackgroundColor") && backgroundColor != null && (!hasBackground || frameIndex > 1)) {
-                    master.createGraphics().fillRect(lastX, lastY, frames.get(frameIndex - 1).getWidth(), frames.get(frameIndex - 1).getHeight());
-                }
-                master.createGraphics().drawImage(image, x, y, null);
-
-                lastX = x;
-                lastY = y;
-            }
-
-            final BufferedImage copy = deepCopy(master);
-            frames.add(new ImageFrame(copy, delay, disposal, image.getWidth(), image.getHeight()));
-
-            master.flush();
+    /**
+     * Release any decoding resources held by this frame
+     * <p>For frames decoded on demand, this disposes their shared decoder
+     */
+    public void dispose() {
+        if (decoder != null) {
+            decoder.dispose();
         }
-        reader.dispose();
+    }
 
-        return frames.toArray(new ImageFrame[0]);
+    /**
+     * Retrieve the estimated amount of memory occupied by this frame
+     * <p>For frames decoded on demand, the memory of their shared decoder is attributed to the first frame
+     *
+     * @return the estimated amount of occupied bytes
+     */
+    public long getResidentBytes() {
+        if (decoder != null) {
+            return index == 0 ? decoder.getResidentBytes() : 0;
+        }
+        return image != null ? 4L * image.getWidth() * image.getHeight() : 0;
     }
 
     /**
-     * Retrieves the current buffered image being stored
+     * Retrieve the estimated amount of memory occupied by a texture created from this frame
      *
-     * @return The current buffered image being stored
+     * @return the estimated amount of occupied bytes
      */
-    public BufferedImage getImage() {
-        return deepCopy(image);
+    public long getTextureBytes() {
+        if (decoder != null) {
+            return 4L * decoder.getWidth() * decoder.getHeight();
+        }
+        return image != null ? 4L * image.getWidth() * image.getHeight() : 0;
     }
 
     /**
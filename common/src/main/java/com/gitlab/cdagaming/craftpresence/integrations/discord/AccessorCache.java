@@ -0,0 +1,349 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.integrations.discord;
+
+import com.gitlab.cdagaming.craftpresence.core.Constants;
+import com.gitlab.cdagaming.craftpresence.core.impl.BoundedCache;
+import io.github.cdagaming.unicore.utils.FileUtils;
+import io.github.cdagaming.unicore.utils.MappingUtils;
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A Cache of resolved Reflection Accessors, used by {@link FunctionsLib} reflection functions
+ * <p>Members are resolved once per (class, member name, parameter types), and held as {@link MethodHandle} data,
+ * with failed lookups also being cached to avoid repeating them
+ * <p>Class names that fail to resolve are cached for the current mapping state only,
+ * as they may become resolvable once mappings are loaded
+ *
+ * @author CDAGaming
+ */
+public class AccessorCache {
+    /**
+     * The maximum amount of class names to retain resolution results for
+     */
+    private static final int MAX_CACHED_CLASSES = 512;
+    /**
+     * The {@link MethodHandles.Lookup} used to convert reflected members
+     */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    /**
+     * The uniform type for field getters: (instance) -> value
+     */
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    /**
+     * The uniform type for method invokers: (instance, parameters) -> result
+     */
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    /**
+     * The placeholder stored for members that could not be resolved
+     */
+    private static final MethodHandle MISSING = MethodHandles.constant(Object.class, null);
+    /**
+     * The parameter types used for methods without parameters
+     */
+    private static final Class<?>[] NO_TYPES = new Class<?>[0];
+    /**
+     * The parameters used for methods without parameters
+     */
+    private static final Object[] NO_PARAMETERS = new Object[0];
+    /**
+     * The resolved field getters for each class
+     * <p>Format: fieldName, getter
+     */
+    private static final ClassValue<Map<String, MethodHandle>> FIELDS = new ClassValue<Map<String, MethodHandle>>() {
+        @Override
+        protected Map<String, MethodHandle> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    /**
+     * The resolved method invokers for each class
+     * <p>Format: methodName, (parameterTypes, invoker)
+     */
+    private static final ClassValue<Map<String, Map<List<Class<?>>, MethodHandle>>> METHODS = new ClassValue<Map<String, Map<List<Class<?>>, MethodHandle>>>() {
+        @Override
+        protected Map<String, Map<List<Class<?>>, MethodHandle>> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    /**
+     * The formatted field list for each class
+     */
+    private static final ClassValue<String> FIELD_LISTS = new ClassValue<String>() {
+        @Override
+        protected String computeValue(final Class<?> type) {
+            return StringUtils.getFieldList(type);
+        }
+    };
+    /**
+     * The formatted method list for each class
+     */
+    private static final ClassValue<String> METHOD_LISTS = new ClassValue<String>() {
+        @Override
+        protected String computeValue(final Class<?> type) {
+            return StringUtils.getMethodList(type);
+        }
+    };
+    /**
+     * The resolved class for each class name
+     */
+    private static final BoundedCache<String, Class<?>> CLASSES = new BoundedCache<>(MAX_CACHED_CLASSES);
+    /**
+     * The class names that could not be resolved under {@link AccessorCache#missingMappingState}
+     */
+    private static final BoundedCache<String, Boolean> MISSING_CLASSES = new BoundedCache<>(MAX_CACHED_CLASSES);
+    /**
+     * Whether mappings were loaded when the entries in {@link AccessorCache#MISSING_CLASSES} were recorded
+     */
+    private static boolean missingMappingState = false;
+
+    /**
+     * Retrieve the class for the specified class name, if present
+     *
+     * @param className The class name to interpret
+     * @return the resolved class, or null if unable to be found
+     */
+    public static Class<?> loadClass(final String className) {
+        Class<?> result = CLASSES.get(className);
+        if (result != null) {
+            return result;
+        }
+
+        final boolean mappingState = MappingUtils.areMappingsLoaded();
+        synchronized (MISSING_CLASSES) {
+            if (mappingState != missingMappingState) {
+                // Mapping state has changed, so prior misses may now resolve
+                MISSING_CLASSES.clear();
+                missingMappingState = mappingState;
+            } else if (MISSING_CLASSES.get(className) != null) {
+                return null;
+            }
+        }
+
+        result = FileUtils.loadClass(className);
+        if (result != null) {
+            CLASSES.put(className, result);
+        } else {
+            synchronized (MISSING_CLASSES) {
+                if (mappingState == missingMappingState) {
+                    MISSING_CLASSES.put(className, Boolean.TRUE);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Retrieve the value of the first resolvable field from the specified names
+     *
+     * @param classToAccess The class to access
+     * @param instance      The instance to access, or null for static fields
+     * @param fieldNames    The field names to attempt
+     * @return the field value, or null if unable to be retrieved
+     */
+    public static Object getField(final Class<?> classToAccess, final Object instance, final String... fieldNames) {
+        for (String fieldName : fieldNames) {
+            final MethodHandle getter = getFieldAccessor(classToAccess, fieldName);
+            if (getter != MISSING) {
+                try {
+                    return getter.invokeExact(instance);
+                } catch (Throwable ex) {
+                    Constants.LOG.debugError(ex);
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether the specified field can be resolved from the specified class
+     *
+     * @param classToAccess The class to access
+     * @param fieldName     The field name to interpret
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public static boolean hasField(final Class<?> classToAccess, final String fieldName) {
+        return getFieldAccessor(classToAccess, fieldName) != MISSING;
+    }
+
+    /**
+     * Invoke the first resolvable method from the specified names
+     *
+     * @param classToAccess  The class to access
+     * @param instance       The instance to access, or null for static methods
+     * @param parameterTypes The parameter types of the method, or null if none
+     * @param parameters     The parameters to invoke the method with, or null if none
+     * @param methodNames    The method names to attempt
+     * @return the method result, or null if unable to be invoked
+     */
+    public static Object executeMethod(final Class<?> classToAccess, final Object instance,
+                                       final Class<?>[] parameterTypes, final Object[] parameters,
+                                       final String... methodNames) {
+        final Class<?>[] types = parameterTypes != null ? parameterTypes : NO_TYPES;
+        final Object[] args = parameters != null ? parameters : NO_PARAMETERS;
+        for (String methodName : methodNames) {
+            final MethodHandle invoker = getMethodAccessor(classToAccess, methodName, types);
+            if (invoker != MISSING) {
+                try {
+                    return invoker.invokeExact(instance, args);
+                } catch (Throwable ex) {
+                    Constants.LOG.debugError(ex);
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrieve the formatted list of fields for the specified class
+     *
+     * @param classToAccess The class to interpret
+     * @return the formatted field list
+     */
+    public static String getFieldList(final Class<?> classToAccess) {
+        return FIELD_LISTS.get(classToAccess);
+    }
+
+    /**
+     * Retrieve the formatted list of methods for the specified class
+     *
+     * @param classToAccess The class to interpret
+     * @return the formatted method list
+     */
+    public static String getMethodList(final Class<?> classToAccess) {
+        return METHOD_LISTS.get(classToAccess);
+    }
+
+    /**
+     * Retrieve the getter for the specified field, resolving it if needed
+     *
+     * @param classToAccess The class to access
+     * @param fieldName     The field name to interpret
+     * @return the getter for this field, or {@link AccessorCache#MISSING} if unable to be resolved
+     */
+    private static MethodHandle getFieldAccessor(final Class<?> classToAccess, final String fieldName) {
+        if (classToAccess == null || StringUtils.isNullOrEmpty(fieldName)) {
+            return MISSING;
+        }
+        final Map<String, MethodHandle> fields = FIELDS.get(classToAccess);
+        final MethodHandle cached = fields.get(fieldName);
+        if (cached != null) {
+            return cached;
+        }
+        return fields.computeIfAbsent(fieldName, name -> {
+            final Optional<Field> field = StringUtils.getValidField(classToAccess, name);
+            if (field.isPresent()) {
+                try {
+                    final Field data = field.get();
+                    data.setAccessible(true);
+                    final MethodHandle getter = LOOKUP.unreflectGetter(data);
+                    return Modifier.isStatic(data.getModifiers()) ?
+                            MethodHandles.dropArguments(getter.asType(MethodType.methodType(Object.class)), 0, Object.class) :
+                            getter.asType(GETTER_TYPE);
+                } catch (Throwable ex) {
+                    Constants.LOG.debugError(ex);
+                }
+            }
+            return MISSING;
+        });
+    }
+
+    /**
+     * Retrieve the invoker for the specified method, resolving it if needed
+     *
+     * @param classToAccess  The class to access
+     * @param methodName     The method name to interpret
+     * @param parameterTypes The parameter types of the method
+     * @return the invoker for this method, or {@link AccessorCache#MISSING} if unable to be resolved
+     */
+    private static MethodHandle getMethodAccessor(final Class<?> classToAccess, final String methodName, final Class<?>[] parameterTypes) {
+        if (classToAccess == null || StringUtils.isNullOrEmpty(methodName)) {
+            return MISSING;
+        }
+        // Overloads are kept per method name, so a lookup only wraps the parameter types rather than copying them,
+        // and cached entries are read with get, as computeIfAbsent locks even on a hit under Java 8
+        final Map<String, Map<List<Class<?>>, MethodHandle>> methods = METHODS.get(classToAccess);
+        Map<List<Class<?>>, MethodHandle> overloads = methods.get(methodName);
+        if (overloads == null) {
+            overloads = methods.computeIfAbsent(methodName, name -> new ConcurrentHashMap<>());
+        }
+        final MethodHandle cached = overloads.get(Arrays.asList(parameterTypes));
+        if (cached != null) {
+            return cached;
+        }
+        return overloads.computeIfAbsent(Arrays.asList(parameterTypes.clone()), k -> {
+            final Method method = findMethod(classToAccess, methodName, parameterTypes);
+            if (method != null) {
+                try {
+                    method.setAccessible(true);
+                    final MethodHandle handle = LOOKUP.unreflect(method)
+                            .asSpreader(Object[].class, parameterTypes.length);
+                    return Modifier.isStatic(method.getModifiers()) ?
+                            MethodHandles.dropArguments(handle.asType(MethodType.methodType(Object.class, Object[].class)), 0, Object.class) :
+                            handle.asType(INVOKER_TYPE);
+                } catch (Throwable ex) {
+                    Constants.LOG.debugError(ex);
+                }
+            }
+            return MISSING;
+        });
+    }
+
+    /**
+     * Find the specified method within the specified class or its superclasses
+     *
+     * @param classToAccess  The class to access
+     * @param methodName     The method name to interpret
+     * @param parameterTypes The parameter types of the method
+     * @return the found method, or null if unable to be found
+     */
+    private static Method findMethod(final Class<?> classToAccess, final String methodName, final Class<?>[] parameterTypes) {
+        for (Class<?> type = classToAccess; type != null; type = type.getSuperclass()) {
+            try {
+                return type.getDeclaredMethod(methodName, parameterTypes);
+            } catch (NoSuchMethodException ignored) {
+            }
+        }
+        try {
+            return classToAccess.getMethod(methodName, parameterTypes);
+        } catch (NoSuchMethodException ex) {
+            return null;
+        }
+    }
+}
@@ -49,6 +49,33 @@ import java.util.Map;
  */
 @SuppressWarnings("DuplicatedCode")
 public class FunctionsLib {
+    /**
+     * Functions whose results depend only on their arguments
+     */
+    private static final List<String> PURE_FUNCTIONS = StringUtils.newArrayList(
+            "format", "getFirst", "getNamespace", "getPath",
+            "isWithinValue", "roundDouble", "clampInt", "clampLong", "clampFloat", "clampDouble",
+            "lerpFloat", "lerpDouble", "snapToStep",
+            "getOrDefault", "replace", "length", "split", "getArrayElement", "minify", "nullOrEmpty",
+            "formatAddress", "hasWhitespace", "hasAlphaNumeric", "isUuid", "isColor", "toCamelCase",
+            "asIcon", "asProperWord", "removeRepeatWords", "asIdentifier", "capitalizeWords",
+            "stripColors", "stripFormatting", "stripAllFormatting",
+            "timeToEpochSecond", "timeToEpochMilli", "timeFromEpochSecond", "timeFromEpochMilli",
+            "dateToEpochSecond", "dateToEpochMilli", "epochSecondToDate", "epochMilliToDate",
+            "convertTimeZone", "convertTimeFormat", "convertTime", "timeFromString", "timeToString"
+    );
+
+    /**
+     * Whether the specified function only depends on its arguments
+     * <p>Results from impure functions, such as ones relying on time or randomness, should not be re-used
+     *
+     * @param name The function name to interpret
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public static boolean isPure(final String name) {
+        return PURE_FUNCTIONS.contains(name);
+    }
+
     public static void init(Starscript ss) {
         StandardLib.init(ss);
 
@@ -682,7 +709,7 @@ public class FunctionsLib {
                 instance = temp;
             }
         } else if (target.isString()) {
-            classToAccess = FileUtils.loadClass(target.getString());
+            classToAccess = AccessorCache.loadClass(target.getString());
         } else {
             ss.error("Second argument to cast(), classToAccess, needs to be either a string, object, or class.");
         }
@@ -807,7 +834,7 @@ public class FunctionsLib {
         if (argCount < 1) ss.error("getFields() can only be used with one argument, got %d.", argCount);
         final Value data = getClass(ss, argCount);
         if (!data.isNull()) {
-            return Value.string(StringUtils.getFieldList((Class<?>) data.getObject()));
+            return Value.string(AccessorCache.getFieldList((Class<?>) data.getObject()));
         } else {
             ss.error("First argument to getFields() needs to be a valid class-compatible object.");
         }
@@ -818,7 +845,7 @@ public class FunctionsLib {
         if (argCount < 1) ss.error("getMethods() can only be used with one argument, got %d.", argCount);
         final Value data = getClass(ss, argCount);
         if (!data.isNull()) {
-            return Value.string(StringUtils.getMethodList((Class<?>) data.getObject()));
+            return Value.string(AccessorCache.getMethodList((Class<?>) data.getObject()));
         } else {
             ss.error("First argument to getMethods() needs to be a valid class-compatible object.");
         }
@@ -849,7 +876,7 @@ public class FunctionsLib {
                 instance = temp;
             }
         } else if (target.isString()) {
-            classToAccess = FileUtils.loadClass(target.getString());
+            classToAccess = AccessorCache.loadClass(target.getString());
         } else {
             ss.error("First argument to getField(), classToAccess, needs to be either a string, object, or class.");
         }
@@ -881,7 +908,7 @@ public class FunctionsLib {
         if (classToAccess == null || fields == null) {
             ss.error("Insufficient or null arguments provided for required getField() params, please try again.");
         } else {
-            result = StringUtils.getField(classToAccess, instance, fields.toArray(new String[0]));
+            result = AccessorCache.getField(classToAccess, instance, fields.toArray(new String[0]));
         }
 
         return result != null ? CraftPresence.CLIENT.toValue(result, true) : Value.null_();
@@ -894,7 +921,7 @@ public class FunctionsLib {
         if (value.isObject()) {
             result = value.getObject().getClass();
         } else if (value.isString()) {
-            result = FileUtils.loadClass(value.getString());
+            result = AccessorCache.loadClass(value.getString());
         } else {
             ss.error("First argument to getClass() needs to be a valid class-compatible object.");
         }
@@ -907,7 +934,7 @@ public class FunctionsLib {
         final Value data = getClass(ss, argCount);
         if (!data.isNull()) {
             final Class<?> result = (Class<?>) data.getObject();
-            return Value.bool(StringUtils.getValidField(result, b).isPresent());
+            return Value.bool(AccessorCache.hasField(result, b));
         } else {
             ss.error("First argument to hasField() needs to be a valid class-compatible object.");
         }
@@ -938,7 +965,7 @@ public class FunctionsLib {
                 instance = temp;
             }
         } else if (target.isString()) {
-            classToAccess = FileUtils.loadClass(target.getString());
+            classToAccess = AccessorCache.loadClass(target.getString());
         } else {
             ss.error("First argument to executeMethod(), classToAccess, needs to be either a string, object, or class.");
         }
@@ -991,7 +1018,7 @@ public class FunctionsLib {
                             classObj = (Class<?>) temp;
                         }
                     } else if (data.isString()) {
-                        classObj = FileUtils.loadClass(data.getString());
+                        classObj = AccessorCache.loadClass(data.getString());
                     }
 
                     if (classObj == null) {
@@ -1006,7 +1033,7 @@ public class FunctionsLib {
             }
         }
 
-        Object result = StringUtils.executeMethod(classToAccess, instance,
+        Object result = AccessorCache.executeMethod(classToAccess, instance,
                 parameterTypes != null ? parameterTypes.toArray(new Class<?>[0]) : null,
                 parameters != null ? parameters.toArray(new Object[0]) : null,
                 methodNames.toArray(new String[0])
@@ -28,10 +28,11 @@ import com.gitlab.cdagaming.craftpresence.CraftPresence;
 import com.gitlab.cdagaming.craftpresence.config.Config;
 import com.gitlab.cdagaming.craftpresence.core.config.element.ModuleData;
 import com.gitlab.cdagaming.craftpresence.core.impl.Module;
+import com.gitlab.cdagaming.craftpresence.utils.scan.ClassScanUtils;
+import com.gitlab.cdagaming.craftpresence.utils.scan.ScannedClass;
 import io.github.cdagaming.unicore.utils.FileUtils;
 import io.github.cdagaming.unicore.utils.MappingUtils;
 import io.github.cdagaming.unicore.utils.StringUtils;
-import io.github.classgraph.ClassInfo;
 import net.minecraft.client.gui.GuiScreen;
 
 import java.util.List;
@@ -146,8 +147,8 @@ public class ReplayModUtils implements Module {
                 FileUtils.findClass("com.replaymod.lib.de.johni0702.minecraft.gui.container.AbstractGuiOverlay")
         );
 
-        for (ClassInfo classObj : FileUtils.getClassNamesMatchingSuperType(searchClasses).values()) {
-            final String screenName = MappingUtils.getClassName(classObj);
+        for (ScannedClass classObj : ClassScanUtils.getSubTypes(searchClasses)) {
+            final String screenName = classObj.getClassName();
             if (!CraftPresence.GUIS.GUI_NAMES.contains(screenName)) {
                 CraftPresence.GUIS.GUI_NAMES.add(screenName);
             }
@@ -30,6 +30,8 @@ import com.gitlab.cdagaming.craftpresence.config.Config;
 import com.gitlab.cdagaming.craftpresence.core.Constants;
 import com.gitlab.cdagaming.craftpresence.core.config.element.ModuleData;
 import com.gitlab.cdagaming.craftpresence.core.impl.Module;
+import com.gitlab.cdagaming.craftpresence.core.impl.ModuleEvent;
+import com.gitlab.cdagaming.craftpresence.core.impl.ModuleTickState;
 import com.gitlab.cdagaming.craftpresence.core.integrations.pack.Pack;
 import com.gitlab.cdagaming.craftpresence.core.integrations.pack.atlauncher.ATLauncherUtils;
 import com.gitlab.cdagaming.craftpresence.core.integrations.pack.curse.CurseUtils;
@@ -39,13 +41,18 @@ import com.gitlab.cdagaming.craftpresence.core.integrations.pack.multimc.MultiMC
 import com.gitlab.cdagaming.craftpresence.core.integrations.pack.technic.TechnicUtils;
 import com.gitlab.cdagaming.craftpresence.impl.TranslationManager;
 import com.gitlab.cdagaming.craftpresence.integrations.replaymod.ReplayModUtils;
+import com.gitlab.cdagaming.craftpresence.utils.discord.assets.DiscordAssetUtils;
 import com.gitlab.cdagaming.craftpresence.utils.gui.RenderUtils;
+import com.gitlab.cdagaming.craftpresence.utils.scan.ClassScanUtils;
 import com.jagrosh.discordipc.entities.DiscordBuild;
 import io.github.cdagaming.unicore.impl.TreeMapBuilder;
 import io.github.cdagaming.unicore.utils.FileUtils;
 import io.github.cdagaming.unicore.utils.StringUtils;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Command Utilities for Synchronizing and Initializing Data
@@ -53,6 +60,19 @@ import java.util.Map;
  * @author CDAGaming
  */
 public class CommandUtils {
+    /**
+     * The {@link ModuleEventProbe} used to detect game state changes on each tick
+     */
+    private static final ModuleEventProbe EVENT_PROBE = new ModuleEventProbe();
+    /**
+     * The {@link ModuleExecutor} used to tick independent modules concurrently
+     */
+    private static final ModuleExecutor MODULE_EXECUTOR = new ModuleExecutor();
+    /**
+     * The maximum time to wait for concurrently ticking modules on each tick, in milliseconds
+     * <p>Modules that take longer are merged on a later tick
+     */
+    private static final long MODULE_TICK_BUDGET = 20L;
     /**
      * A mapping of currently loaded {@link TranslationManager} instances
      */
@@ -68,6 +88,10 @@ public class CommandUtils {
             .put("_server", CraftPresence.SERVER)
             .put("_screen", CraftPresence.GUIS)
             .build();
+    /**
+     * A mapping of the polling state and timing statistics for each Rich Presence Module
+     */
+    private static final Map<String, ModuleTickState> moduleStates = new ConcurrentHashMap<>();
     /**
      * A mapping of the currently loaded Pack Extension Modules
      */
@@ -99,6 +123,15 @@ public class CommandUtils {
      * The Current {@link MenuStatus} representing where we are at in the load process
      */
     private static MenuStatus status = MenuStatus.None;
+    /**
+     * The {@link GameState} captured on the latest tick, shared by all modules
+     */
+    private static volatile GameState gameState = GameState.EMPTY;
+    /**
+     * The amount of modules whose placeholders have been registered
+     * <p>Module placeholders read their instance upon access, so only newly added modules need registering
+     */
+    private static int syncedModuleCount = -1;
 
     /**
      * Retrieve the current {@link MenuStatus} for this instance
@@ -109,6 +142,15 @@ public class CommandUtils {
         return status;
     }
 
+    /**
+     * Retrieve the {@link GameState} captured on the latest tick
+     *
+     * @return the current {@link GameState}
+     */
+    public static GameState getGameState() {
+        return gameState;
+    }
+
     /**
      * Sets the current {@link MenuStatus} for this instance
      *
@@ -170,11 +212,14 @@ public class CommandUtils {
      * Synchronizes Module Placeholder Data, meant for RPC usage
      */
     public static void syncModuleArguments() {
-        for (Map.Entry<String, Module> module : modules.entrySet()) {
-            String name = module.getKey();
-            name = (name.startsWith("_") ? "" : "_") + name;
-            CraftPresence.CLIENT.syncArgument(name + ".instance", module.getValue());
+        if (syncedModuleCount == modules.size()) {
+            return;
         }
+        for (String moduleId : modules.keySet()) {
+            final String name = (moduleId.startsWith("_") ? "" : "_") + moduleId;
+            CraftPresence.CLIENT.syncLazyArgument(name + ".instance", () -> modules.get(moduleId));
+        }
+        syncedModuleCount = modules.size();
     }
 
     /**
@@ -243,26 +288,70 @@ public class CommandUtils {
      * @param forceUpdateRPC Whether to Force an Update to the RPC Data
      */
     public static void reloadData(final boolean forceUpdateRPC) {
+        boolean shouldUpdateRPC = forceUpdateRPC;
+        if (DiscordAssetUtils.pollChanges()) {
+            // Asset List was refreshed, so icon keys must be re-evaluated
+            CraftPresence.CLIENT.clearImageData();
+            shouldUpdateRPC = true;
+        }
         for (TranslationManager manager : translationManagerList.values()) {
             manager.onTick();
         }
         CraftPresence.SCHEDULER.onTick();
         CraftPresence.instance.addScheduledTask(CraftPresence.KEYBINDINGS::onTick);
 
-        CraftPresence.SCHEDULER.TICK_LOCK.lock();
         try {
-            for (Module module : modules.values()) {
-                if (module.canBeLoaded()) {
-                    module.onTick();
-                    if (forceUpdateRPC && module.isInUse()) {
-                        module.updatePresence();
+            if (shouldUpdateRPC) {
+                // Ensure concurrent ticks are complete, before modules are ticked in-place
+                MODULE_EXECUTOR.await(-1);
+            }
+
+            CraftPresence.SCHEDULER.TICK_LOCK.lock();
+            try {
+                gameState = GameState.capture(gameState);
+                EVENT_PROBE.detectChanges(gameState, CraftPresence.EVENTS);
+                final Set<ModuleEvent> events = CraftPresence.EVENTS.poll();
+                MODULE_EXECUTOR.merge(modules.keySet(), moduleStates);
+
+                for (Map.Entry<String, Module> entry : modules.entrySet()) {
+                    final Module module = entry.getValue();
+                    if (module.canBeLoaded()) {
+                        final ModuleTickState state = moduleStates.computeIfAbsent(entry.getKey(),
+                                key -> new ModuleTickState(module.getPollInterval(), module.getMaxPollInterval())
+                        );
+                        final boolean isDue = state.advance();
+                        if (!(shouldUpdateRPC || isDue || needsTick(module, events)) || MODULE_EXECUTOR.isRunning(entry.getKey())) {
+                            state.skip();
+                        } else if (!shouldUpdateRPC && module.canRunConcurrently()) {
+                            MODULE_EXECUTOR.submit(entry.getKey(), module);
+                        } else {
+                            final long revision = CraftPresence.CLIENT.getPlaceholderRevision();
+                            final long startTime = System.nanoTime();
+                            module.onTick();
+                            state.record(System.nanoTime() - startTime, revision != CraftPresence.CLIENT.getPlaceholderRevision());
+                        }
+                        if (shouldUpdateRPC && module.isInUse()) {
+                            module.updatePresence();
+                        }
                     }
                 }
+            } finally {
+                CraftPresence.SCHEDULER.TICK_LOCK.unlock();
             }
-            if (forceUpdateRPC) {
-                updateMenuPresence();
+
+            // Wait for concurrent ticks outside the tick lock, so other tasks are not blocked meanwhile
+            MODULE_EXECUTOR.await(MODULE_TICK_BUDGET);
+
+            CraftPresence.SCHEDULER.TICK_LOCK.lock();
+            try {
+                MODULE_EXECUTOR.merge(modules.keySet(), moduleStates);
+                if (shouldUpdateRPC) {
+                    updateMenuPresence();
+                }
+                CraftPresence.CLIENT.onTick();
+            } finally {
+                CraftPresence.SCHEDULER.TICK_LOCK.unlock();
             }
-            CraftPresence.CLIENT.onTick();
         } catch (Throwable ex) {
             final String messagePrefix = Constants.TRANSLATOR.translate("gui.config.message.editor.message");
             final String verbosePrefix = Constants.TRANSLATOR.translate("craftpresence.logger.error.verbose");
@@ -271,11 +360,43 @@ public class CommandUtils {
             Constants.LOG.printStackTrace(ex, messagePrefix, verbosePrefix);
             CraftPresence.CLIENT.shutDown();
         } finally {
-            CraftPresence.SCHEDULER.TICK_LOCK.unlock();
             CraftPresence.SCHEDULER.postTick();
         }
     }
 
+    /**
+     * Determines whether the specified module needs to be ticked, based on the specified events
+     *
+     * @param module The module to interpret
+     * @param events The events that have occurred since the last tick
+     * @return {@link Boolean#TRUE} if the module should be ticked
+     */
+    private static boolean needsTick(final Module module, final Set<ModuleEvent> events) {
+        // Disabled modules never scan, so pending scans only matter while enabled
+        if (module.isEnabled() && (!module.hasScannedConfig() || !module.hasScannedInternals())) {
+            return true;
+        }
+        final Set<ModuleEvent> eventTypes = module.getEventTypes();
+        if (eventTypes == null) {
+            return false;
+        }
+        for (ModuleEvent event : events) {
+            if (eventTypes.contains(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retrieve the polling state and timing statistics for each Rich Presence Module
+     *
+     * @return a mapping of module ids to their polling state
+     */
+    public static Map<String, ModuleTickState> getModuleStats() {
+        return Collections.unmodifiableMap(moduleStates);
+    }
+
     /**
      * Restarts and Initializes the RPC Data
      */
@@ -288,6 +409,7 @@ public class CommandUtils {
         CraftPresence.CLIENT.UPDATE_TIMESTAMP = CraftPresence.CONFIG.generalSettings.resetTimeOnInit;
         CraftPresence.CLIENT.ALLOW_DUPLICATE_PACKETS = CraftPresence.CONFIG.advancedSettings.allowDuplicatePackets;
         CraftPresence.CLIENT.MAX_CONNECTION_ATTEMPTS = CraftPresence.CONFIG.advancedSettings.maxConnectionAttempts;
+        CraftPresence.CLIENT.PRESENCE_SEND_INTERVAL = CraftPresence.CONFIG.advancedSettings.presenceSendInterval;
 
         CraftPresence.CLIENT.init();
     }
@@ -349,7 +471,7 @@ public class CommandUtils {
     }
 
     /**
-     * Synchronize Data for the Logging Engine and IPC Instance
+     * Synchronize Data for the Logging Engine, IPC Instance and Presence Sender
      */
     public static void updateModes() {
         Constants.LOG.setDebugMode(isVerboseMode());
@@ -359,6 +481,12 @@ public class CommandUtils {
         }
         if (CraftPresence.CONFIG != null) {
             CraftPresence.SCHEDULER.setRefreshRate(CraftPresence.CONFIG.advancedSettings.refreshRate);
+            ImageUtils.setCacheLimits(
+                    CraftPresence.CONFIG.advancedSettings.maxCachedImages,
+                    CraftPresence.CONFIG.advancedSettings.maxImageCacheSize * 1024L * 1024L
+            );
+            ImageUtils.setMaxAnimatedSize(CraftPresence.CONFIG.advancedSettings.maxAnimatedImageSize);
+            CraftPresence.CLIENT.setPresenceSendInterval(CraftPresence.CONFIG.advancedSettings.presenceSendInterval);
         }
     }
 
@@ -371,6 +499,13 @@ public class CommandUtils {
         CraftPresence.CLIENT.syncDynamicVariables(oldData, CraftPresence.CONFIG.displaySettings.dynamicVariables);
     }
 
+    /**
+     * Clear any previously compiled expressions, forcing them to be re-compiled on next use
+     */
+    public static void clearCompiledScripts() {
+        CraftPresence.CLIENT.clearCompiledScripts();
+    }
+
     /**
      * Synchronize Data for Rendering Tooltips, using config data
      */
@@ -388,7 +523,10 @@ public class CommandUtils {
         FileUtils.setClassGraphEnabled(newState);
         if (oldState != newState) {
             if (newState) {
-                FileUtils.detectClasses();
+                // Only perform a Class Scan if the classpath has changed since the stored scan data
+                if (!ClassScanUtils.load()) {
+                    FileUtils.detectClasses();
+                }
                 if (postLaunch) {
                     // Ensure all Modules trigger a new internal scan
                     // if we are re-populating the Class Map Data
@@ -397,8 +535,11 @@ public class CommandUtils {
                         module.queueInternalScan();
                     }
                 }
-            } else if (FileUtils.hasScannedClasses()) {
-                FileUtils.clearClassMap(true);
+            } else {
+                ClassScanUtils.reset();
+                if (FileUtils.hasScannedClasses()) {
+                    FileUtils.clearClassMap(true);
+                }
             }
         }
     }
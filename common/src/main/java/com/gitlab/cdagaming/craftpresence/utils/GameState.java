@@ -0,0 +1,457 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.utils;
+
+import com.gitlab.cdagaming.craftpresence.CraftPresence;
+import net.minecraft.client.gui.GuiScreen;
+import net.minecraft.client.multiplayer.ServerData;
+import net.minecraft.client.network.NetHandlerPlayClient;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.EnumDifficulty;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldProvider;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.storage.WorldInfo;
+
+/**
+ * A Snapshot of the Game State, captured once per tick and shared by all modules
+ * <p>
+ * A snapshot is never modified once published, giving every module the same view of a tick;
+ * When nothing has changed, the previous snapshot is reused, so that an idle tick allocates nothing
+ *
+ * @author CDAGaming
+ */
+public class GameState {
+    /**
+     * An empty snapshot, used before any state has been captured
+     */
+    public static final GameState EMPTY = new GameState();
+    /**
+     * The position used to look up biome data, reused between captures
+     */
+    private static final BlockPos.MutableBlockPos BIOME_POS = new BlockPos.MutableBlockPos();
+    /**
+     * The snapshot being populated by the next capture, reused until published
+     */
+    private static GameState scratch = new GameState();
+    /**
+     * The world time from the most recent capture
+     * <p>Kept outside of the snapshot, as it changes on every tick
+     */
+    private static volatile long worldTime;
+
+    private GuiScreen screen;
+    private EntityPlayer player;
+    private World world;
+    private WorldProvider provider;
+    private int dimension;
+    private double posX, posY, posZ;
+    private int blockX, blockY, blockZ;
+    private float health, maxHealth;
+    private Biome biome;
+    private ItemStack mainHand, offHand, helmet, chest, legs, boots;
+    private Entity target, riding;
+    private boolean raining, thundering, hardcore;
+    private EnumDifficulty difficulty;
+    private ServerData serverData;
+    private NetHandlerPlayClient connection;
+    private int playerCount, maxPlayers;
+
+    /**
+     * Capture the current game state
+     *
+     * @param previous The previously captured snapshot
+     * @return a new snapshot if anything has changed, otherwise the previous snapshot
+     */
+    public static synchronized GameState capture(final GameState previous) {
+        final GameState state = scratch;
+        state.screen = CraftPresence.instance.currentScreen;
+        state.player = CraftPresence.player;
+        state.serverData = CraftPresence.instance.getCurrentServerData();
+        state.connection = CraftPresence.instance.getConnection();
+        state.playerCount = state.connection != null ? state.connection.getPlayerInfoMap().size() : 1;
+        state.maxPlayers = state.connection != null && state.connection.currentServerMaxPlayers >= state.playerCount ?
+                state.connection.currentServerMaxPlayers : state.playerCount + 1;
+
+        final EntityPlayer player = state.player;
+        if (player != null && player.world != null) {
+            state.world = player.world;
+            state.provider = player.world.provider;
+            state.dimension = player.dimension;
+            state.posX = player.posX;
+            state.posY = player.posY;
+            state.posZ = player.posZ;
+            state.blockX = (int) Math.floor(player.posX);
+            state.blockY = (int) Math.floor(player.posY + 0.5D);
+            state.blockZ = (int) Math.floor(player.posZ);
+            state.health = player.getHealth();
+            state.maxHealth = player.getMaxHealth();
+
+            if (previous.biome != null && previous.world == state.world &&
+                    previous.blockX == state.blockX && previous.blockY == state.blockY && previous.blockZ == state.blockZ) {
+                state.biome = previous.biome;
+            } else {
+                state.biome = player.world.getBiome(BIOME_POS.setPos(state.blockX, state.blockY, state.blockZ));
+            }
+
+            state.mainHand = player.getHeldItemMainhand();
+            state.offHand = player.getHeldItemOffhand();
+            state.helmet = player.inventory.armorInventory.get(3);
+            state.chest = player.inventory.armorInventory.get(2);
+            state.legs = player.inventory.armorInventory.get(1);
+            state.boots = player.inventory.armorInventory.get(0);
+
+            state.target = CraftPresence.instance.objectMouseOver != null ? CraftPresence.instance.objectMouseOver.entityHit : null;
+            state.riding = player.getRidingEntity();
+
+            final WorldInfo info = player.world.getWorldInfo();
+            state.raining = info.isRaining();
+            state.thundering = info.isThundering();
+            state.hardcore = info.isHardcoreModeEnabled();
+            state.difficulty = player.world.getDifficulty();
+            worldTime = player.world.getWorldTime();
+        } else {
+            state.clearPlayerData();
+            worldTime = 0;
+        }
+
+        if (state.isSameAs(previous)) {
+            return previous;
+        }
+        scratch = new GameState();
+        return state;
+    }
+
+    /**
+     * Clear any player-specific data from this snapshot
+     */
+    private void clearPlayerData() {
+        world = null;
+        provider = null;
+        dimension = 0;
+        posX = posY = posZ = 0;
+        blockX = blockY = blockZ = 0;
+        health = maxHealth = 0;
+        biome = null;
+        mainHand = offHand = helmet = chest = legs = boots = null;
+        target = riding = null;
+        raining = thundering = hardcore = false;
+        difficulty = null;
+    }
+
+    /**
+     * Whether this snapshot holds the same state as the specified snapshot
+     *
+     * @param other The snapshot to compare against
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    private boolean isSameAs(final GameState other) {
+        return screen == other.screen && player == other.player &&
+                serverData == other.serverData && connection == other.connection &&
+                playerCount == other.playerCount && maxPlayers == other.maxPlayers &&
+                world == other.world && provider == other.provider && dimension == other.dimension &&
+                posX == other.posX && posY == other.posY && posZ == other.posZ &&
+                health == other.health && maxHealth == other.maxHealth && biome == other.biome &&
+                mainHand == other.mainHand && offHand == other.offHand &&
+                helmet == other.helmet && chest == other.chest && legs == other.legs && boots == other.boots &&
+                target == other.target && riding == other.riding &&
+                raining == other.raining && thundering == other.thundering && hardcore == other.hardcore &&
+                difficulty == other.difficulty;
+    }
+
+    /**
+     * Retrieve the current screen
+     *
+     * @return the current screen, or null if no screen is open
+     */
+    public GuiScreen getScreen() {
+        return screen;
+    }
+
+    /**
+     * Retrieve the current player
+     *
+     * @return the current player, or null if not in a world
+     */
+    public EntityPlayer getPlayer() {
+        return player;
+    }
+
+    /**
+     * Retrieve the world the player is in
+     *
+     * @return the world the player is in, or null if not in a world
+     */
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Retrieve the provider of the current world
+     *
+     * @return the provider of the current world, or null if not in a world
+     */
+    public WorldProvider getProvider() {
+        return provider;
+    }
+
+    /**
+     * Retrieve the dimension id of the player
+     *
+     * @return the dimension id of the player
+     */
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Retrieve the X position of the player
+     *
+     * @return the X position of the player
+     */
+    public double getPosX() {
+        return posX;
+    }
+
+    /**
+     * Retrieve the Y position of the player
+     *
+     * @return the Y position of the player
+     */
+    public double getPosY() {
+        return posY;
+    }
+
+    /**
+     * Retrieve the Z position of the player
+     *
+     * @return the Z position of the player
+     */
+    public double getPosZ() {
+        return posZ;
+    }
+
+    /**
+     * Retrieve the X block position of the player
+     *
+     * @return the X block position of the player
+     */
+    public int getBlockX() {
+        return blockX;
+    }
+
+    /**
+     * Retrieve the Y block position of the player
+     *
+     * @return the Y block position of the player
+     */
+    public int getBlockY() {
+        return blockY;
+    }
+
+    /**
+     * Retrieve the Z block position of the player
+     *
+     * @return the Z block position of the player
+     */
+    public int getBlockZ() {
+        return blockZ;
+    }
+
+    /**
+     * Retrieve the current health of the player
+     *
+     * @return the current health of the player
+     */
+    public float getHealth() {
+        return health;
+    }
+
+    /**
+     * Retrieve the maximum health of the player
+     *
+     * @return the maximum health of the player
+     */
+    public float getMaxHealth() {
+        return maxHealth;
+    }
+
+    /**
+     * Retrieve the biome at the player position
+     *
+     * @return the biome at the player position, or null if not in a world
+     */
+    public Biome getBiome() {
+        return biome;
+    }
+
+    /**
+     * Retrieve the item in the main hand of the player
+     *
+     * @return the item in the main hand of the player
+     */
+    public ItemStack getMainHand() {
+        return mainHand;
+    }
+
+    /**
+     * Retrieve the item in the off hand of the player
+     *
+     * @return the item in the off hand of the player
+     */
+    public ItemStack getOffHand() {
+        return offHand;
+    }
+
+    /**
+     * Retrieve the helmet worn by the player
+     *
+     * @return the helmet worn by the player
+     */
+    public ItemStack getHelmet() {
+        return helmet;
+    }
+
+    /**
+     * Retrieve the chestplate worn by the player
+     *
+     * @return the chestplate worn by the player
+     */
+    public ItemStack getChest() {
+        return chest;
+    }
+
+    /**
+     * Retrieve the leggings worn by the player
+     *
+     * @return the leggings worn by the player
+     */
+    public ItemStack getLegs() {
+        return legs;
+    }
+
+    /**
+     * Retrieve the boots worn by the player
+     *
+     * @return the boots worn by the player
+     */
+    public ItemStack getBoots() {
+        return boots;
+    }
+
+    /**
+     * Retrieve the entity the player is looking at
+     *
+     * @return the entity the player is looking at, or null if none
+     */
+    public Entity getTarget() {
+        return target;
+    }
+
+    /**
+     * Retrieve the entity the player is riding
+     *
+     * @return the entity the player is riding, or null if none
+     */
+    public Entity getRiding() {
+        return riding;
+    }
+
+    /**
+     * Retrieve the weather name for this snapshot
+     *
+     * @return the current weather data
+     */
+    public String getWeather() {
+        return thundering ? "thunder" : raining ? "rain" : "clear";
+    }
+
+    /**
+     * Whether the current world is in hardcore mode
+     *
+     * @return {@link Boolean#TRUE} if the current world is in hardcore mode
+     */
+    public boolean isHardcore() {
+        return hardcore;
+    }
+
+    /**
+     * Retrieve the difficulty of the current world
+     *
+     * @return the difficulty of the current world, or null if not in a world
+     */
+    public EnumDifficulty getDifficulty() {
+        return difficulty;
+    }
+
+    /**
+     * Retrieve the data for the current server
+     *
+     * @return the data for the current server, or null if not connected to one
+     */
+    public ServerData getServerData() {
+        return serverData;
+    }
+
+    /**
+     * Retrieve the current network connection
+     *
+     * @return the current network connection, or null if not connected
+     */
+    public NetHandlerPlayClient getConnection() {
+        return connection;
+    }
+
+    /**
+     * Retrieve the amount of players currently online
+     *
+     * @return the amount of players currently online
+     */
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * Retrieve the maximum amount of players allowed online
+     *
+     * @return the maximum amount of players allowed online
+     */
+    public int getMaxPlayers() {
+        return maxPlayers;
+    }
+
+    /**
+     * Retrieve the world time from the most recent capture
+     * <p>Not part of the snapshot identity, so that a snapshot is not replaced on every tick
+     *
+     * @return the current world time, or 0 if not in a world
+     */
+    public static long getWorldTime() {
+        return worldTime;
+    }
+}
@@ -26,16 +26,22 @@ package com.gitlab.cdagaming.craftpresence.utils;
 
 import com.gitlab.cdagaming.craftpresence.CraftPresence;
 import com.gitlab.cdagaming.craftpresence.core.Constants;
+import com.gitlab.cdagaming.craftpresence.core.impl.BoundedCache;
+import com.gitlab.cdagaming.craftpresence.core.impl.LimitedExecutor;
+import com.gitlab.cdagaming.craftpresence.core.impl.UrlCache;
 import com.gitlab.cdagaming.craftpresence.impl.ImageFrame;
 import io.github.cdagaming.unicore.impl.Pair;
 import io.github.cdagaming.unicore.impl.Tuple;
 import io.github.cdagaming.unicore.utils.StringUtils;
-import io.github.cdagaming.unicore.utils.UrlUtils;
+import io.github.cdagaming.unicore.utils.TimeUtils;
 import net.minecraft.client.renderer.texture.DynamicTexture;
+import net.minecraft.client.renderer.texture.ITextureObject;
 import net.minecraft.util.ResourceLocation;
 
 import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.InputStream;
 import java.net.URL;
@@ -44,8 +50,13 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Image Utilities used to Parse External Image Data and rendering tasks
@@ -54,83 +65,452 @@ import java.util.concurrent.LinkedBlockingQueue;
  */
 public class ImageUtils {
     /**
-     * The Blocking Queue for URL Requests
+     * The default maximum amount of images to retain within {@link ImageUtils#cachedImages}
+     */
+    public static final int DEFAULT_MAX_IMAGES = 128;
+    /**
+     * The default maximum amount of bytes the images within {@link ImageUtils#cachedImages} may occupy
+     */
+    public static final long DEFAULT_MAX_IMAGE_BYTES = 64L * 1024L * 1024L;
+    /**
+     * The time, in milliseconds, that an image remains pinned within {@link ImageUtils#cachedImages} after being rendered
+     * <p>Images rendered within this window are not evicted, even if the cache exceeds its capacity
+     */
+    private static final long PIN_DURATION = 1000L;
+    /**
+     * The default maximum width and height for decoded animated images, which are scaled down to fit
+     */
+    public static final int DEFAULT_MAX_ANIMATED_SIZE = 256;
+    /**
+     * The maximum amount of images to fetch and decode at once
+     */
+    private static final int MAX_FETCH_THREADS = 4;
+    /**
+     * The maximum amount of images to fetch from the same host at once
+     */
+    private static final int MAX_HOST_REQUESTS = 2;
+    /**
+     * The time, in milliseconds, to wait for a connection to be established before failing a request
+     */
+    private static final int CONNECT_TIMEOUT = 10000;
+    /**
+     * The time, in milliseconds, to wait for data to be received before failing a request
+     */
+    private static final int READ_TIMEOUT = 15000;
+    /**
+     * The User Agent to identify as while fetching images
+     */
+    private static final String USER_AGENT = "Mozilla/5.0 (" + Constants.NAME + " " + Constants.VERSION_ID + ")";
+    /**
+     * The maximum combined size, in bytes, of the images stored within {@link ImageUtils#urlCache}
+     */
+    private static final long MAX_DISK_CACHE_BYTES = 128L * 1024L * 1024L;
+    /**
+     * The maximum width and height for decoded animated images, which are scaled down to fit
+     */
+    private static volatile int maxAnimatedSize = DEFAULT_MAX_ANIMATED_SIZE;
+    /**
+     * The Persistent Disk Cache for images retrieved from a {@link URL}
+     */
+    private static final UrlCache urlCache = new UrlCache(
+            new File(Constants.configDir + File.separator + Constants.MOD_ID + File.separator + "cache"),
+            MAX_DISK_CACHE_BYTES
+    );
+    /**
+     * The Worker Pool for fetching and decoding images, limited per-host
+     */
+    private static final LimitedExecutor fetchExecutor;
+    /**
+     * The in-flight fetch requests, used to prevent retrieving identical sources more than once
+     * <p>Only the raw data is shared, with each texture decoding its own frames from it
      * <p>
-     * Format: textureName;[textureInputType, textureObj]
+     * Format: [textureInputType, sourceKey];rawData
      */
-    private static final BlockingQueue<Pair<String, Pair<InputType, Object>>> urlRequests = new LinkedBlockingQueue<>();
+    private static final Map<Pair<InputType, Object>, CompletableFuture<byte[]>> pendingRequests = new ConcurrentHashMap<>();
+    /**
+     * The last time, in milliseconds, that each cached image was rendered
+     * <p>
+     * Format: textureName;renderTime
+     */
+    private static final Map<String, Long> renderTimes = new ConcurrentHashMap<>();
+    /**
+     * The completion handles for textures that have not yet been uploaded, guarded by {@link ImageUtils#cachedImages}
+     * <p>
+     * Format: textureName;textureHandle
+     */
+    private static final Map<String, CompletableFuture<ResourceLocation>> textureHandles = StringUtils.newHashMap();
+    /**
+     * Textures from removed {@link ImageUtils#cachedImages} entries, awaiting release on the render thread
+     */
+    private static final Queue<ResourceLocation> pendingReleases = new ConcurrentLinkedQueue<>();
     /**
      * Cached Images retrieved from URL Texture Retrieval
      * <p>
      * Format: textureName;[[textureInputType, textureObj], [textureIndex, imageData], textureData]
      */
-    private static final Map<String, Tuple<Pair<InputType, Object>, Pair<Integer, List<ImageFrame>>, List<ResourceLocation>>> cachedImages = StringUtils.newHashMap();
+    private static final BoundedCache<String, Tuple<Pair<InputType, Object>, Pair<Integer, List<ImageFrame>>, List<ResourceLocation>>> cachedImages = new BoundedCache<>(
+            DEFAULT_MAX_IMAGES, DEFAULT_MAX_IMAGE_BYTES,
+            ImageUtils::getResidentBytes,
+            (textureName, imageData) -> {
+                renderTimes.remove(textureName);
+                completeHandle(textureName, new ResourceLocation(""));
+                final List<ImageFrame> frames = imageData.getSecond().getSecond();
+                if (frames != null) {
+                    for (ImageFrame frame : frames) {
+                        frame.dispose();
+                    }
+                }
+                final List<ResourceLocation> resources = imageData.getThird();
+                if (resources != null) {
+                    pendingReleases.addAll(resources);
+                }
+            },
+            (textureName, imageData) -> isRecentlyRendered(textureName)
+    );
 
     static {
-        Constants.getThreadFactory().newThread(
-                () -> {
-                    try {
-                        while (!Constants.IS_GAME_CLOSING) {
-                            final Pair<String, Pair<InputType, Object>> request = urlRequests.take();
-                            boolean isGif = request.getFirst().endsWith(".gif");
-
-                            final Pair<Integer, List<ImageFrame>> bufferData = cachedImages.get(request.getFirst()).getSecond();
-                            if (bufferData != null) {
-                                // Retrieve Data from external source
-                                try {
-                                    final InputStream streamData;
-                                    final Object originData = request.getSecond().getSecond();
-                                    switch (request.getSecond().getFirst()) {
-                                        case FileData:
-                                            streamData = Files.newInputStream(((File) originData).toPath());
-                                            break;
-                                        case FileStream:
-                                            streamData = Files.newInputStream(Paths.get(originData.toString()));
-                                            break;
-                                        case ByteStream:
-                                            final Tuple<Boolean, String, String> base64Data = StringUtils.isBase64(originData.toString());
-                                            final byte[] dataSet = base64Data.getFirst() ?
-                                                    ImageFrame.decodeBase64(base64Data.getThird(), "UTF-8", false, false) :
-                                                    (originData instanceof byte[] ? (byte[]) originData : StringUtils.getBytes(originData.toString()));
-                                            streamData = dataSet != null ? new ByteArrayInputStream(dataSet) : null;
-                                            isGif = base64Data.getSecond().contains("gif");
-                                            break;
-                                        case Url:
-                                            streamData = UrlUtils.getURLStream(originData instanceof URL ? (URL) originData : new URL(originData.toString()));
-                                            isGif = originData.toString().endsWith(".gif");
-                                            break;
-                                        default:
-                                            streamData = null;
-                                            break;
-                                    }
-
-                                    if (streamData != null) {
-                                        if (isGif) {
-                                            final ImageFrame[] frames = ImageFrame.readGif(streamData);
-
-                                            for (ImageFrame frame : frames) {
-                                                try {
-                                                    bufferData.getSecond().add(frame);
-                                                } catch (Exception ex) {
-                                                    Constants.LOG.debugError(ex);
-                                                }
-                                            }
-                                        } else {
-                                            bufferData.getSecond().add(new ImageFrame(ImageIO.read(streamData)));
-                                        }
-                                        cachedImages.get(request.getFirst()).setSecond(bufferData);
-                                        cachedImages.get(request.getFirst()).setThird(new ArrayList<>(bufferData.getSecond().size()));
-                                    }
-                                } catch (Exception ex) {
-                                    Constants.LOG.debugError(ex);
-                                }
+        final ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                MAX_FETCH_THREADS, MAX_FETCH_THREADS,
+                30L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                Constants.getThreadFactory()
+        );
+        pool.allowCoreThreadTimeOut(true);
+        fetchExecutor = new LimitedExecutor(pool, MAX_HOST_REQUESTS);
+    }
+
+    /**
+     * Retrieve the raw image data from the specified source
+     *
+     * @param stream Streaming Data containing data to read
+     * @return the raw image data, or null if unable to be read
+     * @throws Exception If an error occurs during operation
+     */
+    private static byte[] readData(final Pair<InputType, Object> stream) throws Exception {
+        final InputStream streamData;
+        final Object originData = stream.getSecond();
+        switch (stream.getFirst()) {
+            case FileData:
+                streamData = Files.newInputStream(((File) originData).toPath());
+                break;
+            case FileStream:
+                streamData = Files.newInputStream(Paths.get(originData.toString()));
+                break;
+            case ByteStream:
+                final Tuple<Boolean, String, String> base64Data = StringUtils.isBase64(originData.toString());
+                return base64Data.getFirst() ?
+                        ImageFrame.decodeBase64(base64Data.getThird(), "UTF-8", false, false) :
+                        (originData instanceof byte[] ? (byte[]) originData : StringUtils.getBytes(originData.toString()));
+            case Url:
+                streamData = getUrlStream(originData instanceof URL ? (URL) originData : new URL(originData.toString()));
+                break;
+            default:
+                streamData = null;
+                break;
+        }
+
+        if (streamData != null) {
+            try (InputStream input = streamData) {
+                final ByteArrayOutputStream result = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[8192];
+                int length;
+                while ((length = input.read(buffer)) != -1) {
+                    result.write(buffer, 0, length);
+                }
+                return result.toByteArray();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Decode the specified raw image data into a new set of image frames
+     *
+     * @param textureName The texture name to Identify this as
+     * @param stream      Streaming Data the raw data was read from
+     * @param data        The raw image data to interpret
+     * @return the decoded image frames, or an empty list if unable to be read
+     * @throws Exception If an error occurs during operation
+     */
+    private static List<ImageFrame> readImage(final String textureName, final Pair<InputType, Object> stream, final byte[] data) throws Exception {
+        final List<ImageFrame> frames = StringUtils.newArrayList();
+        if (data == null) {
+            return frames;
+        }
+
+        boolean isGif = textureName.endsWith(".gif");
+        final Object originData = stream.getSecond();
+        switch (stream.getFirst()) {
+            case ByteStream:
+                isGif = StringUtils.isBase64(originData.toString()).getSecond().contains("gif");
+                break;
+            case Url:
+                isGif = originData.toString().endsWith(".gif");
+                break;
+            default:
+                break;
+        }
+
+        if (isGif) {
+            for (ImageFrame frame : ImageFrame.readGif(new ByteArrayInputStream(data), maxAnimatedSize, maxAnimatedSize)) {
+                try {
+                    frames.add(frame);
+                } catch (Exception ex) {
+                    Constants.LOG.debugError(ex);
+                }
+            }
+        } else {
+            frames.add(new ImageFrame(ImageIO.read(new ByteArrayInputStream(data))));
+        }
+        return frames;
+    }
+
+    /**
+     * Open a stream to the specified {@link URL}, failing if the connection or data takes too long
+     * <p>Responses are stored within {@link ImageUtils#urlCache}, and re-used when unchanged or offline
+     *
+     * @param url The url to open a stream for
+     * @return the resulting stream
+     * @throws Exception If an error occurs during operation
+     */
+    private static InputStream getUrlStream(final URL url) throws Exception {
+        return urlCache.getStream(url, CONNECT_TIMEOUT, READ_TIMEOUT, USER_AGENT);
+    }
+
+    /**
+     * Retrieve the key to limit concurrent requests for the specified source by
+     *
+     * @param stream Streaming Data containing data to read
+     * @return the host for remote sources, or null for local sources
+     */
+    private static String getHostKey(final Pair<InputType, Object> stream) {
+        if (stream.getFirst() == InputType.Url) {
+            try {
+                final Object originData = stream.getSecond();
+                return (originData instanceof URL ? (URL) originData : new URL(originData.toString())).getHost().toLowerCase();
+            } catch (Exception ex) {
+                Constants.LOG.debugError(ex);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrieve the comparison key for the specified source
+     * <p>{@link URL#equals(Object)} resolves hosts over the network, so urls are compared by their string form instead
+     *
+     * @param stream Streaming Data to interpret
+     * @return the comparison key for the source
+     */
+    private static Pair<InputType, Object> getSourceKey(final Pair<InputType, Object> stream) {
+        final Object originData = stream.getSecond();
+        return originData instanceof URL ? new Pair<>(stream.getFirst(), originData.toString()) : stream;
+    }
+
+    /**
+     * Whether the specified sources refer to the same data
+     *
+     * @param first  The first source to interpret
+     * @param second The second source to interpret
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    private static boolean isSameSource(final Pair<InputType, Object> first, final Pair<InputType, Object> second) {
+        return getSourceKey(first).equals(getSourceKey(second));
+    }
+
+    /**
+     * Queue the specified source to be fetched, sharing any identical in-flight request
+     *
+     * @param stream Streaming Data containing data to read
+     * @return a handle completing with the raw image data, or null if unable to be read
+     */
+    private static CompletableFuture<byte[]> fetchData(final Pair<InputType, Object> stream) {
+        final Pair<InputType, Object> requestKey = getSourceKey(stream);
+        final CompletableFuture<byte[]> request = new CompletableFuture<>();
+        final CompletableFuture<byte[]> existing = pendingRequests.putIfAbsent(requestKey, request);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            fetchExecutor.execute(getHostKey(stream), () -> {
+                byte[] data;
+                try {
+                    data = readData(stream);
+                } catch (Throwable ex) {
+                    Constants.LOG.debugError(ex);
+                    data = null;
+                }
+                pendingRequests.remove(requestKey, request);
+                request.complete(data);
+            });
+        } catch (Exception ex) {
+            Constants.LOG.debugError(ex);
+            pendingRequests.remove(requestKey, request);
+            request.complete(null);
+        }
+        return request;
+    }
+
+    /**
+     * Queue the specified source to be fetched and decoded into a new set of image frames
+     * <p>The raw data may be shared with identical in-flight requests, but the decoded frames are not
+     *
+     * @param textureName The texture name to Identify this as
+     * @param stream      Streaming Data containing data to read
+     * @return a handle completing with the decoded image frames
+     */
+    private static CompletableFuture<List<ImageFrame>> fetchImage(final String textureName, final Pair<InputType, Object> stream) {
+        return fetchData(stream).thenApplyAsync(data -> {
+            try {
+                return readImage(textureName, stream, data);
+            } catch (Throwable ex) {
+                Constants.LOG.debugError(ex);
+                return StringUtils.newArrayList();
+            }
+        }, fetchExecutor);
+    }
+
+    /**
+     * Retrieve the cached image data for the specified texture, queueing it to be retrieved if needed
+     *
+     * @param textureName The texture name to Identify this as
+     * @param stream      Streaming Data containing data to read
+     * @return the cached image data
+     */
+    private static Tuple<Pair<InputType, Object>, Pair<Integer, List<ImageFrame>>, List<ResourceLocation>> getImageData(final String textureName, final Pair<InputType, Object> stream) {
+        synchronized (cachedImages) {
+            Tuple<Pair<InputType, Object>, Pair<Integer, List<ImageFrame>>, List<ResourceLocation>> imageData = cachedImages.get(textureName);
+            if (imageData == null || !isSameSource(imageData.getFirst(), stream)) {
+                // Setup Initial data if not present (Or reset if the stream has changed)
+                //
+                // Note that the ResourceLocation needs to be
+                // initially null here for compatibility reasons
+                final Tuple<Pair<InputType, Object>, Pair<Integer, List<ImageFrame>>, List<ResourceLocation>> newData = new Tuple<>(stream, new Pair<>(0, StringUtils.newArrayList()), null);
+                cachedImages.put(textureName, newData);
+                fetchImage(textureName, stream).thenAccept(frames -> {
+                    synchronized (cachedImages) {
+                        if (cachedImages.peek(textureName) != newData) {
+                            // Evicted or replaced while fetching, so the removal listener will never see these frames
+                            for (ImageFrame frame : frames) {
+                                frame.dispose();
                             }
+                            return;
+                        }
+                        newData.setThird(new ArrayList<>(frames.size()));
+                        newData.getSecond().setSecond(frames);
+                        cachedImages.reweigh(textureName);
+                        if (textureHandles.containsKey(textureName)) {
+                            scheduleUpload(textureName, stream);
                         }
-                    } catch (Exception ex) {
-                        Constants.LOG.debugError(ex);
                     }
+                });
+                imageData = newData;
+            }
+            return imageData;
+        }
+    }
+
+    /**
+     * Retrieve a completion handle for the specified texture, queueing it to be retrieved if needed
+     * <p>The handle is completed on the render thread once the first frame has been uploaded,
+     * or with an empty location if the image could not be read or was removed before then
+     *
+     * @param textureName The texture name to Identify this as
+     * @param stream      Streaming Data containing data to read
+     * @return the completion handle for the texture
+     */
+    public static CompletableFuture<ResourceLocation> loadTexture(final String textureName, final Pair<InputType, Object> stream) {
+        if (textureName == null) {
+            return CompletableFuture.completedFuture(new ResourceLocation(""));
+        }
+        synchronized (cachedImages) {
+            final Tuple<Pair<InputType, Object>, Pair<Integer, List<ImageFrame>>, List<ResourceLocation>> imageData = getImageData(textureName, stream);
+            final List<ResourceLocation> resources = imageData.getThird();
+            if (resources != null) {
+                if (!resources.isEmpty()) {
+                    return CompletableFuture.completedFuture(resources.get(0));
+                }
+                final List<ImageFrame> frames = imageData.getSecond().getSecond();
+                if (frames == null || frames.isEmpty()) {
+                    return CompletableFuture.completedFuture(new ResourceLocation(""));
                 }
-        ).start();
+                // Decoded, but not yet uploaded
+                scheduleUpload(textureName, stream);
+            }
+            return textureHandles.computeIfAbsent(textureName, key -> new CompletableFuture<>());
+        }
+    }
+
+    /**
+     * Retrieve a completion handle for the specified texture, queueing it to be retrieved if needed
+     * <p>The handle is completed on the render thread once the first frame has been uploaded,
+     * or with an empty location if the image could not be read or was removed before then
+     *
+     * @param textureName The texture name to Identify this as
+     * @param url         The url to retrieve the texture
+     * @return the completion handle for the texture
+     */
+    public static CompletableFuture<ResourceLocation> loadTexture(final String textureName, final Object url) {
+        try {
+            return loadTexture(textureName, getStreamData(url));
+        } catch (Exception ex) {
+            Constants.LOG.debugError(ex);
+            return CompletableFuture.completedFuture(new ResourceLocation(""));
+        }
+    }
+
+    /**
+     * Retrieve the Streaming Data used to read the specified source
+     *
+     * @param url The source to interpret
+     * @return the resulting Streaming Data
+     * @throws Exception If the source is an invalid url
+     */
+    private static Pair<InputType, Object> getStreamData(final Object url) throws Exception {
+        if (url instanceof File) {
+            return new Pair<>(InputType.FileData, url);
+        } else if (url instanceof URL) {
+            return new Pair<>(InputType.Url, url);
+        } else if (url.toString().toLowerCase().startsWith("http")) {
+            return new Pair<>(InputType.Url, new URL(url.toString()));
+        } else {
+            return new Pair<>(StringUtils.isBase64(url.toString()).getFirst() ? InputType.ByteStream : InputType.FileStream, url.toString());
+        }
+    }
+
+    /**
+     * Queue the first frame of the specified texture to be uploaded on the render thread,
+     * completing its handle once uploaded
+     *
+     * @param textureName The texture name to Identify this as
+     * @param stream      Streaming Data the texture was read from
+     */
+    private static void scheduleUpload(final String textureName, final Pair<InputType, Object> stream) {
+        CraftPresence.instance.addScheduledTask(() -> {
+            final Pair<InputType, Object> source;
+            synchronized (cachedImages) {
+                final Tuple<Pair<InputType, Object>, Pair<Integer, List<ImageFrame>>, List<ResourceLocation>> imageData = cachedImages.peek(textureName);
+                source = imageData != null ? imageData.getFirst() : null;
+            }
+            if (source != null && isSameSource(source, stream)) {
+                getTextureFromUrl(textureName, stream);
+            }
+        });
+    }
+
+    /**
+     * Complete the handle for the specified texture, if one is pending
+     * <p>Must be called while holding the lock on {@link ImageUtils#cachedImages}
+     *
+     * @param textureName The texture name to interpret
+     * @param location    The texture to complete the handle with
+     */
+    private static void completeHandle(final String textureName, final ResourceLocation location) {
+        final CompletableFuture<ResourceLocation> handle = textureHandles.remove(textureName);
+        if (handle != null) {
+            handle.complete(location);
+        }
     }
 
     /**
@@ -214,55 +594,54 @@ public class ImageUtils {
      */
     public static ResourceLocation getTextureFromUrl(final String textureName, final Pair<InputType, Object> stream) {
         synchronized (cachedImages) {
-            if (!cachedImages.containsKey(textureName) || !cachedImages.get(textureName).getFirst().equals(stream)) {
-                // Setup Initial data if not present (Or reset if the stream has changed)
-                //
-                // Note that the ResourceLocation needs to be
-                // initially null here for compatibility reasons
-                cachedImages.put(textureName, new Tuple<>(stream, new Pair<>(0, StringUtils.newArrayList()), null));
-                try {
-                    urlRequests.put(new Pair<>(textureName, stream));
-                } catch (Exception ex) {
-                    Constants.LOG.debugError(ex);
-                }
-            }
+            releasePendingTextures();
 
-            final Pair<Integer, List<ImageFrame>> bufferData = cachedImages.get(textureName).getSecond();
+            final Tuple<Pair<InputType, Object>, Pair<Integer, List<ImageFrame>>, List<ResourceLocation>> imageData = getImageData(textureName, stream);
+            if (textureName != null) {
+                // Pin this image, so that it is not evicted while images drawn alongside it are loaded
+                renderTimes.put(textureName, TimeUtils.toEpochMilli());
+            }
+            final Pair<Integer, List<ImageFrame>> bufferData = imageData.getSecond();
 
             if (bufferData == null || bufferData.getSecond() == null || bufferData.getSecond().isEmpty()) {
+                if (imageData.getThird() != null) {
+                    // Retrieval has finished, without any usable frames
+                    completeHandle(textureName, new ResourceLocation(""));
+                }
                 return new ResourceLocation("");
             } else if (textureName != null) {
+                final List<ImageFrame> frames = bufferData.getSecond();
                 final boolean shouldRepeat = textureName.endsWith(".gif") || stream.getSecond().toString().contains("gif");
-                final boolean doesContinue = bufferData.getFirst() < bufferData.getSecond().size() - 1;
-
-                final List<ResourceLocation> resources = cachedImages.get(textureName).getThird();
-                if (bufferData.getFirst() < resources.size()) {
-                    final ResourceLocation texLocation = resources.get(bufferData.getFirst());
-                    if (bufferData.getSecond().get(bufferData.getFirst()).shouldRenderNext()) {
-                        if (doesContinue) {
-                            bufferData.getSecond().get(bufferData.setFirst(bufferData.getFirst() + 1)).setRenderTime();
-                        } else if (shouldRepeat) {
-                            bufferData.getSecond().get(bufferData.setFirst(0)).setRenderTime();
-                        }
-                    }
-                    return texLocation;
-                }
+
+                final List<ResourceLocation> resources = imageData.getThird();
                 try {
-                    final DynamicTexture dynTexture = new DynamicTexture(bufferData.getSecond().get(bufferData.getFirst()).getImage());
-                    final ResourceLocation cachedTexture = CraftPresence.instance.getTextureManager().getDynamicTextureLocation(textureName.toLowerCase() + (shouldRepeat ? "_" + cachedImages.get(textureName).getSecond().getFirst() : ""), dynTexture);
-                    if (bufferData.getSecond().get(bufferData.getFirst()).shouldRenderNext()) {
-                        if (doesContinue) {
-                            bufferData.getSecond().get(bufferData.setFirst(bufferData.getFirst() + 1)).setRenderTime();
-                        } else if (shouldRepeat) {
-                            bufferData.setFirst(0);
+                    if (resources.isEmpty()) {
+                        // Animated images share a single texture, which is updated in-place as frames advance
+                        final ImageFrame frame = frames.get(bufferData.getFirst());
+                        final DynamicTexture dynTexture = new DynamicTexture(frame.getImage());
+                        resources.add(CraftPresence.instance.getTextureManager().getDynamicTextureLocation(textureName.toLowerCase(), dynTexture));
+                        frame.setRenderTime();
+                        cachedImages.reweigh(textureName);
+                        completeHandle(textureName, resources.get(0));
+                    } else if (frames.size() > 1 && frames.get(bufferData.getFirst()).shouldRenderNext()) {
+                        final boolean doesContinue = bufferData.getFirst() < frames.size() - 1;
+                        if (doesContinue || shouldRepeat) {
+                            final ImageFrame frame = frames.get(bufferData.setFirst(doesContinue ? bufferData.getFirst() + 1 : 0));
+                            final ITextureObject texture = CraftPresence.instance.getTextureManager().getTexture(resources.get(0));
+                            if (texture instanceof DynamicTexture) {
+                                updateTexture((DynamicTexture) texture, frame.getImage());
+                            }
+                            frame.setRenderTime();
+
+                            // Decode the following frame ahead of time, away from the render thread
+                            final ImageFrame nextFrame = frames.get((bufferData.getFirst() + 1) % frames.size());
+                            fetchExecutor.execute(nextFrame::prepare);
                         }
                     }
-                    if (!resources.contains(cachedTexture)) {
-                        resources.add(cachedTexture);
-                    }
-                    return cachedTexture;
+                    return resources.get(0);
                 } catch (Exception ex) {
                     Constants.LOG.debugError(ex);
+                    completeHandle(textureName, new ResourceLocation(""));
                     return new ResourceLocation("");
                 }
             } else {
@@ -271,6 +650,135 @@ public class ImageUtils {
         }
     }
 
+    /**
+     * Upload the specified image into an existing texture, re-using its texture object
+     * <p>The image is skipped if it does not match the size of the texture
+     *
+     * @param texture The texture to update
+     * @param image   The image to upload
+     */
+    private static void updateTexture(final DynamicTexture texture, final BufferedImage image) {
+        final int[] textureData = texture.getTextureData();
+        if (image != null && image.getWidth() * image.getHeight() == textureData.length) {
+            image.getRGB(0, 0, image.getWidth(), image.getHeight(), textureData, 0, image.getWidth());
+            texture.updateDynamicTexture();
+        }
+    }
+
+    /**
+     * Release any textures from removed {@link ImageUtils#cachedImages} entries
+     * <p>Must be called from the render thread, as this frees GPU resources
+     */
+    private static void releasePendingTextures() {
+        ResourceLocation location;
+        while ((location = pendingReleases.poll()) != null) {
+            try {
+                CraftPresence.instance.getTextureManager().deleteTexture(location);
+            } catch (Exception ex) {
+                Constants.LOG.debugError(ex);
+            }
+        }
+    }
+
+    /**
+     * Determine whether the specified image has been rendered within the last {@link ImageUtils#PIN_DURATION}
+     *
+     * @param textureName The texture name to interpret
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    private static boolean isRecentlyRendered(final String textureName) {
+        final Long renderTime = renderTimes.get(textureName);
+        return renderTime != null && TimeUtils.toEpochMilli() - renderTime < PIN_DURATION;
+    }
+
+    /**
+     * Estimate the amount of memory occupied by the specified image data
+     * <p>Accounts for both the decoded frames and any textures created from them
+     *
+     * @param imageData The image data to interpret
+     * @return the estimated amount of occupied bytes
+     */
+    private static long getResidentBytes(final Tuple<Pair<InputType, Object>, Pair<Integer, List<ImageFrame>>, List<ResourceLocation>> imageData) {
+        final List<ImageFrame> frames = imageData.getSecond() != null ? imageData.getSecond().getSecond() : null;
+        if (frames == null) {
+            return 0;
+        }
+        final int textureCount = imageData.getThird() != null ? imageData.getThird().size() : 0;
+        long result = 0;
+        for (int i = 0; i < frames.size(); i++) {
+            final ImageFrame frame = frames.get(i);
+            result += frame.getResidentBytes();
+            // Textures keep their own copy of the frame data, alongside the decoded frame
+            if (i < textureCount) {
+                result += frame.getTextureBytes();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Write any pending changes to the persistent image cache to disk
+     */
+    public static void flushCache() {
+        urlCache.flush();
+    }
+
+    /**
+     * Sets the capacity limits for cached images, evicting any excess images
+     *
+     * @param maxImages The maximum amount of images to retain
+     * @param maxBytes  The maximum amount of bytes the retained images may occupy
+     */
+    public static void setCacheLimits(final int maxImages, final long maxBytes) {
+        cachedImages.setMaxSize(maxImages);
+        cachedImages.setMaxWeight(maxBytes);
+    }
+
+    /**
+     * Sets the maximum width and height for newly decoded animated images
+     *
+     * @param maxSize The maximum width and height, in pixels
+     */
+    public static void setMaxAnimatedSize(final int maxSize) {
+        maxAnimatedSize = Math.max(1, maxSize);
+    }
+
+    /**
+     * Retrieve the amount of successful lookups performed on the image cache
+     *
+     * @return the current hit count
+     */
+    public static long getCacheHits() {
+        return cachedImages.getHits();
+    }
+
+    /**
+     * Retrieve the amount of unsuccessful lookups performed on the image cache
+     *
+     * @return the current miss count
+     */
+    public static long getCacheMisses() {
+        return cachedImages.getMisses();
+    }
+
+    /**
+     * Retrieve the amount of images that have been evicted from the image cache
+     *
+     * @return the current eviction count
+     */
+    public static long getCacheEvictions() {
+        return cachedImages.getEvictions();
+    }
+
+    /**
+     * Retrieve the estimated amount of bytes occupied by the image cache
+     *
+     * @return the estimated amount of occupied bytes
+     */
+    public static long getCacheResidentBytes() {
+        return cachedImages.getTotalWeight();
+    }
+
     /**
      * Detects whether the specified Texture lacks critical information
      *
@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.utils;
+
+import com.gitlab.cdagaming.craftpresence.CraftPresence;
+import com.gitlab.cdagaming.craftpresence.core.impl.ModuleEvent;
+import com.gitlab.cdagaming.craftpresence.core.impl.ModuleEventBus;
+import com.gitlab.cdagaming.craftpresence.core.impl.discord.DiscordStatus;
+
+/**
+ * Detects changes in the game state, and posts them as {@link ModuleEvent} data
+ * <p>
+ * Changes are found by comparing the references and primitive values of two {@link GameState} snapshots,
+ * so that an idle client performs minimal work between real changes
+ * <p>
+ * Events that the mod loader posts directly, as flagged by {@link ModuleEventBus#setProvided(ModuleEvent...)},
+ * are not detected here
+ *
+ * @author CDAGaming
+ */
+public class ModuleEventProbe {
+    /**
+     * The last compared game state
+     */
+    private GameState lastState = GameState.EMPTY;
+    /**
+     * The last detected RPC Status
+     */
+    private DiscordStatus lastStatus;
+
+    /**
+     * Compare the current game state against the last detected state, posting any changes
+     *
+     * @param state The current game state
+     * @param bus   The event bus to post changes to
+     */
+    public void detectChanges(final GameState state, final ModuleEventBus bus) {
+        final GameState last = lastState;
+        final DiscordStatus status = CraftPresence.CLIENT.STATUS;
+        if (state == last && status == lastStatus) {
+            return;
+        }
+        lastState = state;
+
+        if (state.getPlayer() != last.getPlayer()) {
+            bus.post(ModuleEvent.PLAYER_CHANGE);
+        }
+
+        if (!bus.isProvided(ModuleEvent.SCREEN_CHANGE) && state.getScreen() != last.getScreen()) {
+            bus.post(ModuleEvent.SCREEN_CHANGE);
+        }
+
+        if (state.getServerData() != last.getServerData() || state.getConnection() != last.getConnection() ||
+                state.getPlayerCount() != last.getPlayerCount() || status != lastStatus) {
+            lastStatus = status;
+            bus.post(ModuleEvent.SERVER_CHANGE);
+        }
+
+        if (state.getPlayer() != null) {
+            if (!bus.isProvided(ModuleEvent.DIMENSION_CHANGE) &&
+                    (state.getWorld() != last.getWorld() || state.getDimension() != last.getDimension())) {
+                bus.post(ModuleEvent.DIMENSION_CHANGE);
+            }
+
+            if (state.getBlockX() != last.getBlockX() || state.getBlockZ() != last.getBlockZ()) {
+                bus.post(ModuleEvent.POSITION_CHANGE);
+            }
+
+            if (state.getTarget() != last.getTarget() || state.getRiding() != last.getRiding()) {
+                bus.post(ModuleEvent.TARGET_CHANGE);
+            }
+
+            if (state.getMainHand() != last.getMainHand() || state.getOffHand() != last.getOffHand() ||
+                    state.getHelmet() != last.getHelmet() || state.getChest() != last.getChest() ||
+                    state.getLegs() != last.getLegs() || state.getBoots() != last.getBoots()) {
+                bus.post(ModuleEvent.HELD_ITEM_CHANGE);
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.utils;
+
+import com.gitlab.cdagaming.craftpresence.CraftPresence;
+import com.gitlab.cdagaming.craftpresence.core.Constants;
+import com.gitlab.cdagaming.craftpresence.core.impl.Module;
+import com.gitlab.cdagaming.craftpresence.core.impl.ModuleTickState;
+import io.github.cdagaming.unicore.impl.Pair;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * An Execution Engine for ticking independent {@link Module} instances concurrently
+ * <p>
+ * Placeholder updates made by each module are captured on its worker thread, and
+ * merged in module order on the ticking thread; A module that is still running when the
+ * tick budget expires is merged on a later tick, without delaying other modules
+ * <p>
+ * Waiting for running modules is separate from merging their updates, so that
+ * the ticking thread does not hold the tick lock while waiting
+ *
+ * @author CDAGaming
+ */
+public class ModuleExecutor {
+    /**
+     * The maximum amount of modules to tick at once
+     */
+    private static final int MAX_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+    /**
+     * The executor used to tick modules concurrently
+     */
+    private final ThreadPoolExecutor executor;
+    /**
+     * A mapping of the modules currently being ticked
+     * <p>Format: moduleId, (elapsedTime, capturedUpdates)
+     * <p>Modified while holding the tick lock, but read by {@link ModuleExecutor#await(long)} without it
+     */
+    private final Map<String, Future<Pair<Long, List<Runnable>>>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Initializes a new Module Executor
+     */
+    public ModuleExecutor() {
+        executor = new ThreadPoolExecutor(
+                MAX_THREADS, MAX_THREADS,
+                30L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                Constants.getThreadFactory()
+        );
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Tick the specified module, capturing any placeholder updates it makes
+     *
+     * @param module The module to interpret
+     * @return the time spent ticking the module, and the captured updates
+     */
+    private static Pair<Long, List<Runnable>> run(final Module module) {
+        CraftPresence.CLIENT.beginDeferredUpdates();
+        try {
+            final long startTime = System.nanoTime();
+            module.onTick();
+            final long elapsedTime = System.nanoTime() - startTime;
+            return new Pair<>(elapsedTime, CraftPresence.CLIENT.endDeferredUpdates());
+        } catch (Throwable ex) {
+            // Discard partial updates, with the exception passed on once merged
+            CraftPresence.CLIENT.endDeferredUpdates();
+            throw ex;
+        }
+    }
+
+    /**
+     * Whether the specified module is currently being ticked
+     *
+     * @param moduleId The module id to interpret
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean isRunning(final String moduleId) {
+        return inFlight.containsKey(moduleId);
+    }
+
+    /**
+     * Begin ticking the specified module on a worker thread
+     *
+     * @param moduleId The module id to interpret
+     * @param module   The module to tick
+     */
+    public void submit(final String moduleId, final Module module) {
+        if (!isRunning(moduleId)) {
+            inFlight.put(moduleId, executor.submit(() -> run(module)));
+        }
+    }
+
+    /**
+     * Wait for running modules to finish ticking, without applying their updates
+     * <p>Failures are not reported here, and are instead passed on once merged
+     *
+     * @param timeout The maximum time to wait for running modules, in milliseconds, or a negative value to wait until complete
+     */
+    public void await(final long timeout) {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        // Copied first, as modules may be submitted or merged by another thread while waiting
+        final List<Future<Pair<Long, List<Runnable>>>> futures = new ArrayList<>(inFlight.values());
+        for (Future<Pair<Long, List<Runnable>>> future : futures) {
+            try {
+                if (timeout < 0) {
+                    future.get();
+                } else {
+                    future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                }
+            } catch (TimeoutException ex) {
+                // Budget exhausted, remaining modules are merged on a later tick
+                return;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException | CancellationException ignored) {
+                // Reported once merged
+            }
+        }
+    }
+
+    /**
+     * Apply the captured updates from any modules that have finished ticking
+     * <p>Modules that are still running are left to be merged on a later tick
+     *
+     * @param moduleIds The module ids to merge, in the order their updates should be applied
+     * @param states    The polling state for each module, to record results to
+     * @throws Throwable If a module failed while ticking
+     */
+    public void merge(final Iterable<String> moduleIds, final Map<String, ModuleTickState> states) throws Throwable {
+        for (String moduleId : moduleIds) {
+            final Future<Pair<Long, List<Runnable>>> future = inFlight.get(moduleId);
+            if (future == null || !future.isDone()) {
+                continue;
+            }
+            inFlight.remove(moduleId);
+
+            final Pair<Long, List<Runnable>> result;
+            try {
+                result = future.get();
+            } catch (ExecutionException ex) {
+                throw ex.getCause() != null ? ex.getCause() : ex;
+            }
+
+            final long revision = CraftPresence.CLIENT.getPlaceholderRevision();
+            for (Runnable update : result.getSecond()) {
+                update.run();
+            }
+            final ModuleTickState state = states.get(moduleId);
+            if (state != null) {
+                state.record(result.getFirst(), revision != CraftPresence.CLIENT.getPlaceholderRevision());
+            }
+        }
+    }
+}
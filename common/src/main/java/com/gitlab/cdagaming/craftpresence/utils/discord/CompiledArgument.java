@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.utils.discord;
+
+import org.meteordev.starscript.value.Value;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * A String Placeholder, compiled once and re-used across reads
+ * <p>Plain strings are resolved upon creation, while expressions are compiled upon first use,
+ * with their result re-used until a placeholder they read has changed
+ *
+ * @author CDAGaming
+ */
+public class CompiledArgument implements Supplier<Value> {
+    /**
+     * The {@link DiscordUtils} instance this argument is evaluated against
+     */
+    private final DiscordUtils owner;
+    /**
+     * The original string data for this argument
+     */
+    private final String data;
+    /**
+     * The resolved value for this argument, if it is a plain string
+     */
+    private final Value literal;
+    /**
+     * The compiled expression for this argument, if any
+     */
+    private Supplier<Value> evaluator;
+    /**
+     * The placeholder key-set version that was in-use while compiling the expression
+     */
+    private long compiledVersion = -1L;
+    /**
+     * The last evaluated result for this argument
+     */
+    private Value result;
+    /**
+     * The placeholder names that were read while evaluating the last result
+     */
+    private volatile Set<String> dependencies = Collections.emptySet();
+    /**
+     * Whether a placeholder read by the last result has changed since it was evaluated
+     */
+    private volatile boolean dirty = true;
+    /**
+     * Whether the last result read data that can change without being re-synchronized
+     */
+    private boolean isVolatile = true;
+
+    /**
+     * Initializes a new Compiled Argument
+     *
+     * @param owner The {@link DiscordUtils} instance this argument is evaluated against
+     * @param data  The original string data for this argument
+     * @param plain Whether the data should be parsed as a plain string
+     */
+    public CompiledArgument(final DiscordUtils owner, final String data, final boolean plain) {
+        this.owner = owner;
+        this.data = data;
+        this.literal = plain ? Value.string(data) : null;
+    }
+
+    /**
+     * Retrieve the original string data for this argument
+     *
+     * @return the original string data
+     */
+    public String getData() {
+        return data;
+    }
+
+    @Override
+    public Value get() {
+        if (literal != null) {
+            return literal;
+        }
+        synchronized (this) {
+            final long version = owner.getPlaceholderVersion();
+            if (result != null && !dirty && !isVolatile && version == compiledVersion) {
+                DependencyTracker.report(dependencies);
+                return result;
+            }
+
+            if (evaluator == null || version != compiledVersion) {
+                evaluator = owner.compileData(data);
+                compiledVersion = version;
+            }
+
+            final long revision = owner.getPlaceholderRevision();
+            dirty = false;
+            final DependencyTracker tracker = DependencyTracker.begin();
+            try {
+                result = evaluator.get();
+            } finally {
+                tracker.end();
+            }
+            dependencies = tracker.getDependencies();
+            isVolatile = tracker.isVolatile();
+            if (revision != owner.getPlaceholderRevision()) {
+                // Data changed while we were evaluating, so we can't trust this result next time
+                dirty = true;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Whether the last result read the specified placeholder while being evaluated
+     *
+     * @param name The placeholder name to interpret
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean dependsOn(final String name) {
+        return dependencies.contains(name);
+    }
+
+    /**
+     * Flag this argument as needing to be re-evaluated
+     */
+    public void markDirty() {
+        dirty = true;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.utils.discord;
+
+import org.meteordev.starscript.Script;
+import org.meteordev.starscript.utils.VariableReplacementTransformer;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A Compiled {@link Script}, alongside the variable replacements applied while compiling it
+ *
+ * @author CDAGaming
+ */
+public class CompiledScript {
+    /**
+     * The compiled {@link Script} instance
+     */
+    private final Script script;
+    /**
+     * The {@link VariableReplacementTransformer} results that were applied to the script
+     * <p>Format: variableName, replacedName
+     */
+    private final Map<String, String> bindings;
+    /**
+     * The placeholder key-set version that was in-use while compiling the script
+     */
+    private final long version;
+
+    /**
+     * Initializes a new Compiled Script
+     *
+     * @param script   The compiled {@link Script} instance
+     * @param bindings The variable replacements that were applied to the script
+     * @param version  The placeholder key-set version that was in-use while compiling the script
+     */
+    public CompiledScript(final Script script, final Map<String, String> bindings, final long version) {
+        this.script = script;
+        this.bindings = bindings;
+        this.version = version;
+    }
+
+    /**
+     * Retrieve the compiled {@link Script} instance
+     *
+     * @return the compiled {@link Script} instance
+     */
+    public Script getScript() {
+        return script;
+    }
+
+    /**
+     * Retrieve the variable replacements that were applied to the script
+     *
+     * @return the variable replacements applied to the script
+     */
+    public Map<String, String> getBindings() {
+        return bindings;
+    }
+
+    /**
+     * Retrieve the placeholder key-set version that was in-use while compiling the script
+     *
+     * @return the placeholder key-set version for this script
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Whether the variable replacements for this script would still resolve to the same results
+     *
+     * @param version  The current placeholder key-set version
+     * @param resolver The function used to resolve the current replacement for a variable
+     * @return {@link Boolean#TRUE} if this script can be re-used as-is
+     */
+    public boolean isValid(final long version, final Function<String, String> resolver) {
+        if (this.version != version) {
+            return false;
+        }
+        for (Map.Entry<String, String> binding : bindings.entrySet()) {
+            if (!Objects.equals(binding.getValue(), resolver.apply(binding.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.utils.discord;
+
+import org.meteordev.starscript.value.Value;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Records which placeholders are read while evaluating an expression
+ * <p>Placeholders wrapped through {@link DependencyTracker#track(String, Supplier, boolean)}
+ * report their name to the collection currently active on the calling thread, if any
+ *
+ * @author CDAGaming
+ */
+public class DependencyTracker {
+    /**
+     * The dependency collection currently active on each thread
+     */
+    private static final ThreadLocal<DependencyTracker> ACTIVE = new ThreadLocal<>();
+    /**
+     * The placeholder names that have been read during this collection
+     */
+    private final Set<String> dependencies = new HashSet<>();
+    /**
+     * The collection that was active before this one began, if any
+     */
+    private final DependencyTracker parent;
+    /**
+     * Whether a value was read that can change without its placeholder being re-synchronized
+     */
+    private boolean isVolatile = false;
+
+    /**
+     * Initializes a new Dependency Collection
+     *
+     * @param parent The collection that was active before this one began, if any
+     */
+    private DependencyTracker(final DependencyTracker parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Begin collecting placeholder reads on the calling thread
+     *
+     * @return the newly active collection
+     */
+    public static DependencyTracker begin() {
+        final DependencyTracker result = new DependencyTracker(ACTIVE.get());
+        ACTIVE.set(result);
+        return result;
+    }
+
+    /**
+     * Wraps the specified placeholder, reporting any reads of it to the active collection
+     *
+     * @param name   The placeholder name to interpret
+     * @param data   The placeholder to wrap
+     * @param isPure Whether a function value from this placeholder only depends on its arguments
+     * @return the resulting placeholder
+     */
+    public static Supplier<Value> track(final String name, final Supplier<Value> data, final boolean isPure) {
+        return () -> {
+            final Value result = data.get();
+            final DependencyTracker tracker = ACTIVE.get();
+            if (tracker != null) {
+                tracker.dependencies.add(name);
+                if (result.isObject() || result.isMap() || (result.isFunction() && !isPure)) {
+                    tracker.isVolatile = true;
+                }
+            }
+            return result;
+        };
+    }
+
+    /**
+     * Report previously collected placeholder reads to the active collection, if any
+     * <p>Used when re-using a result whose placeholders were read during an earlier collection
+     *
+     * @param names The placeholder names to report
+     */
+    public static void report(final Set<String> names) {
+        final DependencyTracker tracker = ACTIVE.get();
+        if (tracker != null && names != null) {
+            tracker.dependencies.addAll(names);
+        }
+    }
+
+    /**
+     * Stop collecting placeholder reads, restoring the previously active collection
+     * <p>Any reads made during this collection are also reported to the previous one
+     *
+     * @return this collection
+     */
+    public DependencyTracker end() {
+        if (parent != null) {
+            parent.dependencies.addAll(dependencies);
+            parent.isVolatile |= isVolatile;
+            ACTIVE.set(parent);
+        } else {
+            ACTIVE.remove();
+        }
+        return this;
+    }
+
+    /**
+     * Retrieve the placeholder names that have been read during this collection
+     *
+     * @return the placeholder names that have been read
+     */
+    public Set<String> getDependencies() {
+        return dependencies;
+    }
+
+    /**
+     * Whether a value was read that can change without its placeholder being re-synchronized
+     * <p>Results relying on volatile data should not be re-used
+     *
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean isVolatile() {
+        return isVolatile;
+    }
+}
@@ -31,10 +31,12 @@ import com.gitlab.cdagaming.craftpresence.core.Constants;
 import com.gitlab.cdagaming.craftpresence.core.config.element.Button;
 import com.gitlab.cdagaming.craftpresence.core.config.element.ModuleData;
 import com.gitlab.cdagaming.craftpresence.core.config.element.PresenceData;
+import com.gitlab.cdagaming.craftpresence.core.impl.BoundedCache;
 import com.gitlab.cdagaming.craftpresence.core.impl.discord.DiscordStatus;
 import com.gitlab.cdagaming.craftpresence.core.impl.discord.PartyPrivacy;
 import com.gitlab.cdagaming.craftpresence.integrations.discord.FunctionsLib;
 import com.gitlab.cdagaming.craftpresence.utils.CommandUtils;
+import com.gitlab.cdagaming.craftpresence.utils.ImageUtils;
 import com.gitlab.cdagaming.craftpresence.utils.discord.assets.DiscordAsset;
 import com.gitlab.cdagaming.craftpresence.utils.discord.assets.DiscordAssetUtils;
 import com.google.gson.JsonArray;
@@ -63,8 +65,14 @@ import org.meteordev.starscript.value.Value;
 import org.meteordev.starscript.value.ValueMap;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 
 /**
@@ -73,6 +81,22 @@ import java.util.function.Supplier;
  * @author CDAGaming
  */
 public class DiscordUtils {
+    /**
+     * The maximum amount of compiled expressions to retain at once
+     */
+    private static final int MAX_COMPILED_SCRIPTS = 512;
+    /**
+     * The maximum amount of resolved image requests to retain at once
+     */
+    private static final int MAX_CACHED_IMAGES = 256;
+    /**
+     * The delay before the second connection attempt, in milliseconds
+     */
+    private static final long RECONNECT_BASE_DELAY = 1000L;
+    /**
+     * The maximum delay between connection attempts, in milliseconds
+     */
+    private static final long RECONNECT_MAX_DELAY = 30000L;
     /**
      * A mapping of the arguments that have overwritten module data
      */
@@ -80,13 +104,49 @@ public class DiscordUtils {
     /**
      * A Mapping of the Arguments available to use as RPC Message Placeholders
      */
-    private final Map<String, Supplier<Value>> placeholderData = StringUtils.newTreeMap();
+    private final PlaceholderRegistry placeholderData = new PlaceholderRegistry();
     /**
      * A Mapping of the Last Requested Image Data
      * <p>Used to cache data for repeated images in other areas
-     * <p>Format: evalKey, resultingKey
+     * <p>Format: (catalogVersion, allowNull, defaultIcon, evalStrings...), resultingKey
+     */
+    private final BoundedCache<List<Object>, String> cachedImageData = new BoundedCache<>(MAX_CACHED_IMAGES);
+    /**
+     * The catalog version the cached Image Data was resolved against
+     */
+    private volatile long cachedImageVersion = -1L;
+    /**
+     * A Mapping of the Last Compiled Expression Data
+     * <p>Used to avoid re-parsing and re-compiling unchanged expressions
+     * <p>Format: (overrideId, expression, placeholderReplacements), compiledScript
      */
-    private final Map<String, String> cachedImageData = StringUtils.newHashMap();
+    private final BoundedCache<String, CompiledScript> compiledScripts = new BoundedCache<>(MAX_COMPILED_SCRIPTS);
+    /**
+     * A Mapping of the immutable source data for each placeholder, if any
+     * <p>Used to skip re-synchronizing placeholders whose data has not changed
+     */
+    private final Map<String, Object> placeholderSources = new ConcurrentHashMap<>();
+    /**
+     * A Mapping of the placeholders that read their data from live sources upon access
+     * <p>Used to register such placeholders once, and only flag them as changed when their source data changes
+     */
+    private final Map<String, LazyPlaceholder> lazyPlaceholders = new ConcurrentHashMap<>();
+    /**
+     * A Mapping of the Dynamic Variables that have been registered as lazy placeholders
+     * <p>Format: variableName, argumentName
+     */
+    private final Map<String, String> dynamicArguments = new ConcurrentHashMap<>();
+    /**
+     * A Mapping of the Last Evaluated Rich Presence Fields
+     * <p>Used to skip re-evaluating fields whose placeholders have not changed
+     * <p>Format: overrideId, fieldData
+     */
+    private final Map<String, PresenceField> presenceFields = new ConcurrentHashMap<>();
+    /**
+     * The compiled string placeholders that have been created, used to invalidate their results when their dependencies change
+     * <p>Held weakly, so that replaced placeholders can be collected
+     */
+    private final Set<CompiledArgument> compiledArguments = Collections.newSetFromMap(new WeakHashMap<>());
     /**
      * The Current User, tied to the Rich Presence
      */
@@ -98,7 +158,7 @@ public class DiscordUtils {
     /**
      * The current RPC Status (Ex: ready, errored, disconnected)
      */
-    public DiscordStatus STATUS = DiscordStatus.Closed;
+    public volatile DiscordStatus STATUS = DiscordStatus.Closed;
     /**
      * The Current Message tied to the Party/Game Status Field of the RPC
      */
@@ -163,6 +223,11 @@ public class DiscordUtils {
      * How many attempts to make a connection to Discord, before failing
      */
     public int MAX_CONNECTION_ATTEMPTS;
+    /**
+     * The minimum time between sending {@link RichPresence} packets, in milliseconds
+     * <p>Updates made within this interval are coalesced, with only the latest being sent
+     */
+    public int PRESENCE_SEND_INTERVAL;
     /**
      * The Current Starting Unix Timestamp from Epoch, used for Elapsed Time
      */
@@ -223,22 +288,59 @@ public class DiscordUtils {
      */
     public PresenceData forcedData = null;
     /**
-     * An Instance containing the Current Rich Presence Data
+     * The Last Successfully Sent Rich Presence Data, paired with its {@link PresenceFingerprint}, if known
      * <p>Also used to prevent sending duplicate packets with the same presence data, if any
      */
-    private RichPresence currentPresence;
+    private volatile Pair<RichPresence, PresenceFingerprint> currentPresence = null;
     /**
-     * The duration or timestamp of the last running instance
+     * The Last Rich Presence Data queued for sending, paired with its {@link PresenceFingerprint}, if known
+     * <p>Only compared against while the {@link PresenceSender} still has a pending presence
      */
-    private long lastStartTime;
+    private volatile Pair<RichPresence, PresenceFingerprint> queuedPresence = null;
+    /**
+     * The last {@link RichPresence} built through {@link DiscordUtils#buildRichPresence(PresenceData)}
+     */
+    private RichPresence lastBuiltPresence;
+    /**
+     * The {@link PresenceFingerprint} of the last built {@link RichPresence}
+     */
+    private PresenceFingerprint lastBuiltFingerprint;
+    /**
+     * The Send Stage for {@link RichPresence} packets, used to coalesce and rate-limit updates
+     * <p>Sends run on the IPC thread of {@link DiscordUtils#reconnectScheduler}, serialising them against connection attempts
+     */
+    private final PresenceSender presenceSender = new PresenceSender(
+            this::sendPresence, this::isConnected, () -> this.reconnectScheduler.getExecutor(), 0
+    );
+    /**
+     * The amount of {@link RichPresence} packets that have been suppressed as duplicates
+     */
+    private final AtomicLong suppressedPackets = new AtomicLong();
+    /**
+     * The amount of placeholder value changes that have occurred, used to detect changes during evaluation
+     */
+    private final AtomicLong placeholderRevision = new AtomicLong();
     /**
-     * Whether the Auto-Reconnection Thread is currently in progress
+     * The placeholder updates captured on the current thread, if capturing is active
+     * <p>Used to defer updates made by concurrently running modules, to be applied in order later
      */
-    private boolean connectThreadActive = false;
+    private final ThreadLocal<List<Runnable>> deferredUpdates = new ThreadLocal<>();
     /**
-     * How many attempts remain before giving up on connecting to an IPC Pipe
+     * The duration or timestamp of the last running instance
+     */
+    private long lastStartTime;
+    /**
+     * The Auto-Reconnection Stage, used to connect to an IPC Pipe with backoff between attempts
      */
-    private int attemptsRemaining = 0;
+    private final ReconnectScheduler reconnectScheduler = new ReconnectScheduler(
+            this::attemptConnection,
+            () -> !isClosed() && !Constants.IS_GAME_CLOSING,
+            () -> {
+                Constants.LOG.error(Constants.TRANSLATOR.translate("craftpresence.logger.error.connect"));
+                STATUS = DiscordStatus.Closed;
+            },
+            RECONNECT_BASE_DELAY, RECONNECT_MAX_DELAY
+    );
 
     /**
      * Setup any Critical Methods needed for the RPC
@@ -247,6 +349,7 @@ public class DiscordUtils {
         Runtime.getRuntime().addShutdownHook(
                 Constants.getThreadFactory().newThread(() -> {
                     Constants.IS_GAME_CLOSING = true;
+                    ImageUtils.flushCache();
                     FileUtils.shutdownSchedulers();
                     shutDown();
                 })
@@ -254,6 +357,7 @@ public class DiscordUtils {
 
         // Setup Default / Static Placeholders
         FunctionsLib.init(scriptEngine);
+        trackScriptArguments();
         syncArgument("general.mods", Constants.getModCount());
         syncArgument("general.title", Constants.TRANSLATOR.translate("craftpresence.defaults.state.mc.version", ModUtils.MCVersion));
         syncArgument("general.version", ModUtils.MCVersion);
@@ -273,8 +377,9 @@ public class DiscordUtils {
         // Create IPC Instance
         ipcInstance = new IPCClient(Long.parseLong(CLIENT_ID), debugMode, verboseMode, AUTO_REGISTER, CLIENT_ID);
         ipcInstance.setListener(new ModIPCListener());
+        presenceSender.setSendInterval(PRESENCE_SEND_INTERVAL);
         // Initialize Discord Assets
-        DiscordAssetUtils.loadAssets(CLIENT_ID, true);
+        DiscordAssetUtils.loadAssetsAsync(CLIENT_ID);
         // Mark as Disconnected to trigger auto-sync
         STATUS = DiscordStatus.Disconnected;
     }
@@ -310,10 +415,16 @@ public class DiscordUtils {
 
     /**
      * Attempt to Connect to the {@link IPCClient} service
+     *
+     * @param attemptCount The current attempt number
+     * @param isCancelled  Whether this attempt has since been cancelled, such as by {@link DiscordUtils#shutDown(boolean)}
+     * @return {@link Boolean#TRUE} if the connection was successful
      */
-    private void attemptConnection() {
+    private boolean attemptConnection(final int attemptCount, final BooleanSupplier isCancelled) {
+        if (isConnected()) {
+            return true;
+        }
         try {
-            final int attemptCount = (MAX_CONNECTION_ATTEMPTS - attemptsRemaining) + 1;
             Constants.LOG.info(Constants.TRANSLATOR.translate("craftpresence.logger.info.connect", attemptCount, MAX_CONNECTION_ATTEMPTS));
             if (PREFERRED_CLIENT != DiscordBuild.ANY) {
                 ipcInstance.connect(PREFERRED_CLIENT, DiscordBuild.ANY);
@@ -321,13 +432,19 @@ public class DiscordUtils {
                 ipcInstance.connect();
             }
 
+            if (isCancelled.getAsBoolean() || isClosed()) {
+                // Shutdown while we were connecting, so this connection must not be initialized
+                ipcInstance.close();
+                return false;
+            }
+
             // Subscribe to RPC Events after Connection
             ipcInstance.subscribe(IPCClient.Event.ACTIVITY_JOIN);
             ipcInstance.subscribe(IPCClient.Event.ACTIVITY_JOIN_REQUEST);
             ipcInstance.subscribe(IPCClient.Event.ACTIVITY_SPECTATE);
 
             postInit();
-            connectThreadActive = false;
+            return true;
         } catch (Exception ex) {
             if (ex.getClass() != NoDiscordClientException.class) {
                 Constants.LOG.error(Constants.TRANSLATOR.translate("craftpresence.logger.error.connect"));
@@ -335,8 +452,8 @@ public class DiscordUtils {
 
                 // Mark as Closed if we experience an actual Exception
                 STATUS = DiscordStatus.Closed;
-                connectThreadActive = false;
             }
+            return false;
         }
     }
 
@@ -404,19 +521,61 @@ public class DiscordUtils {
      */
     @SafeVarargs
     public final Supplier<Value> compileData(final String input, final String overrideId, final boolean plain, final Pair<String, Supplier<String>>... replacements) {
-        synchronized (placeholderData) {
-            final Map<String, Supplier<Value>> placeholders = StringUtils.newTreeMap(placeholderData);
-            final String data = StringUtils.getOrDefault(input);
+        final String data = StringUtils.getOrDefault(input);
+
+        if (!plain) {
+            final long version = placeholderData.getVersion();
+            final Map<String, Supplier<Value>> placeholders = placeholderData.getView();
+            final String expression = inlineReplacements(data, placeholders, replacements);
+            final String scriptKey = getScriptKey(expression, overrideId, placeholders, replacements);
+
+            final CompiledScript cachedScript = compiledScripts.get(scriptKey);
+            if (cachedScript != null && cachedScript.isValid(version,
+                    name -> resolveReplacer(name, overrideId, placeholders, replacements)
+            )) {
+                return getScriptResult(expression, cachedScript.getScript(), Constants.LOG.isDebugMode(), null);
+            }
 
-            if (!plain) {
-                final Pair<String, VariableReplacementTransformer> resultData = generateTransformer(
-                        data, overrideId, placeholders, replacements
-                );
-                return getCompileResult(resultData.getFirst(), null, resultData.getSecond());
-            } else {
-                return () -> Value.string(data);
+            final Map<String, String> bindings = StringUtils.newHashMap();
+            final Pair<String, VariableReplacementTransformer> resultData = generateTransformer(
+                    data, overrideId, placeholders, bindings, replacements
+            );
+            final Script script = compileScript(resultData.getFirst(), null, resultData.getSecond());
+            if (script == null) {
+                return Value::null_;
+            }
+            compiledScripts.put(scriptKey, new CompiledScript(script, bindings, version));
+            return getScriptResult(resultData.getFirst(), script, Constants.LOG.isDebugMode(), null);
+        } else {
+            return () -> Value.string(data);
+        }
+    }
+
+    /**
+     * Retrieve the key used to cache the compiled script for the specified arguments
+     * <p>Additional replacements that refer to an existing placeholder are part of the key,
+     * as scripts only record the replacements that were used while compiling them
+     *
+     * @param expression   The expression to interpret, with any other replacements inlined
+     * @param overrideId   The override identifier to interpret
+     * @param placeholders A mapping of the placeholders currently available
+     * @param replacements A mapping of additional replacements to perform
+     * @return the resulting script key
+     */
+    @SafeVarargs
+    private final String getScriptKey(final String expression, final String overrideId, final Map<String, Supplier<Value>> placeholders, final Pair<String, Supplier<String>>... replacements) {
+        final StringBuilder key = new StringBuilder(StringUtils.getOrDefault(overrideId)).append('\u0000').append(expression);
+        if (replacements != null) {
+            for (Pair<String, Supplier<String>> replacement : replacements) {
+                if (replacement != null && replacement.getSecond() != null) {
+                    final String value = replacement.getSecond().get();
+                    if (placeholders.containsKey(value)) {
+                        key.append('\u0000').append(replacement.getFirst()).append('=').append(value);
+                    }
+                }
             }
         }
+        return key.toString();
     }
 
     /**
@@ -430,33 +589,65 @@ public class DiscordUtils {
      */
     @SafeVarargs
     public final Pair<String, VariableReplacementTransformer> generateTransformer(final String input, final String overrideId, final Map<String, Supplier<Value>> placeholders, final Pair<String, Supplier<String>>... replacements) {
+        return generateTransformer(input, overrideId, placeholders, null, replacements);
+    }
+
+    /**
+     * Generates a {@link VariableReplacementTransformer} for the specified arguments
+     *
+     * @param input        The original string to interpret
+     * @param overrideId   The override identifier to interpret
+     * @param placeholders A mapping of the placeholders currently available
+     * @param bindings     If specified, records the results of any replacements performed by the transformer
+     * @param replacements A mapping of additional replacements to perform
+     * @return the processed string, alongside the variable transformer
+     */
+    @SafeVarargs
+    private final Pair<String, VariableReplacementTransformer> generateTransformer(final String input, final String overrideId, final Map<String, Supplier<Value>> placeholders, final Map<String, String> bindings, final Pair<String, Supplier<String>>... replacements) {
         final VariableReplacementTransformer transformer = new VariableReplacementTransformer();
-        String data = StringUtils.getOrDefault(input);
 
         // Phase 1: Override System
         if (!StringUtils.isNullOrEmpty(overrideId)) {
             for (String placeholderName : placeholders.keySet()) {
                 if (!placeholderName.startsWith("overrides.")) {
-                    transformer.addReplacer(placeholderName, () -> {
-                        final String overrideName = "overrides." + placeholderName + "." + overrideId;
-                        return placeholders.containsKey(overrideName) &&
-                                !StringUtils.isNullOrEmpty(
-                                        placeholders.get(overrideName).get().toString()
-                                ) ? overrideName : placeholderName;
-                    });
+                    transformer.addReplacer(placeholderName, recordReplacer(placeholderName,
+                            () -> resolveOverride(placeholderName, overrideId, placeholders), bindings
+                    ));
                 }
             }
         }
         // Phase 2: args field (Pair<String, Supplier<String>>...)
+        if (replacements != null) {
+            for (Pair<String, Supplier<String>> replacement : replacements) {
+                if (replacement != null) {
+                    final Supplier<String> info = replacement.getSecond();
+                    if (info != null && placeholders.containsKey(info.get())) {
+                        transformer.addReplacer(replacement.getFirst(), recordReplacer(replacement.getFirst(), info, bindings));
+                    }
+                }
+            }
+        }
+        return new Pair<>(inlineReplacements(input, placeholders, replacements), transformer);
+    }
+
+    /**
+     * Inline any additional replacements that do not refer to an existing placeholder
+     *
+     * @param input        The original string to interpret
+     * @param placeholders A mapping of the placeholders currently available
+     * @param replacements A mapping of additional replacements to perform
+     * @return the processed string
+     */
+    @SafeVarargs
+    private final String inlineReplacements(final String input, final Map<String, Supplier<Value>> placeholders, final Pair<String, Supplier<String>>... replacements) {
+        String data = StringUtils.getOrDefault(input);
         if (replacements != null) {
             for (Pair<String, Supplier<String>> replacement : replacements) {
                 if (replacement != null) {
                     final Supplier<String> info = replacement.getSecond();
                     if (info != null) {
                         final String value = info.get();
-                        if (placeholders.containsKey(value)) {
-                            transformer.addReplacer(replacement.getFirst(), info);
-                        } else {
+                        if (!placeholders.containsKey(value)) {
                             data = data.replace(
                                     replacement.getFirst(),
                                     !StringUtils.isNullOrEmpty(value) ? "'" + value + "'" : "null"
@@ -466,19 +657,84 @@ public class DiscordUtils {
                 }
             }
         }
-        return new Pair<>(data, transformer);
+        return data;
     }
 
     /**
-     * Interpret the processed {@link Script} from parsing the specified args, and compile it
+     * Retrieve the placeholder name to use for the specified placeholder, with overrides applied
      *
-     * @param data        The data or expression to be parsed
-     * @param showLogging Whether to display logging for this function
-     * @param output      If specified, attach the decompiled info to this {@link Appendable}
-     * @param transforms  Any additional expression transformations, to be done before compiling
-     * @return the processed output
+     * @param placeholderName The placeholder name to interpret
+     * @param overrideId      The override identifier to interpret
+     * @param placeholders    A mapping of the placeholders currently available
+     * @return the override placeholder name, if one is present and non-empty, otherwise the original name
      */
-    public Supplier<Value> getCompileResult(final String data, final boolean showLogging, final Appendable output, Expr.Visitor... transforms) {
+    private String resolveOverride(final String placeholderName, final String overrideId, final Map<String, Supplier<Value>> placeholders) {
+        final String overrideName = "overrides." + placeholderName + "." + overrideId;
+        final Supplier<Value> overrideData = placeholders.get(overrideName);
+        return overrideData != null &&
+                !StringUtils.isNullOrEmpty(
+                        overrideData.get().toString()
+                ) ? overrideName : placeholderName;
+    }
+
+    /**
+     * Retrieve the current replacement result for the specified variable name
+     * <p>Mirrors the replacers attached by {@link DiscordUtils#generateTransformer(String, String, Map, Pair[])}
+     *
+     * @param name         The variable name to interpret
+     * @param overrideId   The override identifier to interpret
+     * @param placeholders A mapping of the placeholders currently available
+     * @param replacements A mapping of additional replacements to perform
+     * @return the replacement result, or null if no replacement would be made
+     */
+    @SafeVarargs
+    private final String resolveReplacer(final String name, final String overrideId, final Map<String, Supplier<Value>> placeholders, final Pair<String, Supplier<String>>... replacements) {
+        String result = null;
+        if (replacements != null) {
+            for (Pair<String, Supplier<String>> replacement : replacements) {
+                if (replacement != null && replacement.getSecond() != null && name.equals(replacement.getFirst())) {
+                    final String value = replacement.getSecond().get();
+                    if (placeholders.containsKey(value)) {
+                        result = value;
+                    }
+                }
+            }
+        }
+        if (result == null && !StringUtils.isNullOrEmpty(overrideId) &&
+                !name.startsWith("overrides.") && placeholders.containsKey(name)) {
+            result = resolveOverride(name, overrideId, placeholders);
+        }
+        return result;
+    }
+
+    /**
+     * Wraps the specified replacer, recording its results into the specified bindings
+     *
+     * @param name     The variable name being replaced
+     * @param replacer The replacer to interpret
+     * @param bindings If specified, the mapping to record replacement results into
+     * @return the resulting replacer
+     */
+    private Supplier<String> recordReplacer(final String name, final Supplier<String> replacer, final Map<String, String> bindings) {
+        if (bindings == null) {
+            return replacer;
+        }
+        return () -> {
+            final String result = replacer.get();
+            bindings.put(name, result);
+            return result;
+        };
+    }
+
+    /**
+     * Parse and compile the specified data into a {@link Script}
+     *
+     * @param data       The data or expression to be parsed
+     * @param output     If specified, attach any parsing errors to this {@link Appendable}
+     * @param transforms Any additional expression transformations, to be done before compiling
+     * @return the compiled {@link Script}, or null if parsing failed
+     */
+    public Script compileScript(final String data, final Appendable output, Expr.Visitor... transforms) {
         Parser.Result result = null;
         try {
             result = Parser.parse(data);
@@ -487,7 +743,6 @@ public class DiscordUtils {
 
         final String originalPrefix = Constants.TRANSLATOR.translate("gui.config.message.editor.original");
         final String messagePrefix = Constants.TRANSLATOR.translate("gui.config.message.editor.message");
-        final String verbosePrefix = Constants.TRANSLATOR.translate("craftpresence.logger.error.verbose");
         if (result == null || result.hasErrors()) {
             if (result != null) {
                 Constants.LOG.error(Constants.TRANSLATOR.translate("craftpresence.logger.error.parser"));
@@ -503,14 +758,25 @@ public class DiscordUtils {
                     Constants.LOG.error("\t" + error.toString());
                 }
             }
-            return Value::null_;
+            return null;
         }
 
         for (Expr.Visitor transformer : transforms) {
             result.accept(transformer);
         }
+        return Compiler.compile(result);
+    }
 
-        final Script script = Compiler.compile(result);
+    /**
+     * Retrieve a supplier that runs the specified {@link Script} against the current placeholder data
+     *
+     * @param data        The data or expression the script was compiled from
+     * @param script      The compiled {@link Script} to run
+     * @param showLogging Whether to display logging for this function
+     * @param output      If specified, attach the decompiled info to this {@link Appendable}
+     * @return the processed output
+     */
+    public Supplier<Value> getScriptResult(final String data, final Script script, final boolean showLogging, final Appendable output) {
         return () -> {
             Section sect;
             try {
@@ -519,6 +785,9 @@ public class DiscordUtils {
                     script.decompile(output);
                 }
             } catch (Throwable ex) {
+                final String originalPrefix = Constants.TRANSLATOR.translate("gui.config.message.editor.original");
+                final String messagePrefix = Constants.TRANSLATOR.translate("gui.config.message.editor.message");
+                final String verbosePrefix = Constants.TRANSLATOR.translate("craftpresence.logger.error.verbose");
                 Constants.LOG.error(Constants.TRANSLATOR.translate("craftpresence.logger.error.compiler"));
                 Constants.LOG.error("%1$s \"%2$s\"", originalPrefix, data);
 
@@ -529,6 +798,35 @@ public class DiscordUtils {
         };
     }
 
+    /**
+     * Clears any cached Image Data, forcing icon keys to be re-evaluated on next use
+     */
+    public void clearImageData() {
+        cachedImageData.clear();
+    }
+
+    /**
+     * Interpret the processed {@link Script} from parsing the specified args, and compile it
+     *
+     * @param data        The data or expression to be parsed
+     * @param showLogging Whether to display logging for this function
+     * @param output      If specified, attach the decompiled info to this {@link Appendable}
+     * @param transforms  Any additional expression transformations, to be done before compiling
+     * @return the processed output
+     */
+    public Supplier<Value> getCompileResult(final String data, final boolean showLogging, final Appendable output, Expr.Visitor... transforms) {
+        final Script script = compileScript(data, output, transforms);
+        return script != null ? getScriptResult(data, script, showLogging, output) : Value::null_;
+    }
+
+    /**
+     * Clears any cached {@link CompiledScript} and {@link PresenceField} data, forcing expressions to be re-compiled on next use
+     */
+    public void clearCompiledScripts() {
+        compiledScripts.clear();
+        presenceFields.clear();
+    }
+
     /**
      * Interpret the processed {@link Script} from parsing the specified args, and compile it
      *
@@ -664,6 +962,39 @@ public class DiscordUtils {
         }
     }
 
+    /**
+     * Begin capturing placeholder updates made on the current thread, rather than applying them
+     */
+    public void beginDeferredUpdates() {
+        deferredUpdates.set(StringUtils.newArrayList());
+    }
+
+    /**
+     * Stop capturing placeholder updates made on the current thread
+     *
+     * @return the captured updates, to be applied in order
+     */
+    public List<Runnable> endDeferredUpdates() {
+        final List<Runnable> updates = deferredUpdates.get();
+        deferredUpdates.remove();
+        return updates != null ? updates : StringUtils.newArrayList();
+    }
+
+    /**
+     * Capture the specified update, if capturing is active on the current thread
+     *
+     * @param update The update to interpret
+     * @return {@link Boolean#TRUE} if the update was captured, and should not be applied now
+     */
+    private boolean deferUpdate(final Runnable update) {
+        final List<Runnable> updates = deferredUpdates.get();
+        if (updates != null) {
+            updates.add(update);
+            return true;
+        }
+        return false;
+    }
+
     /**
      * Sync {@link ModuleData} overrides for the specified placeholder(s)
      *
@@ -671,6 +1002,9 @@ public class DiscordUtils {
      * @param args The Specified Arguments to Synchronize for
      */
     public void syncOverride(final ModuleData data, final String... args) {
+        if (deferUpdate(() -> syncOverride(data, args))) {
+            return;
+        }
         PresenceData presenceInfo = null;
         if (data != null && Config.getProperty(data, "data") != null) {
             presenceInfo = data.getData();
@@ -716,6 +1050,9 @@ public class DiscordUtils {
      * @param args The Specified Argument(s) to interpret
      */
     public void clearOverride(final String... args) {
+        if (deferUpdate(() -> clearOverride(args))) {
+            return;
+        }
         for (String argumentName : args) {
             if (!StringUtils.isNullOrEmpty(argumentName) && overrideData.containsKey(argumentName)) {
                 final ModuleData oldData = overrideData.get(argumentName);
@@ -738,10 +1075,37 @@ public class DiscordUtils {
      * @param data         The data to attach to the Specified Argument
      */
     public void syncArgument(final String argumentName, final Supplier<Value> data) {
+        syncArgument(argumentName, data, null, false);
+    }
+
+    /**
+     * Synchronizes the Specified Argument as an RPC Message or an Icon Placeholder
+     *
+     * @param argumentName The Specified Argument to Synchronize for
+     * @param data         The data to attach to the Specified Argument
+     * @param source       If specified, the immutable source the data was created from, used to skip unchanged data
+     * @param isConstant   Whether the data always produces the same value, allowing its value type to be indexed once
+     */
+    private void syncArgument(final String argumentName, final Supplier<Value> data, final Object source, final boolean isConstant) {
+        if (deferUpdate(() -> syncArgument(argumentName, data, source, isConstant))) {
+            return;
+        }
         synchronized (placeholderData) {
             if (!StringUtils.isNullOrEmpty(argumentName)) {
-                scriptEngine.set(argumentName, data);
-                placeholderData.put(argumentName, data);
+                if (source != null && source.equals(placeholderSources.get(argumentName)) &&
+                        placeholderData.containsKey(argumentName)) {
+                    return;
+                }
+
+                final Supplier<Value> trackedData = DependencyTracker.track(argumentName, data, false);
+                scriptEngine.set(argumentName, trackedData);
+                placeholderData.put(argumentName, trackedData, isConstant);
+                if (source != null) {
+                    placeholderSources.put(argumentName, source);
+                } else {
+                    placeholderSources.remove(argumentName);
+                }
+                markDirty(argumentName);
             }
         }
     }
@@ -754,7 +1118,14 @@ public class DiscordUtils {
      * @param plain        Whether the expression should be parsed as a plain string
      */
     public void syncArgument(final String argumentName, final Object data, final boolean plain) {
-        syncArgument(argumentName, () -> toValue(data, plain));
+        if (data instanceof String) {
+            // Strings are compiled once, and re-used until the argument is re-synchronized
+            syncArgument(argumentName, compileArgument((String) data, plain), Arrays.asList(data, plain), plain);
+            return;
+        }
+        // Non-string data always converts to the same value, even if the data itself can change
+        final boolean isImmutable = data instanceof Number || data instanceof Boolean;
+        syncArgument(argumentName, () -> toValue(data, plain), isImmutable ? Arrays.asList(data, plain) : null, true);
     }
 
     /**
@@ -767,6 +1138,73 @@ public class DiscordUtils {
         syncArgument(argumentName, data, false);
     }
 
+    /**
+     * Synchronizes the Specified Argument as a lazily evaluated RPC Message or Icon Placeholder
+     * <p>The placeholder is only registered once, and reads its data from the source upon access
+     *
+     * @param argumentName The Specified Argument to Synchronize for
+     * @param source       The supplier for the live data of the Specified Argument
+     * @param plain        Whether the expression should be parsed as a plain string
+     */
+    public void syncLazyArgument(final String argumentName, final Supplier<Object> source, final boolean plain) {
+        if (StringUtils.isNullOrEmpty(argumentName)) {
+            return;
+        }
+        final LazyPlaceholder existing = lazyPlaceholders.get(argumentName);
+        if (existing != null && existing.isPlain() == plain && placeholderData.containsKey(argumentName)) {
+            existing.setSource(source);
+            return;
+        }
+
+        final LazyPlaceholder placeholder = new LazyPlaceholder(source, plain);
+        lazyPlaceholders.put(argumentName, placeholder);
+        syncArgument(argumentName, () -> toValue(placeholder), placeholder, false);
+    }
+
+    /**
+     * Synchronizes the Specified Argument as a lazily evaluated RPC Message or Icon Placeholder
+     * <p>The placeholder is only registered once, and reads its data from the source upon access
+     *
+     * @param argumentName The Specified Argument to Synchronize for
+     * @param source       The supplier for the live data of the Specified Argument
+     */
+    public void syncLazyArgument(final String argumentName, final Supplier<Object> source) {
+        syncLazyArgument(argumentName, source, false);
+    }
+
+    /**
+     * Converts the live data of a {@link LazyPlaceholder} to its {@link Value} representation
+     * <p>String data is compiled once, and re-used for as long as the source data remains the same
+     *
+     * @param placeholder The placeholder to interpret
+     * @return the {@link Value} representation
+     */
+    private Value toValue(final LazyPlaceholder placeholder) {
+        final Object data = placeholder.get();
+        if (data instanceof String) {
+            CompiledArgument compiled = placeholder.getCompiled();
+            if (compiled == null || compiled.getData() != data) {
+                compiled = compileArgument((String) data, placeholder.isPlain());
+                placeholder.setCompiled(compiled);
+            }
+            return compiled.get();
+        }
+        return toValue(data, placeholder.isPlain());
+    }
+
+    /**
+     * Flag any lazily evaluated placeholders whose source data has changed as needing re-evaluation
+     */
+    private void refreshLazyArguments() {
+        for (Map.Entry<String, LazyPlaceholder> entry : lazyPlaceholders.entrySet()) {
+            if (entry.getValue().poll()) {
+                synchronized (placeholderData) {
+                    markDirty(entry.getKey());
+                }
+            }
+        }
+    }
+
     /**
      * Initialize the Specified Arguments as Empty Data
      *
@@ -775,7 +1213,7 @@ public class DiscordUtils {
     public void initArgument(final String... args) {
         // Initialize Specified Arguments to Empty Data
         for (String argumentName : args) {
-            syncArgument(argumentName, Value::null_);
+            syncArgument(argumentName, Value::null_, null, true);
         }
     }
 
@@ -785,16 +1223,15 @@ public class DiscordUtils {
      * @param args The string formats to interpret
      */
     public void removeArguments(final String... args) {
+        if (deferUpdate(() -> removeArguments(args))) {
+            return;
+        }
         synchronized (placeholderData) {
-            final List<String> items = StringUtils.newArrayList(placeholderData.keySet());
-            for (String key : items) {
-                for (String format : args) {
-                    if (key.startsWith(format)) {
-                        scriptEngine.remove(key);
-                        placeholderData.remove(key);
-                        break;
-                    }
-                }
+            for (String key : placeholderData.getMatchingKeys(args)) {
+                scriptEngine.remove(key);
+                placeholderData.remove(key);
+                placeholderSources.remove(key);
+                lazyPlaceholders.remove(key);
             }
         }
     }
@@ -806,9 +1243,11 @@ public class DiscordUtils {
      * @param newData The new data to interpret
      */
     public void syncDynamicVariables(final Map<String, String> oldData, final Map<String, String> newData) {
+        clearCompiledScripts();
         for (Map.Entry<String, String> entry : oldData.entrySet()) {
             if (!entry.getKey().equals("default") && !newData.containsKey(entry.getKey())) {
                 removeArguments("custom." + entry.getKey());
+                dynamicArguments.remove(entry.getKey());
             }
         }
     }
@@ -852,7 +1291,7 @@ public class DiscordUtils {
         } else if (data instanceof SFunction) {
             return Value.function((SFunction) data);
         } else if (data instanceof String) {
-            return compileData(data.toString(), plain).get();
+            return plain ? Value.string((String) data) : compileData((String) data).get();
         } else {
             return data != null ? Value.object(data) : Value.null_();
         }
@@ -865,36 +1304,33 @@ public class DiscordUtils {
      * @return A List of the entries that satisfy the method conditions
      */
     public Map<String, Supplier<Value>> getArguments(final String... args) {
-        synchronized (placeholderData) {
-            final Map<String, Supplier<Value>> items = StringUtils.newTreeMap(placeholderData);
-            final Map<String, Supplier<Value>> list = StringUtils.newTreeMap();
-
-            for (Map.Entry<String, Supplier<Value>> entry : items.entrySet()) {
-                final String item = entry.getKey();
-                final Supplier<Value> data = entry.getValue();
-                boolean addToList = args == null || args.length < 1 || args[0] == null;
-                if (!addToList) {
-                    for (String name : args) {
-                        if (!StringUtils.isNullOrEmpty(name)) {
-                            addToList = item.startsWith(name) ||
-                                    (name.equalsIgnoreCase("type:all") || name.equalsIgnoreCase("all")) ||
-                                    (name.startsWith("type:") && matchesType(
-                                            name.replaceFirst("type:", "").toLowerCase(),
-                                            data.get()
-                                    ));
-                        }
+        final Map<String, Supplier<Value>> list = StringUtils.newTreeMap();
+        if (args == null || args.length < 1 || args[0] == null) {
+            list.putAll(placeholderData.getView());
+            return list;
+        }
 
-                        if (addToList) {
-                            break;
+        for (String name : args) {
+            if (!StringUtils.isNullOrEmpty(name)) {
+                if (name.equalsIgnoreCase("type:all") || name.equalsIgnoreCase("all")) {
+                    list.putAll(placeholderData.getView());
+                    break;
+                }
+
+                list.putAll(placeholderData.getMatching(name));
+                if (name.startsWith("type:")) {
+                    final String type = name.replaceFirst("type:", "").toLowerCase();
+                    // Value types are indexed by the registry, so only placeholders that may have changed are evaluated
+                    for (String key : placeholderData.getKeysOfType(valueType -> matchesType(type, valueType), getPlaceholderRevision())) {
+                        final Supplier<Value> value = placeholderData.get(key);
+                        if (value != null && !list.containsKey(key)) {
+                            list.put(key, value);
                         }
                     }
                 }
-                if (addToList) {
-                    list.put(item, data);
-                }
             }
-            return list;
         }
+        return list;
     }
 
     /**
@@ -905,28 +1341,37 @@ public class DiscordUtils {
      * @return {@link Boolean#TRUE} if both the type and its condition is satisfied
      */
     public boolean matchesType(final String type, final Value data) {
+        return matchesType(type, PlaceholderRegistry.getType(data));
+    }
+
+    /**
+     * Whether the specified value type matches the specified type
+     *
+     * @param type      The {@link Value} type to interpret
+     * @param valueType The value type to interpret, from {@link PlaceholderRegistry#getType(Value)}
+     * @return {@link Boolean#TRUE} if both the type and its condition is satisfied
+     */
+    public boolean matchesType(final String type, final String valueType) {
         switch (type) {
             case "function":
-                return data.isFunction();
             case "object":
-                return data.isObject();
+            case "map":
+                return type.equals(valueType);
             case "bool":
             case "boolean":
-                return data.isBool();
-            case "map":
-                return data.isMap();
+                return "boolean".equals(valueType);
             case "int":
             case "integer":
             case "float":
             case "double":
             case "number":
-                return data.isNumber();
+                return "number".equals(valueType);
             case "text":
             case "string":
-                return data.isString();
+                return "string".equals(valueType);
             case "empty":
             case "null":
-                return data.isNull();
+                return "null".equals(valueType);
             case "any":
             case "all":
                 return true;
@@ -942,9 +1387,8 @@ public class DiscordUtils {
      * @return The entry that satisfies the method conditions, or null
      */
     public Supplier<Value> getArgument(final String key) {
-        synchronized (placeholderData) {
-            return placeholderData.getOrDefault(key, Value::null_);
-        }
+        final Supplier<Value> result = placeholderData.get(key);
+        return result != null ? result : Value::null_;
     }
 
     /**
@@ -1105,14 +1549,19 @@ public class DiscordUtils {
      * Synchronizes and Updates Dynamic Placeholder data in this module
      */
     public void syncPlaceholders() {
-        syncArgument("_general.instance", CraftPresence.instance);
-        syncArgument("_general.player", CraftPresence.player);
-        syncArgument("_general.world", CraftPresence.player != null ? CraftPresence.player.world : null);
-        syncArgument("_config.instance", CraftPresence.CONFIG);
-        // Sync Custom Variables
-        for (Map.Entry<String, String> entry : CraftPresence.CONFIG.displaySettings.dynamicVariables.entrySet()) {
-            if (!entry.getKey().equals("default")) {
-                syncArgument("custom." + entry.getKey(), entry.getValue());
+        syncLazyArgument("_general.instance", () -> CraftPresence.instance);
+        syncLazyArgument("_general.player", () -> CraftPresence.player);
+        syncLazyArgument("_general.world", () -> CraftPresence.player != null ? CraftPresence.player.world : null);
+        syncLazyArgument("_config.instance", () -> CraftPresence.CONFIG);
+        // Sync Custom Variables, only registering newly added entries
+        for (String name : CraftPresence.CONFIG.displaySettings.dynamicVariables.keySet()) {
+            if (!name.equals("default")) {
+                final String argumentName = dynamicArguments.get(name);
+                if (argumentName == null || !lazyPlaceholders.containsKey(argumentName)) {
+                    final String newArgumentName = "custom." + name;
+                    dynamicArguments.put(name, newArgumentName);
+                    syncLazyArgument(newArgumentName, () -> CraftPresence.CONFIG.displaySettings.dynamicVariables.get(name));
+                }
             }
         }
         // Add Any Generalized Argument Data needed
@@ -1137,6 +1586,7 @@ public class DiscordUtils {
         // Sync the Default Icon Argument
         syncArgument("general.icon", CraftPresence.CONFIG.generalSettings.defaultIcon);
         syncScriptArguments();
+        refreshLazyArguments();
     }
 
     /**
@@ -1189,52 +1639,294 @@ public class DiscordUtils {
         synchronized (placeholderData) {
             final ValueMap map = scriptEngine.getGlobals();
             for (String name : map.keys()) {
-                placeholderData.put(name, map.get(name));
+                // Only re-register changed globals, so indexed value types are retained
+                final Supplier<Value> value = map.get(name);
+                if (placeholderData.get(name) != value) {
+                    placeholderData.put(name, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Wraps the current globals from the script engine, allowing their usage to be tracked
+     * <p>Used to determine whether a {@link PresenceField} relies on any non-deterministic functions
+     */
+    private void trackScriptArguments() {
+        synchronized (placeholderData) {
+            final ValueMap map = scriptEngine.getGlobals();
+            final List<String> names = StringUtils.newArrayList();
+            for (String name : map.keys()) {
+                names.add(name);
+            }
+            for (String name : names) {
+                scriptEngine.set(name, DependencyTracker.track(name, map.get(name), FunctionsLib.isPure(name)));
+            }
+        }
+    }
+
+    /**
+     * Retrieve the amount of placeholder value changes that have occurred
+     * <p>Used to detect whether an operation has changed any placeholder data
+     *
+     * @return the current placeholder revision
+     */
+    public long getPlaceholderRevision() {
+        return placeholderRevision.get();
+    }
+
+    /**
+     * Retrieve the current placeholder key-set version, incremented upon any additions or removals
+     *
+     * @return the current placeholder key-set version
+     */
+    public long getPlaceholderVersion() {
+        return placeholderData.getVersion();
+    }
+
+    /**
+     * Flag any {@link PresenceField} instances that depend on the specified placeholder as needing re-evaluation
+     *
+     * @param argumentName The placeholder name that has changed
+     */
+    private void markDirty(final String argumentName) {
+        placeholderRevision.incrementAndGet();
+        synchronized (compiledArguments) {
+            for (CompiledArgument argument : compiledArguments) {
+                if (argument.dependsOn(argumentName)) {
+                    argument.markDirty();
+                }
+            }
+        }
+        for (PresenceField field : presenceFields.values()) {
+            if (field.dependsOn(argumentName)) {
+                field.markDirty();
             }
         }
     }
 
+    /**
+     * Create a {@link CompiledArgument} for the specified string data
+     * <p>Expressions are tracked, so that their result is invalidated once a placeholder they read has changed
+     *
+     * @param data  The original string data for this argument
+     * @param plain Whether the data should be parsed as a plain string
+     * @return the resulting {@link CompiledArgument}
+     */
+    CompiledArgument compileArgument(final String data, final boolean plain) {
+        final CompiledArgument argument = new CompiledArgument(this, data, plain);
+        if (!plain) {
+            synchronized (compiledArguments) {
+                compiledArguments.add(argument);
+            }
+        }
+        return argument;
+    }
+
+    /**
+     * Retrieve the output for the specified Rich Presence field, re-using the previous output when possible
+     * <p>The previous output is only re-used when none of the placeholders it depends on have changed
+     *
+     * @param input      The input expression to interpret
+     * @param overrideId The override identifier for this field
+     * @return the result of the expression
+     */
+    public String getFieldResult(final String input, final String overrideId) {
+        final String data = StringUtils.getOrDefault(input);
+        final long version = placeholderData.getVersion();
+        final PresenceField cachedField = presenceFields.get(overrideId);
+        if (cachedField != null && cachedField.isValid(data, version)) {
+            return cachedField.getResult();
+        }
+
+        final long revision = placeholderRevision.get();
+        final DependencyTracker tracker = DependencyTracker.begin();
+        final String result;
+        try {
+            result = getResult(data, overrideId);
+        } finally {
+            tracker.end();
+        }
+
+        final PresenceField field = new PresenceField(data, result, tracker, version);
+        if (revision != placeholderRevision.get()) {
+            // Data changed while we were evaluating, so we can't trust this result next time
+            field.markDirty();
+        }
+        presenceFields.put(overrideId, field);
+        return result;
+    }
+
     /**
      * Synchronizes and Updates the Rich Presence Data, if needed and connected
      *
      * @param presence The New Presence Data to apply
      */
     public void updatePresence(final RichPresence presence) {
-        if (!isConnected() && !isClosed() && !connectThreadActive) {
-            Constants.getThreadFactory().newThread(
-                    () -> {
-                        attemptsRemaining = MAX_CONNECTION_ATTEMPTS;
-                        while (!isConnected() && attemptsRemaining > 0) {
-                            attemptConnection();
-                            attemptsRemaining--;
-                        }
-
-                        if (attemptsRemaining <= 0) {
-                            Constants.LOG.error(Constants.TRANSLATOR.translate("craftpresence.logger.error.connect"));
-                            STATUS = DiscordStatus.Closed;
-                        }
-                    }
-            ).start();
-            connectThreadActive = true;
+        if (!isConnected() && !isClosed() && !reconnectScheduler.isActive()) {
+            reconnectScheduler.start(MAX_CONNECTION_ATTEMPTS);
         }
 
         if (isConnected()) {
+            final PresenceFingerprint fingerprint = getFingerprint(presence);
             boolean allowed = ALLOW_DUPLICATE_PACKETS;
             if (!allowed) {
-                allowed = (currentPresence == null && presence != null) ||
-                        (presence == null && currentPresence != null) ||
-                        (presence != null &&
-                                !presence.toJson().toString().equals(currentPresence.toJson().toString())
-                        );
+                // Compare against what Discord will have once any pending packet is sent
+                final Pair<RichPresence, PresenceFingerprint> lastPresence = presenceSender.hasPending() ? queuedPresence : currentPresence;
+                final RichPresence lastData = lastPresence != null ? lastPresence.getFirst() : null;
+                allowed = (lastData == null && presence != null) ||
+                        (presence == null && lastData != null) ||
+                        (presence != null && presence != lastData && !isSamePresence(presence, fingerprint, lastPresence));
             }
 
             if (allowed) {
-                ipcInstance.sendRichPresence(presence);
-                currentPresence = presence;
+                queuedPresence = new Pair<>(presence, fingerprint);
+                presenceSender.submit(presence);
+            } else {
+                suppressedPackets.incrementAndGet();
             }
         }
     }
 
+    /**
+     * Send the specified {@link RichPresence} to Discord, marking it as the current presence once sent
+     *
+     * @param presence The presence data to send
+     */
+    private void sendPresence(final RichPresence presence) {
+        ipcInstance.sendRichPresence(presence);
+
+        final Pair<RichPresence, PresenceFingerprint> queued = queuedPresence;
+        currentPresence = queued != null && queued.getFirst() == presence ? queued : new Pair<>(presence, null);
+    }
+
+    /**
+     * Retrieve the {@link PresenceFingerprint} for the specified {@link RichPresence}, if known
+     *
+     * @param presence The presence data to interpret
+     * @return the fingerprint for the presence, or null if it was not built by {@link DiscordUtils#buildRichPresence(PresenceData)}
+     */
+    private PresenceFingerprint getFingerprint(final RichPresence presence) {
+        return presence != null && presence == lastBuiltPresence ? lastBuiltFingerprint : null;
+    }
+
+    /**
+     * Determine whether the specified {@link RichPresence} matches the last presence
+     * <p>Serialization is only used as a fallback, when either presence has no {@link PresenceFingerprint}
+     *
+     * @param presence     The presence data to interpret
+     * @param fingerprint  The fingerprint for the presence data, if any
+     * @param lastPresence The last presence data, paired with its fingerprint, if any
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    private boolean isSamePresence(final RichPresence presence, final PresenceFingerprint fingerprint,
+                                   final Pair<RichPresence, PresenceFingerprint> lastPresence) {
+        if (fingerprint != null && lastPresence.getSecond() != null) {
+            return fingerprint.equals(lastPresence.getSecond());
+        }
+        return presence.toJson().toString().equals(lastPresence.getFirst().toJson().toString());
+    }
+
+    /**
+     * Set the minimum time between sending {@link RichPresence} packets, applying it immediately
+     *
+     * @param sendInterval The new minimum time between sending packets, in milliseconds
+     */
+    public void setPresenceSendInterval(final int sendInterval) {
+        PRESENCE_SEND_INTERVAL = sendInterval;
+        presenceSender.setSendInterval(sendInterval);
+    }
+
+    /**
+     * Retrieve the amount of {@link RichPresence} packets that have been sent
+     *
+     * @return the amount of sent packets
+     */
+    public long getSentPackets() {
+        return presenceSender.getSentCount();
+    }
+
+    /**
+     * Retrieve the amount of {@link RichPresence} packets that were replaced by a newer packet before being sent
+     *
+     * @return the amount of coalesced packets
+     */
+    public long getCoalescedPackets() {
+        return presenceSender.getCoalescedCount();
+    }
+
+    /**
+     * Retrieve the amount of {@link RichPresence} packets that were discarded, due to being unable to send them
+     *
+     * @return the amount of dropped packets
+     */
+    public long getDroppedPackets() {
+        return presenceSender.getDroppedCount();
+    }
+
+    /**
+     * Retrieve the amount of {@link RichPresence} packets that have been suppressed as duplicates
+     *
+     * @return the amount of suppressed packets
+     */
+    public long getSuppressedPackets() {
+        return suppressedPackets.get();
+    }
+
+    /**
+     * Retrieve the amount of image requests that were resolved from the cache
+     *
+     * @return the amount of image cache hits
+     */
+    public long getImageCacheHits() {
+        return cachedImageData.getHits();
+    }
+
+    /**
+     * Retrieve the amount of image requests that required a new resolution
+     *
+     * @return the amount of image cache misses
+     */
+    public long getImageCacheMisses() {
+        return cachedImageData.getMisses();
+    }
+
+    /**
+     * Retrieve the amount of connection attempts that have been made to Discord
+     *
+     * @return the amount of connection attempts
+     */
+    public long getConnectionAttempts() {
+        return reconnectScheduler.getAttemptCount();
+    }
+
+    /**
+     * Retrieve the amount of connection sequences that successfully connected to Discord
+     *
+     * @return the amount of successful connections
+     */
+    public long getSuccessfulConnections() {
+        return reconnectScheduler.getSuccessCount();
+    }
+
+    /**
+     * Retrieve the amount of connection sequences that exhausted all attempts without connecting to Discord
+     *
+     * @return the amount of failed connections
+     */
+    public long getFailedConnections() {
+        return reconnectScheduler.getFailureCount();
+    }
+
+    /**
+     * Retrieve the delay, in milliseconds, used before the most recent connection attempt
+     *
+     * @return the last delay used between connection attempts
+     */
+    public long getLastConnectionDelay() {
+        return reconnectScheduler.getLastDelay();
+    }
+
     /**
      * Synchronizes and Updates the Rich Presence Data, if needed and connected
      */
@@ -1253,9 +1945,23 @@ public class DiscordUtils {
     public String imageOf(final boolean allowNull, final boolean showLogging, final String... evalStrings) {
         // Ensures Assets were fully synced from the Client ID before running
         String result;
-        if (!DiscordAssetUtils.ASSET_LIST.isEmpty() && !StringUtils.isNullOrEmpty(evalStrings[0])) {
+        if (DiscordAssetUtils.hasAssets() && !StringUtils.isNullOrEmpty(evalStrings[0])) {
             final String primaryKey = evalStrings[0];
-            if (!cachedImageData.containsKey(primaryKey)) {
+            final long catalogVersion = DiscordAssetUtils.getVersion();
+            if (catalogVersion != cachedImageVersion) {
+                // Asset Catalog has changed, so prior results are outdated
+                cachedImageData.clear();
+                cachedImageVersion = catalogVersion;
+            }
+            final Object[] requestData = new Object[evalStrings.length + 3];
+            requestData[0] = catalogVersion;
+            requestData[1] = allowNull;
+            requestData[2] = allowNull ? "" : CraftPresence.CONFIG.generalSettings.defaultIcon;
+            System.arraycopy(evalStrings, 0, requestData, 3, evalStrings.length);
+            final List<Object> requestKey = Arrays.asList(requestData);
+
+            result = cachedImageData.get(requestKey);
+            if (result == null) {
                 final String defaultIcon = allowNull ? "" : StringUtils.getOrDefault(DiscordAssetUtils.getKey(CraftPresence.CONFIG.generalSettings.defaultIcon), DiscordAssetUtils.getRandomAssetName());
                 String finalKey = defaultIcon;
                 for (int i = 0; i < evalStrings.length; ) {
@@ -1286,10 +1992,8 @@ public class DiscordUtils {
                     }
                 }
 
-                cachedImageData.put(primaryKey, finalKey);
+                cachedImageData.put(requestKey, finalKey);
                 result = finalKey;
-            } else {
-                result = cachedImageData.get(primaryKey);
             }
         } else {
             result = "";
@@ -1375,7 +2079,9 @@ public class DiscordUtils {
      * @param allowReconnects Whether to mark the {@link DiscordStatus} to allow auto-reconnections
      */
     public void shutDown(final boolean allowReconnects) {
+        reconnectScheduler.shutDown();
         if (isAvailable()) {
+            presenceSender.clear();
             try {
                 ipcInstance.close();
             } catch (Exception ex) {
@@ -1384,11 +2090,13 @@ public class DiscordUtils {
 
             // Clear User Data before final clear and shutdown
             currentPresence = null;
+            queuedPresence = null;
             clearPresenceData();
             STATUS = allowReconnects ? DiscordStatus.Disconnected : DiscordStatus.Closed;
 
             CURRENT_USER = null;
             cachedImageData.clear();
+            presenceFields.clear();
 
             Constants.LOG.info(Constants.TRANSLATOR.translate("craftpresence.logger.info.shutdown"));
         }
@@ -1409,16 +2117,16 @@ public class DiscordUtils {
      */
     public RichPresence buildRichPresence(final PresenceData configData) {
         // Do not compile Presence while offline or in-progress of connecting
-        if (!isAvailable() || !isConnected() || connectThreadActive) {
+        if (!isAvailable() || !isConnected() || reconnectScheduler.isActive()) {
             return null;
         }
 
         // Format Presence based on Arguments available in argumentData
-        DETAILS = StringUtils.formatWord(getResult(configData.details, "details"), !CraftPresence.CONFIG.advancedSettings.formatWords, true, 1);
-        GAME_STATE = StringUtils.formatWord(getResult(configData.gameState, "gameState"), !CraftPresence.CONFIG.advancedSettings.formatWords, true, 1);
+        DETAILS = StringUtils.formatWord(getFieldResult(configData.details, "details"), !CraftPresence.CONFIG.advancedSettings.formatWords, true, 1);
+        GAME_STATE = StringUtils.formatWord(getFieldResult(configData.gameState, "gameState"), !CraftPresence.CONFIG.advancedSettings.formatWords, true, 1);
 
-        LARGE_IMAGE_RAW = getResult(configData.largeImageKey, "largeImageKey");
-        SMALL_IMAGE_RAW = getResult(configData.smallImageKey, "smallImageKey");
+        LARGE_IMAGE_RAW = getFieldResult(configData.largeImageKey, "largeImageKey");
+        SMALL_IMAGE_RAW = getFieldResult(configData.smallImageKey, "smallImageKey");
 
         LARGE_IMAGE_ASSET = DiscordAssetUtils.get(LARGE_IMAGE_RAW);
         SMALL_IMAGE_ASSET = DiscordAssetUtils.get(SMALL_IMAGE_RAW);
@@ -1428,16 +2136,16 @@ public class DiscordUtils {
         SMALL_IMAGE_KEY = SMALL_IMAGE_ASSET != null ? (SMALL_IMAGE_ASSET.getType().equals(DiscordAsset.AssetType.CUSTOM) ?
                 getResult(SMALL_IMAGE_ASSET.getUrl()) : SMALL_IMAGE_ASSET.getName()) : SMALL_IMAGE_RAW;
 
-        LARGE_IMAGE_TEXT = StringUtils.formatWord(getResult(configData.largeImageText, "largeImageText"), !CraftPresence.CONFIG.advancedSettings.formatWords, true, 1);
-        SMALL_IMAGE_TEXT = StringUtils.formatWord(getResult(configData.smallImageText, "smallImageText"), !CraftPresence.CONFIG.advancedSettings.formatWords, true, 1);
+        LARGE_IMAGE_TEXT = StringUtils.formatWord(getFieldResult(configData.largeImageText, "largeImageText"), !CraftPresence.CONFIG.advancedSettings.formatWords, true, 1);
+        SMALL_IMAGE_TEXT = StringUtils.formatWord(getFieldResult(configData.smallImageText, "smallImageText"), !CraftPresence.CONFIG.advancedSettings.formatWords, true, 1);
 
         final Pair<Boolean, Long> startData = StringUtils.getValidLong(
-                getResult(configData.startTimestamp, "startTimestamp")
+                getFieldResult(configData.startTimestamp, "startTimestamp")
         );
         if (startData.getFirst()) {
             START_TIMESTAMP = startData.getSecond();
             final Pair<Boolean, Long> endData = StringUtils.getValidLong(
-                    getResult(configData.endTimestamp, "endTimestamp")
+                    getFieldResult(configData.endTimestamp, "endTimestamp")
             );
             END_TIMESTAMP = endData.getFirst() ? endData.getSecond() : 0;
         } else {
@@ -1457,10 +2165,10 @@ public class DiscordUtils {
                         !overrideId.equalsIgnoreCase("default") &&
                         !StringUtils.isNullOrEmpty(button.label)) {
                     String label = StringUtils.formatWord(
-                            getResult(button.label, overrideId + ".label"),
+                            getFieldResult(button.label, overrideId + ".label"),
                             !CraftPresence.CONFIG.advancedSettings.formatWords, true, 1
                     );
-                    String url = !StringUtils.isNullOrEmpty(button.url) ? getResult(
+                    String url = !StringUtils.isNullOrEmpty(button.url) ? getFieldResult(
                             button.url, overrideId + ".url"
                     ) : "";
 
@@ -1494,6 +2202,20 @@ public class DiscordUtils {
                 .setSpectateSecret(SPECTATE_SECRET = sanitizePlaceholders(SPECTATE_SECRET, 128))
                 .setButtons(BUTTONS)
                 .build();
+        lastBuiltFingerprint = new PresenceFingerprint(
+                new String[]{
+                        GAME_STATE, DETAILS,
+                        LARGE_IMAGE_KEY, LARGE_IMAGE_TEXT,
+                        SMALL_IMAGE_KEY, SMALL_IMAGE_TEXT,
+                        PARTY_ID, MATCH_SECRET, JOIN_SECRET, SPECTATE_SECRET
+                },
+                new long[]{
+                        START_TIMESTAMP, END_TIMESTAMP,
+                        PARTY_SIZE, PARTY_MAX, PARTY_PRIVACY.ordinal()
+                },
+                BUTTONS
+        );
+        lastBuiltPresence = newRPCData;
 
         // Format Data to UTF_8 after Sent to RPC (RPC has its own Encoding)
         GAME_STATE = StringUtils.convertString(GAME_STATE, "UTF-8", false);
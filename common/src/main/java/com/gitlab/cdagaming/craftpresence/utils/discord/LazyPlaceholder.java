@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.utils.discord;
+
+import java.util.function.Supplier;
+
+/**
+ * A Placeholder whose value is read from live data upon access, rather than re-synchronized on each tick
+ * <p>Changes are detected by comparing the identity of the source data, so that polling performs no evaluation
+ *
+ * @author CDAGaming
+ */
+public class LazyPlaceholder {
+    /**
+     * Whether string data should be parsed as a plain string
+     */
+    private final boolean plain;
+    /**
+     * The supplier for the live data of this placeholder
+     */
+    private volatile Supplier<Object> source;
+    /**
+     * The source data last observed while polling
+     */
+    private Object lastData;
+    /**
+     * The compiled form of the live data, if it is a string
+     */
+    private volatile CompiledArgument compiled;
+
+    /**
+     * Initializes a new Lazy Placeholder
+     *
+     * @param source The supplier for the live data of this placeholder
+     * @param plain  Whether string data should be parsed as a plain string
+     */
+    public LazyPlaceholder(final Supplier<Object> source, final boolean plain) {
+        this.source = source;
+        this.plain = plain;
+        this.lastData = source.get();
+    }
+
+    /**
+     * Retrieve the live data for this placeholder
+     *
+     * @return the current source data
+     */
+    public Object get() {
+        return source.get();
+    }
+
+    /**
+     * Replace the supplier for the live data of this placeholder
+     *
+     * @param source The new supplier for the live data of this placeholder
+     */
+    public void setSource(final Supplier<Object> source) {
+        this.source = source;
+    }
+
+    /**
+     * Retrieve the compiled form of the live data, if it is a string
+     *
+     * @return the compiled argument, or null if not yet compiled
+     */
+    public CompiledArgument getCompiled() {
+        return compiled;
+    }
+
+    /**
+     * Replace the compiled form of the live data
+     *
+     * @param compiled The new compiled argument
+     */
+    public void setCompiled(final CompiledArgument compiled) {
+        this.compiled = compiled;
+    }
+
+    /**
+     * Whether string data should be parsed as a plain string
+     *
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean isPlain() {
+        return plain;
+    }
+
+    /**
+     * Compare the live data against the data last observed, recording any change
+     *
+     * @return {@link Boolean#TRUE} if the source data has changed since the last poll
+     */
+    public synchronized boolean poll() {
+        final Object data = source.get();
+        if (data != lastData) {
+            lastData = data;
+            return true;
+        }
+        return false;
+    }
+}
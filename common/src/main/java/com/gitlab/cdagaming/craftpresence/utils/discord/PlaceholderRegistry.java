@@ -0,0 +1,339 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.utils.discord;
+
+import io.github.cdagaming.unicore.impl.Pair;
+import io.github.cdagaming.unicore.utils.StringUtils;
+import org.meteordev.starscript.value.Value;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A Sorted, Concurrent Registry of the Arguments available to use as RPC Message Placeholders
+ * <p>Reads are lock-free, while writes are serialized and tracked through a key-set version
+ * <p>Placeholder names are also indexed by their value type, so that type lookups only evaluate
+ * the placeholders that were attached or may have changed since the last lookup
+ *
+ * @author CDAGaming
+ */
+public class PlaceholderRegistry {
+    /**
+     * The underlying sorted data mapping for this registry
+     */
+    private final ConcurrentSkipListMap<String, Supplier<Value>> data = new ConcurrentSkipListMap<>();
+    /**
+     * A read-only view of {@link PlaceholderRegistry#data}
+     */
+    private final NavigableMap<String, Supplier<Value>> view = Collections.unmodifiableNavigableMap(data);
+    /**
+     * The placeholder names currently indexed for each value type
+     * <p>Format: valueType, placeholderNames
+     */
+    private final Map<String, Set<String>> typeIndex = new ConcurrentHashMap<>();
+    /**
+     * The indexed value type for each placeholder, alongside the supplier it was observed from
+     * <p>Format: placeholderName, (placeholderSupplier, valueType)
+     */
+    private final Map<String, Pair<Supplier<Value>, String>> types = new ConcurrentHashMap<>();
+    /**
+     * The names of the placeholders whose suppliers may produce a different value between calls
+     */
+    private final Set<String> dynamic = ConcurrentHashMap.newKeySet();
+    /**
+     * The names of the placeholders whose value type must be evaluated before the next type lookup
+     */
+    private final Set<String> pendingTypes = ConcurrentHashMap.newKeySet();
+    /**
+     * The current version of the key-set, incremented upon any additions or removals
+     */
+    private volatile long version = 0;
+    /**
+     * The value revision that was in-use during the last type lookup
+     */
+    private volatile long typeRevision = -1L;
+
+    /**
+     * Retrieve the current version of the key-set, incremented upon any additions or removals
+     *
+     * @return the current key-set version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Retrieve a read-only, live view of the placeholders in this registry
+     *
+     * @return a read-only view of this registry
+     */
+    public NavigableMap<String, Supplier<Value>> getView() {
+        return view;
+    }
+
+    /**
+     * Retrieve the placeholder attached to the specified name
+     *
+     * @param name The placeholder name to interpret
+     * @return the attached placeholder, or null if not present
+     */
+    public Supplier<Value> get(final String name) {
+        return data.get(name);
+    }
+
+    /**
+     * Whether a placeholder is attached to the specified name
+     *
+     * @param name The placeholder name to interpret
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean containsKey(final String name) {
+        return data.containsKey(name);
+    }
+
+    /**
+     * Attach the specified placeholder to the specified name
+     *
+     * @param name  The placeholder name to interpret
+     * @param value The placeholder to attach
+     * @return {@link Boolean#TRUE} if this placeholder was not previously present
+     */
+    public boolean put(final String name, final Supplier<Value> value) {
+        return put(name, value, false);
+    }
+
+    /**
+     * Attach the specified placeholder to the specified name
+     *
+     * @param name       The placeholder name to interpret
+     * @param value      The placeholder to attach
+     * @param isConstant Whether the placeholder always produces the same value, allowing its type to be indexed once
+     * @return {@link Boolean#TRUE} if this placeholder was not previously present
+     */
+    public synchronized boolean put(final String name, final Supplier<Value> value, final boolean isConstant) {
+        unindex(name);
+        if (isConstant) {
+            dynamic.remove(name);
+        } else {
+            dynamic.add(name);
+        }
+        final boolean isNew = data.put(name, value) == null;
+        pendingTypes.add(name);
+        if (isNew) {
+            version++;
+        }
+        return isNew;
+    }
+
+    /**
+     * Remove the placeholder attached to the specified name
+     *
+     * @param name The placeholder name to interpret
+     * @return {@link Boolean#TRUE} if a placeholder was removed
+     */
+    public synchronized boolean remove(final String name) {
+        unindex(name);
+        dynamic.remove(name);
+        pendingTypes.remove(name);
+        final boolean removed = data.remove(name) != null;
+        if (removed) {
+            version++;
+        }
+        return removed;
+    }
+
+    /**
+     * Add the specified placeholder to the type index, replacing any previously indexed type
+     *
+     * @param name   The placeholder name to interpret
+     * @param source The placeholder the type was observed from
+     * @param type   The observed value type
+     */
+    private void index(final String name, final Supplier<Value> source, final String type) {
+        unindex(name);
+        types.put(name, new Pair<>(source, type));
+        typeIndex.computeIfAbsent(type, key -> ConcurrentHashMap.newKeySet()).add(name);
+    }
+
+    /**
+     * Remove the specified placeholder from the type index
+     *
+     * @param name The placeholder name to interpret
+     */
+    private void unindex(final String name) {
+        final Pair<Supplier<Value>, String> previous = types.remove(name);
+        if (previous != null) {
+            final Set<String> names = typeIndex.get(previous.getSecond());
+            if (names != null) {
+                names.remove(name);
+            }
+        }
+    }
+
+    /**
+     * Retrieve a read-only, live view of the placeholders whose names begin with the specified prefix
+     *
+     * @param prefix The prefix to interpret
+     * @return the placeholders matching the specified prefix
+     */
+    public NavigableMap<String, Supplier<Value>> getMatching(final String prefix) {
+        final String start = StringUtils.getOrDefault(prefix);
+        if (start.isEmpty()) {
+            return view;
+        }
+        final char[] chars = start.toCharArray();
+        int index = chars.length - 1;
+        while (index >= 0 && chars[index] == Character.MAX_VALUE) {
+            index--;
+        }
+        if (index < 0) {
+            return view.tailMap(start, true);
+        }
+        chars[index]++;
+        return view.subMap(start, true, new String(chars, 0, index + 1), false);
+    }
+
+    /**
+     * Retrieve the placeholder names whose value type satisfies the specified filter
+     * <p>Placeholders are evaluated once after being attached, with constant placeholders never being re-evaluated;
+     * Other placeholders are only re-evaluated once the specified revision differs from the previous lookup
+     *
+     * @param typeFilter The filter to apply to each indexed value type
+     * @param revision   The current placeholder value revision, changed whenever a placeholder value may have changed
+     * @return the matching placeholder names
+     */
+    public Set<String> getKeysOfType(final Predicate<String> typeFilter, final long revision) {
+        if (revision != typeRevision) {
+            typeRevision = revision;
+            pendingTypes.addAll(dynamic);
+        }
+        for (String name : pendingTypes) {
+            pendingTypes.remove(name);
+            final Supplier<Value> source = data.get(name);
+            if (source == null) {
+                continue;
+            }
+            // Evaluated outside the lock, as placeholders may read other placeholders
+            final String type = getType(source.get());
+            synchronized (this) {
+                // Placeholders replaced meanwhile are already pending again
+                if (data.get(name) == source) {
+                    index(name, source, type);
+                }
+            }
+        }
+
+        final Set<String> result = new TreeSet<>();
+        for (Map.Entry<String, Set<String>> entry : typeIndex.entrySet()) {
+            if (typeFilter.test(entry.getKey())) {
+                result.addAll(entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Retrieve the value type of the placeholder attached to the specified name
+     * <p>Indexed types of constant placeholders are re-used, so that each supplier is only evaluated once;
+     * Other placeholders are re-evaluated on each call, as their value and type may change between calls
+     *
+     * @param name The placeholder name to interpret
+     * @return the value type of the placeholder, or null if not present
+     */
+    public String getType(final String name) {
+        return getType(name, data.get(name));
+    }
+
+    /**
+     * Retrieve the value type of the specified placeholder, as retrieved from this registry
+     *
+     * @param name   The placeholder name to interpret
+     * @param source The placeholder attached to the specified name
+     * @return the value type of the placeholder, or null if not present
+     * @see PlaceholderRegistry#getType(String)
+     */
+    public String getType(final String name, final Supplier<Value> source) {
+        if (source == null) {
+            return null;
+        }
+        if (!dynamic.contains(name)) {
+            final Pair<Supplier<Value>, String> cached = types.get(name);
+            if (cached != null && cached.getFirst() == source) {
+                return cached.getSecond();
+            }
+        }
+        return getType(source.get());
+    }
+
+    /**
+     * Retrieve the value type of the specified {@link Value}
+     *
+     * @param data The {@link Value} to interpret
+     * @return the value type, as accepted by {@link DiscordUtils#matchesType(String, String)}
+     */
+    public static String getType(final Value data) {
+        if (data == null || data.isNull()) {
+            return "null";
+        } else if (data.isFunction()) {
+            return "function";
+        } else if (data.isObject()) {
+            return "object";
+        } else if (data.isBool()) {
+            return "boolean";
+        } else if (data.isMap()) {
+            return "map";
+        } else if (data.isNumber()) {
+            return "number";
+        } else if (data.isString()) {
+            return "string";
+        }
+        return "unknown";
+    }
+
+    /**
+     * Retrieve the placeholder names that begin with any of the specified prefixes
+     *
+     * @param prefixes The prefixes to interpret
+     * @return the matching placeholder names
+     */
+    public List<String> getMatchingKeys(final String... prefixes) {
+        final Set<String> result = new TreeSet<>();
+        for (String prefix : prefixes) {
+            if (prefix != null) {
+                result.addAll(getMatching(prefix).keySet());
+            }
+        }
+        return StringUtils.newArrayList(result);
+    }
+}
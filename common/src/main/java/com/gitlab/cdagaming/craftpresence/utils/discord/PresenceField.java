@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.utils.discord;
+
+import java.util.Set;
+
+/**
+ * A Previously Evaluated Rich Presence Field, alongside the placeholders it depends on
+ *
+ * @author CDAGaming
+ */
+public class PresenceField {
+    /**
+     * The expression this field was evaluated from
+     */
+    private final String input;
+    /**
+     * The evaluated result for this field
+     */
+    private final String result;
+    /**
+     * The placeholder names this field read while being evaluated
+     */
+    private final Set<String> dependencies;
+    /**
+     * Whether this field read data that can change without being re-synchronized
+     */
+    private final boolean isVolatile;
+    /**
+     * The placeholder key-set version that was in-use while evaluating this field
+     */
+    private final long version;
+    /**
+     * Whether any of the placeholders this field depends on have changed since evaluation
+     */
+    private volatile boolean dirty = false;
+
+    /**
+     * Initializes a new Presence Field
+     *
+     * @param input   The expression this field was evaluated from
+     * @param result  The evaluated result for this field
+     * @param tracker The dependency collection gathered while evaluating this field
+     * @param version The placeholder key-set version that was in-use while evaluating this field
+     */
+    public PresenceField(final String input, final String result, final DependencyTracker tracker, final long version) {
+        this.input = input;
+        this.result = result;
+        this.dependencies = tracker.getDependencies();
+        this.isVolatile = tracker.isVolatile();
+        this.version = version;
+    }
+
+    /**
+     * Retrieve the evaluated result for this field
+     *
+     * @return the evaluated result
+     */
+    public String getResult() {
+        return result;
+    }
+
+    /**
+     * Whether this field read the specified placeholder while being evaluated
+     *
+     * @param name The placeholder name to interpret
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean dependsOn(final String name) {
+        return dependencies.contains(name);
+    }
+
+    /**
+     * Flag this field as needing to be re-evaluated
+     */
+    public void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * Whether the evaluated result for this field can be re-used as-is
+     *
+     * @param input   The expression currently attached to this field
+     * @param version The current placeholder key-set version
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean isValid(final String input, final long version) {
+        return !dirty && !isVolatile && this.version == version && this.input.equals(input);
+    }
+}
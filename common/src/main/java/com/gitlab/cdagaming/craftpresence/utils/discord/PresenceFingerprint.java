@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.utils.discord;
+
+import com.google.gson.JsonArray;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A Field-wise Fingerprint of a built {@link com.jagrosh.discordipc.entities.RichPresence}
+ * <p>Allows checking whether two presences are equal, without needing to serialize them
+ *
+ * @author CDAGaming
+ */
+public class PresenceFingerprint {
+    /**
+     * The text and identifier fields of the presence
+     */
+    private final String[] fields;
+    /**
+     * The numeric fields of the presence
+     */
+    private final long[] values;
+    /**
+     * The buttons attached to the presence
+     */
+    private final JsonArray buttons;
+    /**
+     * The pre-computed hash code for this fingerprint
+     */
+    private final int hash;
+
+    /**
+     * Initializes a new Presence Fingerprint
+     *
+     * @param fields  The text and identifier fields of the presence
+     * @param values  The numeric fields of the presence
+     * @param buttons The buttons attached to the presence
+     */
+    public PresenceFingerprint(final String[] fields, final long[] values, final JsonArray buttons) {
+        this.fields = fields;
+        this.values = values;
+        this.buttons = buttons;
+        this.hash = Objects.hash(Arrays.hashCode(fields), Arrays.hashCode(values), buttons);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof PresenceFingerprint)) {
+            return false;
+        }
+
+        final PresenceFingerprint other = (PresenceFingerprint) obj;
+        return hash == other.hash &&
+                Arrays.equals(values, other.values) &&
+                Arrays.equals(fields, other.fields) &&
+                Objects.equals(buttons, other.buttons);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
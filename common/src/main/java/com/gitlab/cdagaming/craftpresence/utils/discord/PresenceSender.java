@@ -0,0 +1,247 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.utils.discord;
+
+import com.gitlab.cdagaming.craftpresence.core.Constants;
+import com.jagrosh.discordipc.entities.RichPresence;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A Coalescing, Rate-Limited Send Stage for {@link RichPresence} updates
+ * <p>Only the latest pending presence is kept, and is sent at most once per interval,
+ * on the supplied IPC executor rather than the calling thread or the shared thread pool driving client ticks
+ *
+ * @author CDAGaming
+ */
+public class PresenceSender {
+    /**
+     * The action used to send a presence to Discord
+     */
+    private final Consumer<RichPresence> sendAction;
+    /**
+     * Whether presences are currently able to be sent
+     */
+    private final BooleanSupplier canSend;
+    /**
+     * The executor used to send presences, as pipe writes may block
+     */
+    private final Supplier<ScheduledExecutorService> executor;
+    /**
+     * The latest presence awaiting to be sent, if any
+     * <p>Wrapped in an array, so that a null presence can also be queued
+     */
+    private final AtomicReference<RichPresence[]> pending = new AtomicReference<>();
+    /**
+     * Whether a flush is currently scheduled or running
+     */
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    /**
+     * The amount of presences that have been sent
+     */
+    private final AtomicLong sentCount = new AtomicLong();
+    /**
+     * The amount of presences that were replaced by a newer presence before being sent
+     */
+    private final AtomicLong coalescedCount = new AtomicLong();
+    /**
+     * The amount of presences that were discarded, due to being unable to send them
+     */
+    private final AtomicLong droppedCount = new AtomicLong();
+    /**
+     * The minimum time between sending presences, in milliseconds
+     */
+    private volatile long sendInterval;
+    /**
+     * The timestamp, in milliseconds, of the last send attempt
+     */
+    private volatile long lastSendTime = 0;
+    /**
+     * Whether a presence has been taken from the queue, but has not yet finished sending
+     */
+    private volatile boolean sending = false;
+
+    /**
+     * Initializes a new Presence Sender
+     *
+     * @param sendAction   The action used to send a presence to Discord
+     * @param canSend      Whether presences are currently able to be sent
+     * @param executor     The executor used to send presences, as pipe writes may block
+     * @param sendInterval The minimum time between sending presences, in milliseconds
+     */
+    public PresenceSender(final Consumer<RichPresence> sendAction, final BooleanSupplier canSend,
+                          final Supplier<ScheduledExecutorService> executor, final long sendInterval) {
+        this.sendAction = sendAction;
+        this.canSend = canSend;
+        this.executor = executor;
+        setSendInterval(sendInterval);
+    }
+
+    /**
+     * Queue the specified presence to be sent, replacing any presence that has not yet been sent
+     *
+     * @param presence The presence to queue
+     */
+    public void submit(final RichPresence presence) {
+        if (pending.getAndSet(new RichPresence[]{presence}) != null) {
+            coalescedCount.incrementAndGet();
+        }
+        schedule();
+    }
+
+    /**
+     * Discard any presence that has not yet been sent
+     */
+    public void clear() {
+        if (pending.getAndSet(null) != null) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Schedule a flush of the pending presence, if one is not already scheduled
+     */
+    private void schedule() {
+        if (pending.get() != null && scheduled.compareAndSet(false, true)) {
+            final long delay = Math.max(0, lastSendTime + sendInterval - System.currentTimeMillis());
+            if (!submitFlush(delay)) {
+                scheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * Schedule a flush of the pending presence on the executor, after the specified delay
+     *
+     * @param delay The delay before flushing, in milliseconds
+     * @return {@link Boolean#TRUE} if the flush was scheduled
+     */
+    private boolean submitFlush(final long delay) {
+        try {
+            executor.get().schedule(this::flush, delay, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (RejectedExecutionException ex) {
+            // Executor shut down, such as while closing the connection, so the next submission schedules again
+            Constants.LOG.debugError(ex);
+            return false;
+        }
+    }
+
+    /**
+     * Send the pending presence, if any and allowed
+     */
+    private void flush() {
+        final long remaining = lastSendTime + sendInterval - System.currentTimeMillis();
+        if (remaining > 0) {
+            if (!submitFlush(remaining)) {
+                scheduled.set(false);
+            }
+            return;
+        }
+
+        sending = true;
+        final RichPresence[] data = pending.getAndSet(null);
+        if (data != null) {
+            if (canSend.getAsBoolean()) {
+                lastSendTime = System.currentTimeMillis();
+                try {
+                    sendAction.accept(data[0]);
+                    sentCount.incrementAndGet();
+                } catch (Throwable ex) {
+                    droppedCount.incrementAndGet();
+                    Constants.LOG.debugError(ex);
+                }
+            } else {
+                droppedCount.incrementAndGet();
+            }
+        }
+        sending = false;
+        scheduled.set(false);
+        // Ensure presences queued during this flush are not left behind
+        schedule();
+    }
+
+    /**
+     * Determine whether a presence is queued or being sent, and has not yet finished sending
+     *
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean hasPending() {
+        return sending || pending.get() != null;
+    }
+
+    /**
+     * Retrieve the minimum time between sending presences, in milliseconds
+     *
+     * @return the minimum time between sending presences
+     */
+    public long getSendInterval() {
+        return sendInterval;
+    }
+
+    /**
+     * Set the minimum time between sending presences, in milliseconds
+     *
+     * @param sendInterval The new minimum time between sending presences
+     */
+    public void setSendInterval(final long sendInterval) {
+        this.sendInterval = Math.max(0, sendInterval);
+    }
+
+    /**
+     * Retrieve the amount of presences that have been sent
+     *
+     * @return the amount of sent presences
+     */
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    /**
+     * Retrieve the amount of presences that were replaced by a newer presence before being sent
+     *
+     * @return the amount of coalesced presences
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * Retrieve the amount of presences that were discarded, due to being unable to send them
+     *
+     * @return the amount of dropped presences
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+}
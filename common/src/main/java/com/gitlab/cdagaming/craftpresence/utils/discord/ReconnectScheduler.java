@@ -0,0 +1,323 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.utils.discord;
+
+import com.gitlab.cdagaming.craftpresence.core.Constants;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A Reconnection Stage for the IPC Connection, using jittered exponential backoff
+ * <p>Attempts are run on a dedicated IPC thread, with at most one attempt sequence active at a time,
+ * so that a slow or hung connection never delays the shared thread pool driving client ticks
+ *
+ * @author CDAGaming
+ */
+public class ReconnectScheduler {
+    /**
+     * The action used to attempt a connection, given the current attempt number
+     * <p>Returns whether the connection was successful
+     */
+    private final ConnectAction connectAction;
+    /**
+     * Whether further attempts are currently allowed
+     */
+    private final BooleanSupplier canAttempt;
+    /**
+     * The action to perform once all attempts have been exhausted
+     */
+    private final Runnable failureAction;
+    /**
+     * Whether an attempt sequence is currently in progress
+     */
+    private final AtomicBoolean active = new AtomicBoolean(false);
+    /**
+     * The amount of connection attempts that have been made
+     */
+    private final AtomicLong attemptCount = new AtomicLong();
+    /**
+     * The amount of attempt sequences that resulted in a connection
+     */
+    private final AtomicLong successCount = new AtomicLong();
+    /**
+     * The amount of attempt sequences that were exhausted without a connection
+     */
+    private final AtomicLong failureCount = new AtomicLong();
+    /**
+     * The delay before the second attempt, in milliseconds
+     */
+    private final long baseDelay;
+    /**
+     * The maximum delay between attempts, in milliseconds
+     */
+    private final long maxDelay;
+    /**
+     * The maximum amount of attempts in the current sequence
+     */
+    private volatile int maxAttempts;
+    /**
+     * The amount of attempts made in the current sequence
+     */
+    private volatile int currentAttempt;
+    /**
+     * The delay, in milliseconds, used before the most recently scheduled attempt
+     */
+    private volatile long lastDelay;
+    /**
+     * The current sequence generation, used to discard attempts from a cancelled sequence
+     */
+    private volatile int generation;
+    /**
+     * The next scheduled attempt, if any
+     */
+    private volatile ScheduledFuture<?> future;
+    /**
+     * The executor running connection attempts, created on first use and after each shutdown
+     */
+    private ScheduledExecutorService executor;
+
+    /**
+     * Initializes a new Reconnection Scheduler
+     *
+     * @param connectAction The action used to attempt a connection, given the current attempt number
+     * @param canAttempt    Whether further attempts are currently allowed
+     * @param failureAction The action to perform once all attempts have been exhausted
+     * @param baseDelay     The delay before the second attempt, in milliseconds
+     * @param maxDelay      The maximum delay between attempts, in milliseconds
+     */
+    public ReconnectScheduler(final ConnectAction connectAction, final BooleanSupplier canAttempt, final Runnable failureAction,
+                              final long baseDelay, final long maxDelay) {
+        this.connectAction = connectAction;
+        this.canAttempt = canAttempt;
+        this.failureAction = failureAction;
+        this.baseDelay = Math.max(1, baseDelay);
+        this.maxDelay = Math.max(this.baseDelay, maxDelay);
+    }
+
+    /**
+     * Begin a new attempt sequence, if one is not already in progress
+     *
+     * @param maxAttempts The maximum amount of attempts to make
+     */
+    public void start(final int maxAttempts) {
+        if (active.compareAndSet(false, true)) {
+            synchronized (this) {
+                this.maxAttempts = Math.max(1, maxAttempts);
+                currentAttempt = 0;
+                lastDelay = 0;
+                final int sequence = ++generation;
+                future = getExecutor().schedule(() -> attempt(sequence), 0, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Cancel the current attempt sequence, if any
+     */
+    public synchronized void cancel() {
+        generation++;
+        final ScheduledFuture<?> current = future;
+        if (current != null) {
+            current.cancel(false);
+            future = null;
+        }
+        active.set(false);
+    }
+
+    /**
+     * Cancel the current attempt sequence, if any, and stop the IPC thread once its queued work has run
+     * <p>A new IPC thread is created if this scheduler is used again afterwards
+     */
+    public synchronized void shutDown() {
+        cancel();
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    /**
+     * Retrieve the executor used for IPC work, creating it if needed
+     * <p>Work submitted here is serialised against connection attempts
+     *
+     * @return the executor used for IPC work
+     */
+    public synchronized ScheduledExecutorService getExecutor() {
+        if (executor == null || executor.isShutdown()) {
+            executor = Executors.newSingleThreadScheduledExecutor(Constants.getThreadFactory());
+        }
+        return executor;
+    }
+
+    /**
+     * Run a single connection attempt, scheduling the next one if needed
+     *
+     * @param sequence The sequence generation this attempt belongs to
+     */
+    private void attempt(final int sequence) {
+        if (sequence != generation || !active.get()) {
+            return;
+        }
+        if (!canAttempt.getAsBoolean()) {
+            finish(sequence);
+            return;
+        }
+
+        final int attemptNumber = ++currentAttempt;
+        attemptCount.incrementAndGet();
+        boolean connected;
+        try {
+            connected = connectAction.connect(attemptNumber, () -> sequence != generation);
+        } catch (Throwable ex) {
+            Constants.LOG.debugError(ex);
+            connected = false;
+        }
+
+        if (connected) {
+            if (finish(sequence)) {
+                successCount.incrementAndGet();
+            }
+        } else if (attemptNumber >= maxAttempts || !canAttempt.getAsBoolean()) {
+            if (finish(sequence) && attemptNumber >= maxAttempts) {
+                failureCount.incrementAndGet();
+                failureAction.run();
+            }
+        } else {
+            synchronized (this) {
+                if (sequence == generation) {
+                    lastDelay = getDelay(attemptNumber);
+                    future = getExecutor().schedule(() -> attempt(sequence), lastDelay, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+    }
+
+    /**
+     * Mark the specified attempt sequence as complete
+     *
+     * @param sequence The sequence generation to interpret
+     * @return {@link Boolean#TRUE} if the sequence was still current
+     */
+    private synchronized boolean finish(final int sequence) {
+        if (sequence == generation) {
+            future = null;
+            active.set(false);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Calculate the delay before the next attempt, with jitter applied
+     * <p>The delay doubles after each attempt, up to the maximum, and is randomized
+     * within its upper half so that clients do not retry in lockstep
+     *
+     * @param attemptNumber The attempt number that just failed
+     * @return the delay before the next attempt, in milliseconds
+     */
+    private long getDelay(final int attemptNumber) {
+        final int shift = Math.min(attemptNumber - 1, 30);
+        final long delay = Math.min(maxDelay, baseDelay << shift);
+        final long half = delay / 2;
+        return half + ThreadLocalRandom.current().nextLong(delay - half + 1);
+    }
+
+    /**
+     * Whether an attempt sequence is currently in progress
+     *
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean isActive() {
+        return active.get();
+    }
+
+    /**
+     * Retrieve the amount of attempts made in the current or last sequence
+     *
+     * @return the amount of attempts in the current sequence
+     */
+    public int getCurrentAttempt() {
+        return currentAttempt;
+    }
+
+    /**
+     * Retrieve the delay, in milliseconds, used before the most recently scheduled attempt
+     *
+     * @return the last delay used between attempts
+     */
+    public long getLastDelay() {
+        return lastDelay;
+    }
+
+    /**
+     * Retrieve the amount of connection attempts that have been made
+     *
+     * @return the amount of connection attempts
+     */
+    public long getAttemptCount() {
+        return attemptCount.get();
+    }
+
+    /**
+     * Retrieve the amount of attempt sequences that resulted in a connection
+     *
+     * @return the amount of successful sequences
+     */
+    public long getSuccessCount() {
+        return successCount.get();
+    }
+
+    /**
+     * Retrieve the amount of attempt sequences that were exhausted without a connection
+     *
+     * @return the amount of failed sequences
+     */
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    /**
+     * An action used to attempt a connection
+     */
+    @FunctionalInterface
+    public interface ConnectAction {
+        /**
+         * Attempt a connection
+         * <p>If the sequence is cancelled once connected, the action is responsible for closing the connection
+         *
+         * @param attemptNumber The current attempt number
+         * @param isCancelled   Whether the sequence this attempt belongs to has since been cancelled
+         * @return {@link Boolean#TRUE} if the connection was successful
+         */
+        boolean connect(int attemptNumber, BooleanSupplier isCancelled);
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.utils.discord.assets;
+
+import com.google.gson.annotations.Expose;
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * The Json Parsing Syntax for an Exported Discord Asset, as stored in an export manifest
+ *
+ * @author CDAGaming
+ */
+public class AssetExportEntry {
+    /**
+     * The status for an asset that has been fully downloaded
+     */
+    public static final String STATUS_COMPLETE = "complete";
+    /**
+     * The status for an asset that failed to download
+     */
+    public static final String STATUS_FAILED = "failed";
+
+    /**
+     * The ID of the exported Asset
+     */
+    @SerializedName("id")
+    @Expose
+    private String id;
+
+    /**
+     * The file name of the exported Asset
+     */
+    @SerializedName("name")
+    @Expose
+    private String name;
+
+    /**
+     * The Url the Asset was downloaded from
+     */
+    @SerializedName("url")
+    @Expose
+    private String url;
+
+    /**
+     * The SHA-256 hash of the downloaded file, if complete
+     */
+    @SerializedName("hash")
+    @Expose
+    private String hash;
+
+    /**
+     * The size of the downloaded file in bytes, if complete
+     */
+    @SerializedName("size")
+    @Expose
+    private long size;
+
+    /**
+     * The last modified time of the downloaded file, if complete
+     */
+    @SerializedName("modified")
+    @Expose
+    private long modified;
+
+    /**
+     * The export status of this Asset
+     */
+    @SerializedName("status")
+    @Expose
+    private String status;
+
+    /**
+     * Initializes a new Export Entry
+     *
+     * @param id       The ID of the exported Asset
+     * @param name     The file name of the exported Asset
+     * @param url      The Url the Asset was downloaded from
+     * @param hash     The SHA-256 hash of the downloaded file, if complete
+     * @param size     The size of the downloaded file in bytes, if complete
+     * @param modified The last modified time of the downloaded file, if complete
+     * @param status   The export status of this Asset
+     */
+    public AssetExportEntry(final String id, final String name, final String url, final String hash, final long size, final long modified, final String status) {
+        this.id = id;
+        this.name = name;
+        this.url = url;
+        this.hash = hash;
+        this.size = size;
+        this.modified = modified;
+        this.status = status;
+    }
+
+    /**
+     * Retrieves the ID of the exported Asset
+     *
+     * @return The ID of the exported Asset
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Retrieves the file name of the exported Asset
+     *
+     * @return The file name of the exported Asset
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves the Url the Asset was downloaded from
+     *
+     * @return The Url the Asset was downloaded from
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Retrieves the SHA-256 hash of the downloaded file
+     *
+     * @return The SHA-256 hash of the downloaded file, if complete
+     */
+    public String getHash() {
+        return hash;
+    }
+
+    /**
+     * Retrieves the size of the downloaded file in bytes
+     *
+     * @return The size of the downloaded file, if complete
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Retrieves the last modified time of the downloaded file
+     *
+     * @return The last modified time of the downloaded file, if complete
+     */
+    public long getModified() {
+        return modified;
+    }
+
+    /**
+     * Retrieves the export status of this Asset
+     *
+     * @return The export status of this Asset
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Whether this Asset has been fully downloaded
+     *
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean isComplete() {
+        return STATUS_COMPLETE.equals(status);
+    }
+}
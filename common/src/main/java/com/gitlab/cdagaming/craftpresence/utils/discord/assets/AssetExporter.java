@@ -0,0 +1,411 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.utils.discord.assets;
+
+import com.gitlab.cdagaming.craftpresence.core.Constants;
+import io.github.cdagaming.unicore.utils.FileUtils;
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.math.BigInteger;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntConsumer;
+
+/**
+ * Exports the Assets belonging to a Client ID, downloading them concurrently when requested
+ * <p>Downloaded assets are recorded in a manifest, allowing an interrupted or partially failed export
+ * to skip any assets that were already fetched, and remain unchanged, when re-run
+ *
+ * @author CDAGaming
+ */
+public class AssetExporter {
+    /**
+     * The maximum amount of assets to download at once
+     */
+    public static final int MAX_THREADS = 4;
+    /**
+     * The amount of completed downloads between each manifest save
+     */
+    private static final int MANIFEST_SAVE_INTERVAL = 25;
+    /**
+     * The connect and read timeout for each download, in milliseconds
+     */
+    private static final int DOWNLOAD_TIMEOUT = 15000;
+    /**
+     * The buffer size to use while downloading, in bytes
+     */
+    private static final int BUFFER_SIZE = 8192;
+    /**
+     * The Client ID the assets belong to
+     */
+    private final String clientId;
+    /**
+     * The assets to be exported
+     */
+    private final DiscordAsset[] assets;
+    /**
+     * The directory the assets are exported to
+     */
+    private final File exportDir;
+    /**
+     * The additional data to append to each asset url
+     */
+    private final String urlMeta;
+    /**
+     * The encoding to use for the download list
+     */
+    private final String encoding;
+    /**
+     * The export manifest, containing the status of each downloaded asset
+     * <p>Format: assetId, exportEntry
+     */
+    private final Map<String, AssetExportEntry> manifest = StringUtils.newTreeMap();
+    /**
+     * The amount of assets downloaded, skipped or failed during the last export
+     */
+    private int downloadedCount, skippedCount, failedCount;
+
+    /**
+     * Initializes a new Asset Exporter
+     *
+     * @param clientId  The Client ID the assets belong to
+     * @param assets    The assets to be exported
+     * @param exportDir The directory the assets are exported to
+     * @param urlMeta   The additional data to append to each asset url
+     * @param encoding  The encoding to use for the download list
+     */
+    public AssetExporter(final String clientId, final DiscordAsset[] assets, final File exportDir, final String urlMeta, final String encoding) {
+        this.clientId = clientId;
+        this.assets = assets;
+        this.exportDir = exportDir;
+        this.urlMeta = StringUtils.getOrDefault(urlMeta);
+        this.encoding = encoding;
+    }
+
+    /**
+     * Export the assets, writing a download list and optionally downloading each asset
+     *
+     * @param doFullCopy Whether to download each asset, or only write the download list
+     * @param progress   Receives the amount of assets processed so far
+     * @return {@link Boolean#TRUE} if the export completed, though some downloads may have failed
+     */
+    public boolean export(final boolean doFullCopy, final IntConsumer progress) {
+        downloadedCount = skippedCount = failedCount = 0;
+        if (!exportDir.exists() && !exportDir.mkdirs()) {
+            return false;
+        }
+
+        if (doFullCopy && !downloadAssets(progress)) {
+            return false;
+        }
+        return writeDownloadList();
+    }
+
+    /**
+     * Download any assets not already present in the export manifest
+     *
+     * @param progress Receives the amount of assets processed so far
+     * @return {@link Boolean#TRUE} if all downloads were attempted
+     */
+    private boolean downloadAssets(final IntConsumer progress) {
+        loadManifest();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(MAX_THREADS, Constants.getThreadFactory());
+        final CompletionService<AssetExportEntry> downloads = new ExecutorCompletionService<>(executor);
+        int pendingCount = 0;
+        try {
+            for (DiscordAsset asset : assets) {
+                final String assetUrl = getAssetUrl(asset);
+                final String assetName = getFileName(asset);
+                final File assetFile = new File(exportDir, assetName);
+                final AssetExportEntry entry = manifest.get(asset.getId());
+                if (entry != null && entry.isComplete() && assetUrl.equals(entry.getUrl()) && isUnchanged(assetFile, entry)) {
+                    skippedCount++;
+                    progress.accept(skippedCount);
+                    continue;
+                }
+                downloads.submit(() -> downloadAsset(asset.getId(), assetName, assetUrl, assetFile));
+                pendingCount++;
+            }
+
+            for (int i = 0; i < pendingCount; i++) {
+                final AssetExportEntry entry = downloads.take().get();
+                manifest.put(entry.getId(), entry);
+                if (entry.isComplete()) {
+                    downloadedCount++;
+                } else {
+                    failedCount++;
+                }
+                progress.accept(skippedCount + downloadedCount + failedCount);
+
+                if ((i + 1) % MANIFEST_SAVE_INTERVAL == 0) {
+                    saveManifest();
+                }
+            }
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException ex) {
+            Constants.LOG.debugError(ex.getCause());
+            return false;
+        } finally {
+            executor.shutdownNow();
+            saveManifest();
+        }
+    }
+
+    /**
+     * Whether the specified file is unchanged since it was recorded in the export manifest
+     * <p>The recorded size and modification time are trusted when they match,
+     * and the file is only re-hashed if its modification time differs
+     *
+     * @param file  The file to interpret
+     * @param entry The export manifest entry recorded for the file
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    private static boolean isUnchanged(final File file, final AssetExportEntry entry) {
+        if (!file.isFile() || file.length() != entry.getSize()) {
+            return false;
+        }
+        return file.lastModified() == entry.getModified() || matchesHash(file, entry.getHash());
+    }
+
+    /**
+     * Download the specified asset, recording its hash and size
+     * <p>Each download is written to its own temporary file, so assets sharing a file name never write to the same file
+     *
+     * @param id        The ID of the asset to download
+     * @param assetName The file name of the asset
+     * @param assetUrl  The url to download the asset from
+     * @param assetFile The file to download the asset to
+     * @return the resulting export manifest entry
+     */
+    private AssetExportEntry downloadAsset(final String id, final String assetName, final String assetUrl, final File assetFile) {
+        File tempFile = null;
+        try {
+            tempFile = Files.createTempFile(exportDir.toPath(), assetName + ".", ".part").toFile();
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            final URLConnection connection = new URL(assetUrl).openConnection();
+            connection.setConnectTimeout(DOWNLOAD_TIMEOUT);
+            connection.setReadTimeout(DOWNLOAD_TIMEOUT);
+
+            long size = 0L;
+            try (InputStream in = new DigestInputStream(connection.getInputStream(), digest);
+                 OutputStream out = Files.newOutputStream(tempFile.toPath())) {
+                final byte[] buffer = new byte[BUFFER_SIZE];
+                int length;
+                while ((length = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, length);
+                    size += length;
+                }
+            }
+            moveFile(tempFile, assetFile);
+            return new AssetExportEntry(id, assetName, assetUrl, toHash(digest), size, assetFile.lastModified(), AssetExportEntry.STATUS_COMPLETE);
+        } catch (Exception ex) {
+            Constants.LOG.debugError(ex);
+            if (tempFile != null && tempFile.exists() && !tempFile.delete()) {
+                tempFile.deleteOnExit();
+            }
+            return new AssetExportEntry(id, assetName, assetUrl, null, 0L, 0L, AssetExportEntry.STATUS_FAILED);
+        }
+    }
+
+    /**
+     * Move the specified file into place, atomically if supported by the file system
+     *
+     * @param source The file to move
+     * @param target The file to replace
+     * @throws IOException if the file could not be moved
+     */
+    private static void moveFile(final File source, final File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Whether the specified file still matches the hash recorded for it in the export manifest
+     * <p>Guards against files that were modified or corrupted since being downloaded, while keeping their size
+     *
+     * @param file         The file to interpret
+     * @param expectedHash The SHA-256 hash recorded for the file
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    private static boolean matchesHash(final File file, final String expectedHash) {
+        if (StringUtils.isNullOrEmpty(expectedHash)) {
+            return false;
+        }
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            int length;
+            while ((length = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, length);
+            }
+            return expectedHash.equalsIgnoreCase(toHash(digest));
+        } catch (Exception ex) {
+            Constants.LOG.debugError(ex);
+            return false;
+        }
+    }
+
+    /**
+     * Retrieve the hexadecimal hash from the specified digest
+     *
+     * @param digest The digest to interpret
+     * @return the resulting hash string
+     */
+    private static String toHash(final MessageDigest digest) {
+        return String.format("%064x", new BigInteger(1, digest.digest()));
+    }
+
+    /**
+     * Write the list of asset names and urls, using the configured encoding
+     *
+     * @return {@link Boolean#TRUE} if the list was written successfully
+     */
+    private boolean writeDownloadList() {
+        final File listFile = new File(exportDir, "downloads.txt");
+        try (BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(listFile.toPath()), encoding))) {
+            bw.write("## Export Data => " + clientId);
+            bw.newLine();
+            bw.newLine();
+
+            for (DiscordAsset asset : assets) {
+                bw.write("* " + getFileName(asset) + " => " + getAssetUrl(asset));
+                bw.newLine();
+            }
+            return true;
+        } catch (Throwable ex) {
+            Constants.LOG.debugError(ex);
+            return false;
+        }
+    }
+
+    /**
+     * Load the export manifest from a previous export, if present
+     */
+    private void loadManifest() {
+        manifest.clear();
+        final File file = getManifestFile();
+        if (file.exists()) {
+            try {
+                final AssetExportEntry[] entries = FileUtils.getJsonData(file, AssetExportEntry[].class);
+                if (entries != null) {
+                    for (AssetExportEntry entry : entries) {
+                        if (entry != null && entry.getId() != null) {
+                            manifest.put(entry.getId(), entry);
+                        }
+                    }
+                }
+            } catch (Exception ex) {
+                Constants.LOG.debugError(ex);
+            }
+        }
+    }
+
+    /**
+     * Write the export manifest, allowing a later export to resume from it
+     */
+    private void saveManifest() {
+        FileUtils.writeJsonData(manifest.values().toArray(new AssetExportEntry[0]), getManifestFile(), "UTF-8");
+    }
+
+    /**
+     * Retrieve the file storing the export manifest
+     *
+     * @return the export manifest file
+     */
+    private File getManifestFile() {
+        return new File(exportDir, "manifest.json");
+    }
+
+    /**
+     * Retrieve the download url for the specified asset
+     *
+     * @param asset The asset to interpret
+     * @return the download url for the asset
+     */
+    private String getAssetUrl(final DiscordAsset asset) {
+        return DiscordAssetUtils.getDiscordAssetUrl(clientId, asset.getId(), false) + urlMeta;
+    }
+
+    /**
+     * Retrieve the exported file name for the specified asset
+     *
+     * @param asset The asset to interpret
+     * @return the exported file name for the asset
+     */
+    private String getFileName(final DiscordAsset asset) {
+        return asset.getName() + ".png";
+    }
+
+    /**
+     * Retrieve the amount of assets downloaded during the last export
+     *
+     * @return the downloaded asset count
+     */
+    public int getDownloadedCount() {
+        return downloadedCount;
+    }
+
+    /**
+     * Retrieve the amount of assets skipped during the last export, as they were already downloaded
+     *
+     * @return the skipped asset count
+     */
+    public int getSkippedCount() {
+        return skippedCount;
+    }
+
+    /**
+     * Retrieve the amount of assets that failed to download during the last export
+     *
+     * @return the failed asset count
+     */
+    public int getFailedCount() {
+        return failedCount;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.utils.discord.assets;
+
+import io.github.cdagaming.unicore.utils.StringUtils;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable snapshot of the available Discord Assets, indexed for lookups
+ * <p>
+ * Icon Keys are normalized once per key, rather than on every lookup
+ *
+ * @author CDAGaming
+ */
+public class DiscordAssetIndex {
+    /**
+     * An empty index, used before any asset data has been synchronized
+     */
+    public static final DiscordAssetIndex EMPTY = new DiscordAssetIndex(
+            Collections.emptyMap(), Collections.emptyMap()
+    );
+    /**
+     * The maximum amount of resolved keys to retain, beyond those precomputed from asset names
+     */
+    private static final int MAX_RESOLVED_KEYS = 4096;
+    /**
+     * Placeholder result for keys that do not resolve to an asset
+     */
+    private static final DiscordAsset MISSING = new DiscordAsset();
+    /**
+     * Mapping storing the Icon Keys and Asset Data attached to the Client ID
+     */
+    private final Map<String, DiscordAsset> assets;
+    /**
+     * Mapping storing the Icon Keys and Asset Data attached from dynamic data
+     */
+    private final Map<String, DiscordAsset> customAssets;
+    /**
+     * The available Asset Data, used for random selections
+     */
+    private final DiscordAsset[] values;
+    /**
+     * Mapping storing the resolved Asset Data for each requested Icon Key
+     */
+    private final Map<String, DiscordAsset> resolvedKeys = new ConcurrentHashMap<>();
+
+    /**
+     * Initializes a new Asset Index
+     *
+     * @param assets       The Icon Keys and Asset Data attached to the Client ID
+     * @param customAssets The Icon Keys and Asset Data attached from dynamic data
+     */
+    public DiscordAssetIndex(final Map<String, DiscordAsset> assets, final Map<String, DiscordAsset> customAssets) {
+        this.assets = Collections.unmodifiableMap(StringUtils.newHashMap(assets));
+        this.customAssets = Collections.unmodifiableMap(StringUtils.newHashMap(customAssets));
+        this.values = this.assets.values().toArray(new DiscordAsset[0]);
+
+        for (String name : this.assets.keySet()) {
+            resolvedKeys.put(name, resolveKey(name));
+        }
+        for (String name : this.customAssets.keySet()) {
+            resolvedKeys.put(name, resolveKey(name));
+        }
+    }
+
+    /**
+     * Resolves the Specified Icon Key against the Client ID Assets
+     * <p>
+     * Custom Icon Keys are used as-is, while others are formatted as an icon beforehand
+     *
+     * @param key The Specified Icon Key to interpret
+     * @return The resolved {@link DiscordAsset}, or {@link DiscordAssetIndex#MISSING} if not present
+     */
+    private DiscordAsset resolveKey(final String key) {
+        final String formattedKey = customAssets.containsKey(key) ? key : StringUtils.formatAsIcon(key, "_");
+        final DiscordAsset asset = assets.get(formattedKey);
+        return asset != null ? asset : MISSING;
+    }
+
+    /**
+     * Retrieves the Specified {@link DiscordAsset} data from an Icon Key, if present
+     *
+     * @param key The Specified Icon Key to gain info for
+     * @return The {@link DiscordAsset} data for this Icon Key
+     */
+    public DiscordAsset get(final String key) {
+        if (StringUtils.isNullOrEmpty(key)) {
+            return null;
+        }
+        DiscordAsset result = resolvedKeys.get(key);
+        if (result == null) {
+            result = resolveKey(key);
+            if (resolvedKeys.size() < values.length + customAssets.size() + MAX_RESOLVED_KEYS) {
+                resolvedKeys.put(key, result);
+            }
+        }
+        return result != MISSING ? result : null;
+    }
+
+    /**
+     * Retrieves the Specified {@link DiscordAsset} data from a Custom Icon Key, if present
+     *
+     * @param key The Specified Icon Key to gain info for
+     * @return The {@link DiscordAsset} data for this Icon Key
+     */
+    public DiscordAsset getCustom(final String key) {
+        return !StringUtils.isNullOrEmpty(key) ? customAssets.get(key) : null;
+    }
+
+    /**
+     * Determines if the Specified Icon Key is present under the Client ID Assets
+     *
+     * @param key The Specified Icon Key to Check
+     * @return {@link Boolean#TRUE} if the Icon Key is present and able to be used
+     */
+    public boolean contains(final String key) {
+        return !StringUtils.isNullOrEmpty(key) && assets.containsKey(key);
+    }
+
+    /**
+     * Determines if the Specified Icon Key is present under the Custom Assets
+     *
+     * @param key The Specified Icon Key to Check
+     * @return {@link Boolean#TRUE} if the Icon Key is present and able to be used
+     */
+    public boolean isCustom(final String key) {
+        return !StringUtils.isNullOrEmpty(key) && customAssets.containsKey(key);
+    }
+
+    /**
+     * Retrieves the available Asset Data
+     *
+     * @return the available Asset Data
+     */
+    public DiscordAsset[] getValues() {
+        return values;
+    }
+
+    /**
+     * Whether any Asset Data is available in this index
+     *
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+}
@@ -30,7 +30,13 @@ import io.github.cdagaming.unicore.utils.FileUtils;
 import io.github.cdagaming.unicore.utils.OSUtils;
 import io.github.cdagaming.unicore.utils.StringUtils;
 
+import java.io.File;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Utilities related to locating and Parsing available Discord Assets
@@ -43,12 +49,48 @@ public class DiscordAssetUtils {
     /**
      * Mapping storing the Icon Keys and Asset Data attached to the Current Client
      * ID
+     * <p>Concurrent, as this may be refreshed from a background thread
      */
-    public static final Map<String, DiscordAsset> ASSET_LIST = StringUtils.newHashMap();
+    private static final Map<String, DiscordAsset> assetList = new ConcurrentHashMap<>();
     /**
      * Mapping storing the Icon Keys and Asset Data attached from dynamic data
      */
-    public static final Map<String, DiscordAsset> CUSTOM_ASSET_LIST = StringUtils.newHashMap();
+    private static final Map<String, DiscordAsset> customAssetList = new ConcurrentHashMap<>();
+    /**
+     * Read-Only View of the Icon Keys and Asset Data attached to the Current Client ID
+     * <p>Only modified through this class, so that it always agrees with the lookup index
+     */
+    public static final Map<String, DiscordAsset> ASSET_LIST = Collections.unmodifiableMap(assetList);
+    /**
+     * Read-Only View of the Icon Keys and Asset Data attached from dynamic data
+     * <p>Only modified through this class, so that it always agrees with the lookup index
+     */
+    public static final Map<String, DiscordAsset> CUSTOM_ASSET_LIST = Collections.unmodifiableMap(customAssetList);
+    /**
+     * The directory storing the last-known asset list for each Client ID
+     */
+    private static final File snapshotDir = new File(Constants.configDir + File.separator + Constants.MOD_ID + File.separator + "assets");
+    /**
+     * The current load generation, used to discard results from outdated requests
+     */
+    private static final AtomicInteger loadGeneration = new AtomicInteger();
+    /**
+     * The Client ID that the current asset list belongs to, if any
+     */
+    private static volatile String assetClientId = null;
+    /**
+     * Whether the asset list has been replaced since last checked
+     */
+    private static final AtomicBoolean assetsChanged = new AtomicBoolean(false);
+    /**
+     * The current lookup index, covering both {@link DiscordAssetUtils#ASSET_LIST} and {@link DiscordAssetUtils#CUSTOM_ASSET_LIST}
+     * <p>Replaced as a whole, so readers always observe a consistent catalog
+     */
+    private static volatile DiscordAssetIndex assetIndex = DiscordAssetIndex.EMPTY;
+    /**
+     * The current catalog version, incremented whenever the lookup index is replaced
+     */
+    private static final AtomicLong catalogVersion = new AtomicLong();
     /**
      * The endpoint url for the Discord Applications backend
      */
@@ -78,6 +120,12 @@ public class DiscordAssetUtils {
      * @return {@link Boolean#TRUE} if the Icon Key is present and able to be used
      */
     public static boolean contains(final Map<String, DiscordAsset> list, final String key) {
+        // The built-in lists are read-only views, only modified alongside the lookup index
+        if (list == ASSET_LIST) {
+            return assetIndex.contains(key);
+        } else if (list == CUSTOM_ASSET_LIST) {
+            return assetIndex.isCustom(key);
+        }
         return !StringUtils.isNullOrEmpty(key) && list.containsKey(key);
     }
 
@@ -110,6 +158,11 @@ public class DiscordAssetUtils {
      * @return The {@link DiscordAsset} data for this Icon Key
      */
     public static DiscordAsset get(final Map<String, DiscordAsset> list, final String key) {
+        if (list == ASSET_LIST) {
+            return assetIndex.get(key);
+        } else if (list == CUSTOM_ASSET_LIST) {
+            return assetIndex.getCustom(key);
+        }
         String formattedKey = key;
         if (!StringUtils.isNullOrEmpty(formattedKey)) {
             if (!list.equals(CUSTOM_ASSET_LIST) && !isCustom(formattedKey)) {
@@ -232,9 +285,79 @@ public class DiscordAssetUtils {
     /**
      * Clears FULL Data from this Module
      */
-    public static void emptyData() {
-        ASSET_LIST.clear();
-        CUSTOM_ASSET_LIST.clear();
+    public static synchronized void emptyData() {
+        assetClientId = null;
+        publishIndex(DiscordAssetIndex.EMPTY);
+        assetList.clear();
+        customAssetList.clear();
+    }
+
+    /**
+     * Rebuild the lookup index from the current contents of {@link DiscordAssetUtils#ASSET_LIST} and {@link DiscordAssetUtils#CUSTOM_ASSET_LIST}
+     */
+    public static synchronized void rebuildIndex() {
+        publishIndex(new DiscordAssetIndex(assetList, customAssetList));
+    }
+
+    /**
+     * Replaces the current lookup index, and increments the catalog version
+     *
+     * @param index The new lookup index
+     */
+    private static void publishIndex(final DiscordAssetIndex index) {
+        assetIndex = index;
+        catalogVersion.incrementAndGet();
+    }
+
+    /**
+     * Retrieve the current catalog version
+     * <p>Any change to the available assets results in a new version
+     *
+     * @return the current catalog version
+     */
+    public static long getVersion() {
+        return catalogVersion.get();
+    }
+
+    /**
+     * Whether any Asset Data is currently available
+     *
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    public static boolean hasAssets() {
+        return !assetIndex.isEmpty();
+    }
+
+    /**
+     * Adds or replaces the specified dynamic asset
+     *
+     * @param asset The asset data to interpret
+     */
+    public static synchronized void putCustomAsset(final DiscordAsset asset) {
+        if (!customAssetList.containsKey(asset.getName())) {
+            customAssetList.put(asset.getName(), asset);
+        }
+        // If a Discord Icon exists with the same name, give priority to the custom one
+        // Unless the icon is the default template, in which we don't add it at all
+        if (!asset.getName().equalsIgnoreCase("default")) {
+            assetList.put(asset.getName(), asset);
+        }
+        rebuildIndex();
+    }
+
+    /**
+     * Removes the specified dynamic asset, if present
+     *
+     * @param name The asset name to interpret
+     */
+    public static synchronized void removeCustomAsset(final String name) {
+        if (customAssetList.containsKey(name)) {
+            customAssetList.remove(name);
+            if (!name.equalsIgnoreCase("default")) {
+                assetList.remove(name);
+            }
+            rebuildIndex();
+        }
     }
 
     /**
@@ -244,7 +367,7 @@ public class DiscordAssetUtils {
      */
     public static DiscordAsset getRandomAsset() {
         try {
-            DiscordAsset[] values = ASSET_LIST.values().toArray(new DiscordAsset[0]);
+            final DiscordAsset[] values = assetIndex.getValues();
             return values[OSUtils.RANDOM.nextInt(values.length)];
         } catch (Exception ex) {
             Constants.LOG.error(Constants.TRANSLATOR.translate("craftpresence.logger.error.config.invalid.icon.empty"));
@@ -303,6 +426,23 @@ public class DiscordAssetUtils {
         return getDiscordAssetUrl(CraftPresence.CONFIG.generalSettings.clientId, keyId);
     }
 
+    /**
+     * Retrieves the List of Available Discord Assets from the Client ID
+     * <p>
+     * Default Url Format: [applicationEndpoint]/[clientId]/assets
+     *
+     * @param clientId The client id to load asset data from
+     * @return The list of discord asset data attached to this client id
+     * @throws Exception If an error occurs during operation
+     */
+    private static DiscordAsset[] fetchAssets(final String clientId) throws Exception {
+        Constants.LOG.info(Constants.TRANSLATOR.translate("craftpresence.logger.info.discord.assets.load", clientId));
+        Constants.LOG.info(Constants.TRANSLATOR.translate("craftpresence.logger.info.discord.assets.load.credits"));
+
+        final String url = applicationEndpoint + clientId + "/assets";
+        return FileUtils.getJsonFromURL(url, DiscordAsset[].class);
+    }
+
     /**
      * Retrieves and Synchronizes the List of Available Discord Assets from the Client ID
      * <p>
@@ -313,29 +453,12 @@ public class DiscordAssetUtils {
      * @return The list of discord asset data attached to this client id
      */
     public static DiscordAsset[] loadAssets(final String clientId, final boolean filterToMain) {
-        Constants.LOG.info(Constants.TRANSLATOR.translate("craftpresence.logger.info.discord.assets.load", clientId));
-        Constants.LOG.info(Constants.TRANSLATOR.translate("craftpresence.logger.info.discord.assets.load.credits"));
-
+        final int generation = filterToMain ? loadGeneration.incrementAndGet() : loadGeneration.get();
         try {
-            final String url = applicationEndpoint + clientId + "/assets";
-            final DiscordAsset[] assets = FileUtils.getJsonFromURL(url, DiscordAsset[].class);
-
+            final DiscordAsset[] assets = fetchAssets(clientId);
             if (filterToMain) {
-                // Setup Data
-                ASSET_LIST.clear();
-                if (assets != null) {
-                    for (DiscordAsset asset : assets) {
-                        // Ensure URL is set beforehand for non-custom Assets
-                        // isLocalName is made false to avoid unneeded calls
-                        if (!StringUtils.isNullOrEmpty(asset.getUrl()) && asset.getType() != DiscordAsset.AssetType.CUSTOM) {
-                            asset.setUrl(getDiscordAssetUrl(clientId, asset.getId(), false));
-                        }
-                        if (!ASSET_LIST.containsKey(asset.getName())) {
-                            ASSET_LIST.put(asset.getName(), asset);
-                        }
-                    }
-                }
-                syncCustomAssets();
+                applyAssets(clientId, assets, generation);
+                saveSnapshot(clientId, assets);
             }
             return assets;
         } catch (Exception ex) {
@@ -348,25 +471,186 @@ public class DiscordAssetUtils {
     }
 
     /**
-     * Synchronize and detect any dynamic assets available for this instance
+     * Synchronizes the List of Available Discord Assets from the Client ID, without blocking the caller
+     * <p>
+     * The last-known asset list for this Client ID is applied immediately, if present,
+     * while the current list is retrieved in the background and applied once available.
+     * <p>
+     * If the Client ID has changed and no last-known list is present, an empty asset list is applied
+     * instead, so assets from the previous Client ID are never used with the new one.
+     * <p>
+     * The list is retrieved on its own thread, so a slow or unreachable network never holds up
+     * the shared thread pool driving client ticks.
+     *
+     * @param clientId The client id to load asset data from
+     */
+    public static void loadAssetsAsync(final String clientId) {
+        final int generation = loadGeneration.incrementAndGet();
+        final DiscordAsset[] cachedAssets = loadSnapshot(clientId);
+        if (cachedAssets != null) {
+            applyAssets(clientId, cachedAssets, generation);
+            Constants.LOG.info(Constants.TRANSLATOR.translate("craftpresence.logger.info.discord.assets.cached", String.valueOf(ASSET_LIST.size()), clientId));
+        } else if (!clientId.equals(assetClientId)) {
+            applyAssets(clientId, null, generation);
+        }
+
+        Constants.getThreadFactory().newThread(() -> {
+            try {
+                final DiscordAsset[] assets = fetchAssets(clientId);
+                if (applyAssets(clientId, assets, generation)) {
+                    saveSnapshot(clientId, assets);
+                    Constants.LOG.info(Constants.TRANSLATOR.translate("craftpresence.logger.info.discord.assets.detected", String.valueOf(ASSET_LIST.size())));
+                }
+            } catch (Exception ex) {
+                Constants.LOG.error(Constants.TRANSLATOR.translate("craftpresence.logger.error.discord.assets.load"));
+                Constants.LOG.debugError(ex);
+            }
+        }).start();
+    }
+
+    /**
+     * Applies the specified asset list as the assets to use in CraftPresence
+     * <p>
+     * Entries are replaced in-place, so readers never observe an empty list during a refresh
+     *
+     * @param clientId   The client id the asset data is attached to
+     * @param assets     The list of discord asset data to apply
+     * @param generation The load generation this data belongs to
+     * @return {@link Boolean#TRUE} if the data was applied, or {@link Boolean#FALSE} if outdated
+     */
+    private static synchronized boolean applyAssets(final String clientId, final DiscordAsset[] assets, final int generation) {
+        if (generation != loadGeneration.get()) {
+            return false;
+        }
+
+        final Map<String, DiscordAsset> newAssets = StringUtils.newHashMap();
+        if (assets != null) {
+            for (DiscordAsset asset : assets) {
+                // Ensure URL is set beforehand for non-custom Assets
+                // isLocalName is made false to avoid unneeded calls
+                if (!StringUtils.isNullOrEmpty(asset.getUrl()) && asset.getType() != DiscordAsset.AssetType.CUSTOM) {
+                    asset.setUrl(getDiscordAssetUrl(clientId, asset.getId(), false));
+                }
+                if (!newAssets.containsKey(asset.getName())) {
+                    newAssets.put(asset.getName(), asset);
+                }
+            }
+        }
+
+        final Map<String, DiscordAsset> newCustomAssets = getCustomAssets();
+        for (DiscordAsset asset : newCustomAssets.values()) {
+            // If a Discord Icon exists with the same name, give priority to the custom one
+            // Unless the icon is the default template, in which we don't add it at all
+            if (!asset.getName().equalsIgnoreCase("default")) {
+                newAssets.put(asset.getName(), asset);
+            }
+        }
+
+        publishIndex(new DiscordAssetIndex(newAssets, newCustomAssets));
+        replaceContents(customAssetList, newCustomAssets);
+        replaceContents(assetList, newAssets);
+        assetClientId = clientId;
+        assetsChanged.set(true);
+        return true;
+    }
+
+    /**
+     * Replaces the contents of the target map with the specified data, without clearing it first
+     *
+     * @param target The map to modify
+     * @param data   The data to apply
+     */
+    private static void replaceContents(final Map<String, DiscordAsset> target, final Map<String, DiscordAsset> data) {
+        target.putAll(data);
+        target.keySet().retainAll(data.keySet());
+    }
+
+    /**
+     * Retrieve the file storing the last-known asset list for the specified Client ID
+     *
+     * @param clientId The client id to interpret
+     * @return the snapshot file for this client id
+     */
+    private static File getSnapshotFile(final String clientId) {
+        return new File(snapshotDir, clientId + ".json");
+    }
+
+    /**
+     * Retrieve the last-known asset list for the specified Client ID, if present
+     *
+     * @param clientId The client id to interpret
+     * @return the last-known list of discord asset data, or null if unavailable
+     */
+    private static DiscordAsset[] loadSnapshot(final String clientId) {
+        final File file = getSnapshotFile(clientId);
+        if (file.exists()) {
+            try {
+                return FileUtils.getJsonData(file, DiscordAsset[].class);
+            } catch (Exception ex) {
+                Constants.LOG.debugError(ex);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Write the specified asset list as the last-known asset list for the specified Client ID
+     *
+     * @param clientId The client id to interpret
+     * @param assets   The list of discord asset data to write
+     */
+    private static void saveSnapshot(final String clientId, final DiscordAsset[] assets) {
+        if (assets != null && (snapshotDir.exists() || snapshotDir.mkdirs())) {
+            FileUtils.writeJsonData(assets, getSnapshotFile(clientId), "UTF-8");
+        }
+    }
+
+    /**
+     * Whether the asset list has been replaced since this method was last called
+     *
+     * @return {@link Boolean#TRUE} if the asset list has changed
      */
-    public static void syncCustomAssets() {
-        CUSTOM_ASSET_LIST.clear();
+    public static boolean pollChanges() {
+        return assetsChanged.getAndSet(false);
+    }
+
+    /**
+     * Retrieve the dynamic assets available for this instance
+     *
+     * @return the mapping of dynamic asset data
+     */
+    private static Map<String, DiscordAsset> getCustomAssets() {
+        final Map<String, DiscordAsset> customList = StringUtils.newHashMap();
         for (Map.Entry<String, String> iconData : CraftPresence.CONFIG.displaySettings.dynamicIcons.entrySet()) {
             if (!StringUtils.isNullOrEmpty(iconData.getKey()) && !StringUtils.isNullOrEmpty(iconData.getValue())) {
                 final DiscordAsset asset = new DiscordAsset()
                         .setName(iconData.getKey())
                         .setUrl(iconData.getValue())
                         .setType(DiscordAsset.AssetType.CUSTOM);
-                if (!CUSTOM_ASSET_LIST.containsKey(asset.getName())) {
-                    CUSTOM_ASSET_LIST.put(asset.getName(), asset);
-                }
-                // If a Discord Icon exists with the same name, give priority to the custom one
-                // Unless the icon is the default template, in which we don't add it at all
-                if (!asset.getName().equalsIgnoreCase("default")) {
-                    ASSET_LIST.put(asset.getName(), asset);
+                if (!customList.containsKey(asset.getName())) {
+                    customList.put(asset.getName(), asset);
                 }
             }
         }
+        return customList;
+    }
+
+    /**
+     * Synchronize and detect any dynamic assets available for this instance
+     */
+    public static synchronized void syncCustomAssets() {
+        final Map<String, DiscordAsset> newCustomAssets = getCustomAssets();
+        final Map<String, DiscordAsset> newAssets = StringUtils.newHashMap(ASSET_LIST);
+        for (DiscordAsset asset : newCustomAssets.values()) {
+            // If a Discord Icon exists with the same name, give priority to the custom one
+            // Unless the icon is the default template, in which we don't add it at all
+            if (!asset.getName().equalsIgnoreCase("default")) {
+                newAssets.put(asset.getName(), asset);
+            }
+        }
+
+        publishIndex(new DiscordAssetIndex(newAssets, newCustomAssets));
+        replaceContents(customAssetList, newCustomAssets);
+        assetList.putAll(newAssets);
     }
 }
@@ -28,6 +28,10 @@ import com.gitlab.cdagaming.craftpresence.CraftPresence;
 import com.gitlab.cdagaming.craftpresence.config.Config;
 import com.gitlab.cdagaming.craftpresence.core.config.element.ModuleData;
 import com.gitlab.cdagaming.craftpresence.core.impl.Module;
+import com.gitlab.cdagaming.craftpresence.core.impl.ModuleEvent;
+import com.gitlab.cdagaming.craftpresence.core.impl.NameRegistry;
+import com.gitlab.cdagaming.craftpresence.utils.CommandUtils;
+import com.gitlab.cdagaming.craftpresence.utils.GameState;
 import io.github.cdagaming.unicore.utils.StringUtils;
 import net.minecraft.client.network.NetworkPlayerInfo;
 import net.minecraft.entity.Entity;
@@ -36,9 +40,11 @@ import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.World;
 import net.minecraft.world.storage.WorldInfo;
 
-import java.util.List;
+import java.util.EnumSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Entity Utilities used to Parse Entity Data and handle related RPC Events
@@ -47,34 +53,41 @@ import java.util.Objects;
  */
 @SuppressWarnings("DuplicatedCode")
 public class EntityUtils implements Module {
+    /**
+     * The {@link ModuleEvent} types that this module reacts to
+     */
+    private static final Set<ModuleEvent> EVENT_TYPES = EnumSet.of(
+            ModuleEvent.PLAYER_CHANGE,
+            ModuleEvent.TARGET_CHANGE
+    );
     /**
      * Whether this module is allowed to start and enabled
      */
-    public boolean enabled = false;
+    public volatile boolean enabled = false;
     /**
      * A List of the detected Entity Names
      */
-    public List<String> ENTITY_NAMES = StringUtils.newArrayList();
+    public NameRegistry<String> ENTITY_NAMES = new NameRegistry<>();
     /**
      * A List of the default detected Entity Names
      */
-    public List<String> DEFAULT_NAMES = StringUtils.newArrayList();
+    public NameRegistry<String> DEFAULT_NAMES = new NameRegistry<>();
     /**
      * A Mapping representing the link between UUIDs and Player Names
      */
-    public Map<String, String> PLAYER_BINDINGS = StringUtils.newHashMap();
+    public Map<String, String> PLAYER_BINDINGS = new ConcurrentHashMap<>();
     /**
      * Whether this module is active and currently in use
      */
-    private boolean isInUse = false;
+    private volatile boolean isInUse = false;
     /**
      * Whether this module has performed an initial retrieval of config items
      */
-    private boolean hasScannedConfig = false;
+    private volatile boolean hasScannedConfig = false;
     /**
      * Whether this module has performed an initial retrieval of internal items
      */
-    private boolean hasScannedInternals = false;
+    private volatile boolean hasScannedInternals = false;
     /**
      * The Player's Currently Targeted Entity Name, if any
      */
@@ -180,6 +193,26 @@ public class EntityUtils implements Module {
         );
     }
 
+    @Override
+    public Set<ModuleEvent> getEventTypes() {
+        return EVENT_TYPES;
+    }
+
+    @Override
+    public int getPollInterval() {
+        return 10;
+    }
+
+    @Override
+    public int getMaxPollInterval() {
+        return 60;
+    }
+
+    @Override
+    public boolean canRunConcurrently() {
+        return true;
+    }
+
     @Override
     public void onTick() {
         enabled = !CraftPresence.CONFIG.hasChanged ? CraftPresence.CONFIG.advancedSettings.enablePerEntity : enabled;
@@ -196,7 +229,7 @@ public class EntityUtils implements Module {
         }
 
         if (enabled) {
-            if (CraftPresence.player != null) {
+            if (CommandUtils.getGameState().getPlayer() != null) {
                 setInUse(true);
                 updateData();
             } else if (isInUse()) {
@@ -209,8 +242,9 @@ public class EntityUtils implements Module {
 
     @Override
     public void updateData() {
-        final Entity NEW_CURRENT_TARGET = CraftPresence.instance.objectMouseOver != null && CraftPresence.instance.objectMouseOver.entityHit != null ? CraftPresence.instance.objectMouseOver.entityHit : null;
-        final Entity NEW_CURRENT_RIDING = CraftPresence.player.getRidingEntity();
+        final GameState state = CommandUtils.getGameState();
+        final Entity NEW_CURRENT_TARGET = state.getTarget();
+        final Entity NEW_CURRENT_RIDING = state.getRiding();
 
         final boolean hasTargetChanged = !Objects.equals(NEW_CURRENT_TARGET, CURRENT_TARGET);
         final boolean hasRidingChanged = !Objects.equals(NEW_CURRENT_RIDING, CURRENT_RIDING);
@@ -0,0 +1,292 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.utils.entity;
+
+import com.gitlab.cdagaming.craftpresence.CraftPresence;
+import com.gitlab.cdagaming.craftpresence.ModUtils;
+import com.gitlab.cdagaming.craftpresence.core.Constants;
+import io.github.cdagaming.unicore.utils.StringUtils;
+import net.minecraft.block.Block;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.ResourceLocation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A Parallel, Incremental Scanner for the Block and Item Registries
+ * <p>Registry entries are resolved in chunks across a worker pool, and merged in registry order.
+ * <p>Display names are cached per registry name and language, and only entries not merged
+ * since the last reset are resolved again, allowing repeat scans to skip most of the registry.
+ *
+ * @author CDAGaming
+ */
+public class TileEntityScanner {
+    /**
+     * The amount of registry entries to resolve within each task
+     */
+    private static final int CHUNK_SIZE = 512;
+    /**
+     * The maximum amount of chunks to resolve at once
+     */
+    private static final int MAX_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+    /**
+     * The module to merge resolved entries into
+     */
+    private final TileEntityUtils module;
+    /**
+     * The executor used to run scans and resolve chunks
+     */
+    private final ThreadPoolExecutor executor;
+    /**
+     * A mapping of the default {@link ItemStack} for each registry entry
+     * <p>Format: registryKey, defaultStack
+     */
+    private final Map<String, ItemStack> stackCache = new ConcurrentHashMap<>();
+    /**
+     * A mapping of the resolved display name for each registry entry and language, or empty if it has none
+     * <p>Format: languageId|registryKey, displayName
+     */
+    private final Map<String, String> nameCache = new ConcurrentHashMap<>();
+    /**
+     * The registry entries merged into the module since the last reset
+     */
+    private final Set<String> mergedEntries = ConcurrentHashMap.newKeySet();
+    /**
+     * The current scan generation, incremented to cancel any running scan
+     */
+    private final AtomicInteger generation = new AtomicInteger();
+    /**
+     * The language the merged entries were resolved with
+     */
+    private volatile String mergedLanguage;
+    /**
+     * The lock held while merging entries or resetting, so that no entry from a cancelled scan is merged after a reset
+     */
+    private final Object mergeLock = new Object();
+
+    /**
+     * Initializes a new Tile Entity Scanner
+     *
+     * @param module The module to merge resolved entries into
+     */
+    public TileEntityScanner(final TileEntityUtils module) {
+        this.module = module;
+        executor = new ThreadPoolExecutor(
+                MAX_THREADS + 1, MAX_THREADS + 1,
+                30L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                Constants.getThreadFactory()
+        );
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Retrieve the language currently in use by the game
+     *
+     * @return the current language id
+     */
+    private static String getLanguage() {
+        return CraftPresence.instance != null && CraftPresence.instance.gameSettings != null ?
+                CraftPresence.instance.gameSettings.language : "";
+    }
+
+    /**
+     * Whether the game language has changed since the merged entries were resolved
+     *
+     * @return {@link Boolean#TRUE} if the merged entries are outdated
+     */
+    public boolean isOutdated() {
+        return mergedLanguage != null && !mergedLanguage.equals(getLanguage());
+    }
+
+    /**
+     * Cancel any running scan, and forget which entries have been merged
+     * <p>Cached display names are retained, and reused by later scans
+     */
+    public void reset() {
+        synchronized (mergeLock) {
+            generation.incrementAndGet();
+            mergedEntries.clear();
+            mergedLanguage = null;
+        }
+    }
+
+    /**
+     * Begin scanning the Block and Item Registries for entries not yet merged, cancelling any running scan
+     */
+    public void scan() {
+        final int scanId = generation.incrementAndGet();
+        executor.execute(() -> {
+            try {
+                run(scanId);
+            } catch (Throwable ex) {
+                Constants.LOG.debugError(ex);
+            }
+        });
+    }
+
+    /**
+     * Whether the specified scan has been cancelled
+     *
+     * @param scanId The scan generation to interpret
+     * @return {@link Boolean#TRUE} if the scan has been cancelled
+     */
+    private boolean isCancelled(final int scanId) {
+        return generation.get() != scanId;
+    }
+
+    /**
+     * Scan the Block and Item Registries, merging the resolved entries in registry order
+     *
+     * @param scanId The scan generation to run as
+     * @throws Exception If a chunk failed to resolve
+     */
+    private void run(final int scanId) throws Exception {
+        final String language = getLanguage();
+        synchronized (mergeLock) {
+            if (isCancelled(scanId)) {
+                return;
+            }
+            if (!language.equals(mergedLanguage)) {
+                mergedEntries.clear();
+                mergedLanguage = language;
+            }
+        }
+
+        final List<Object> pending = StringUtils.newArrayList();
+        final List<String> pendingKeys = StringUtils.newArrayList();
+        for (Block block : Block.REGISTRY) {
+            final String key = getKey("block", Block.REGISTRY.getNameForObject(block));
+            if (key != null && !mergedEntries.contains(key)) {
+                pending.add(block);
+                pendingKeys.add(key);
+            }
+        }
+        for (Item item : Item.REGISTRY) {
+            final String key = getKey("item", Item.REGISTRY.getNameForObject(item));
+            if (key != null && !mergedEntries.contains(key)) {
+                pending.add(item);
+                pendingKeys.add(key);
+            }
+        }
+
+        final List<FutureTask<Object[]>> chunks = StringUtils.newArrayList();
+        for (int start = 0; start < pending.size(); start += CHUNK_SIZE) {
+            final int chunkStart = start;
+            final int chunkEnd = Math.min(start + CHUNK_SIZE, pending.size());
+            final FutureTask<Object[]> chunk = new FutureTask<>(
+                    () -> resolve(scanId, language, pending, pendingKeys, chunkStart, chunkEnd)
+            );
+            chunks.add(chunk);
+            executor.execute(chunk);
+        }
+
+        for (int index = 0; index < chunks.size(); index++) {
+            final FutureTask<Object[]> chunk = chunks.get(index);
+            // Resolve the chunk here if no worker has started it yet
+            chunk.run();
+            final Object[] results = chunk.get();
+
+            // Checked while holding the lock, so that a reset cannot occur part-way through the merge
+            synchronized (mergeLock) {
+                if (isCancelled(scanId)) {
+                    for (FutureTask<Object[]> remaining : chunks) {
+                        remaining.cancel(false);
+                    }
+                    return;
+                }
+
+                final int chunkStart = index * CHUNK_SIZE;
+                for (int offset = 0; offset < results.length; offset++) {
+                    final Object data = pending.get(chunkStart + offset);
+                    final String key = pendingKeys.get(chunkStart + offset);
+                    final String name = (String) results[offset];
+                    if (!StringUtils.isNullOrEmpty(name)) {
+                        module.addScannedEntry(data instanceof Block, name, data.getClass().getName(), stackCache.get(key));
+                    }
+                    mergedEntries.add(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Resolve the display names for a chunk of registry entries
+     *
+     * @param scanId   The scan generation to run as
+     * @param language The language to resolve names with
+     * @param entries  The registry entries being scanned
+     * @param keys     The registry keys for each entry
+     * @param start    The first entry index to resolve (Inclusive)
+     * @param end      The last entry index to resolve (Exclusive)
+     * @return the resolved display names, or empty for entries without one
+     */
+    private Object[] resolve(final int scanId, final String language,
+                             final List<Object> entries, final List<String> keys,
+                             final int start, final int end) {
+        final Object[] results = new Object[end - start];
+        for (int index = start; index < end && !isCancelled(scanId); index++) {
+            final String key = keys.get(index);
+            final String cacheKey = language + "|" + key;
+            String name = nameCache.get(cacheKey);
+            if (name == null) {
+                final Object data = entries.get(index);
+                final ItemStack stack = stackCache.computeIfAbsent(key, k -> TileEntityUtils.getStackFrom(data));
+                name = "";
+                if (!TileEntityUtils.isEmpty(stack)) {
+                    name = TileEntityUtils.getName(stack);
+                    if (TileEntityUtils.isRawTE(name)) {
+                        // Mirrors TileEntityUtils#verifyEntities, done once per entry instead of per scan
+                        name = ModUtils.RAW_TRANSLATOR != null && ModUtils.RAW_TRANSLATOR.hasTranslation(name) ?
+                                ModUtils.RAW_TRANSLATOR.translate(name) : "";
+                    }
+                }
+                nameCache.put(cacheKey, name);
+            }
+            results[index - start] = name;
+        }
+        return results;
+    }
+
+    /**
+     * Retrieve the cache key for the specified registry entry
+     *
+     * @param type The registry type of the entry
+     * @param name The registry name of the entry
+     * @return the cache key for the entry, or null if it is unregistered
+     */
+    private String getKey(final String type, final ResourceLocation name) {
+        return name != null ? type + ":" + name : null;
+    }
+}
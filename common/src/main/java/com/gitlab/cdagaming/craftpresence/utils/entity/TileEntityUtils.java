@@ -27,14 +27,20 @@ package com.gitlab.cdagaming.craftpresence.utils.entity;
 import com.gitlab.cdagaming.craftpresence.CraftPresence;
 import com.gitlab.cdagaming.craftpresence.ModUtils;
 import com.gitlab.cdagaming.craftpresence.core.impl.Module;
+import com.gitlab.cdagaming.craftpresence.core.impl.ModuleEvent;
+import com.gitlab.cdagaming.craftpresence.core.impl.NameRegistry;
+import com.gitlab.cdagaming.craftpresence.utils.CommandUtils;
+import com.gitlab.cdagaming.craftpresence.utils.GameState;
 import io.github.cdagaming.unicore.utils.StringUtils;
 import net.minecraft.block.Block;
 import net.minecraft.init.Items;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 
-import java.util.List;
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tile Entity Utilities used to Parse TileEntity (Blocks and Items) Data and handle related RPC Events
@@ -43,6 +49,13 @@ import java.util.Map;
  */
 @SuppressWarnings("DuplicatedCode")
 public class TileEntityUtils implements Module {
+    /**
+     * The {@link ModuleEvent} types that this module reacts to
+     */
+    private static final Set<ModuleEvent> EVENT_TYPES = EnumSet.of(
+            ModuleEvent.PLAYER_CHANGE,
+            ModuleEvent.HELD_ITEM_CHANGE
+    );
     /**
      * An Instance of an Empty Item
      */
@@ -54,47 +67,51 @@ public class TileEntityUtils implements Module {
     /**
      * A List of the detected Block Names
      */
-    public final List<String> BLOCK_NAMES = StringUtils.newArrayList();
+    public final NameRegistry<String> BLOCK_NAMES = new NameRegistry<>();
     /**
      * A List of the detected Item Names
      */
-    public final List<String> ITEM_NAMES = StringUtils.newArrayList();
+    public final NameRegistry<String> ITEM_NAMES = new NameRegistry<>();
     /**
      * A List of the detected Block Class Names
      */
-    private final List<String> BLOCK_CLASSES = StringUtils.newArrayList();
+    private final NameRegistry<String> BLOCK_CLASSES = new NameRegistry<>();
     /**
      * A List of the detected Item Class Names
      */
-    private final List<String> ITEM_CLASSES = StringUtils.newArrayList();
+    private final NameRegistry<String> ITEM_CLASSES = new NameRegistry<>();
     /**
      * A List of the detected Tile Entity (Blocks + Items) Class Names
      */
-    private final List<String> TILE_ENTITY_CLASSES = StringUtils.newArrayList();
+    private final NameRegistry<String> TILE_ENTITY_CLASSES = new NameRegistry<>();
     /**
      * Whether this module is allowed to start and enabled
      */
-    public boolean enabled = false;
+    public volatile boolean enabled = false;
     /**
      * A List of the detected Entity (Blocks + Items) Names
      */
-    public List<String> TILE_ENTITY_NAMES = StringUtils.newArrayList();
+    public NameRegistry<String> TILE_ENTITY_NAMES = new NameRegistry<>();
     /**
      * A List storing a mapping of Tile Entity textures, mapped as entityName:entityObject
      */
-    public Map<String, ItemStack> TILE_ENTITY_RESOURCES = StringUtils.newHashMap();
+    public Map<String, ItemStack> TILE_ENTITY_RESOURCES = new ConcurrentHashMap<>();
+    /**
+     * The Scanner used to retrieve Block and Item data from their registries
+     */
+    private final TileEntityScanner scanner = new TileEntityScanner(this);
     /**
      * Whether this module is active and currently in use
      */
-    private boolean isInUse = false;
+    private volatile boolean isInUse = false;
     /**
      * Whether this module has performed an initial retrieval of config items
      */
-    private boolean hasScannedConfig = false;
+    private volatile boolean hasScannedConfig = false;
     /**
      * Whether this module has performed an initial retrieval of internal items
      */
-    private boolean hasScannedInternals = false;
+    private volatile boolean hasScannedInternals = false;
     /**
      * The Player's Current Main Hand Item, if any
      */
@@ -258,6 +275,15 @@ public class TileEntityUtils implements Module {
 
     @Override
     public void emptyData() {
+        clearScanData();
+        clearClientData();
+    }
+
+    /**
+     * Cancel any running registry scan, and clear all detected Block and Item data
+     */
+    private void clearScanData() {
+        scanner.reset();
         queueConfigScan();
         queueInternalScan();
         BLOCK_NAMES.clear();
@@ -267,7 +293,6 @@ public class TileEntityUtils implements Module {
         TILE_ENTITY_NAMES.clear();
         TILE_ENTITY_CLASSES.clear();
         TILE_ENTITY_RESOURCES.clear();
-        clearClientData();
     }
 
     @Override
@@ -291,9 +316,33 @@ public class TileEntityUtils implements Module {
         CraftPresence.CLIENT.clearOverride("item.message", "item.icon");
     }
 
+    @Override
+    public Set<ModuleEvent> getEventTypes() {
+        return EVENT_TYPES;
+    }
+
+    @Override
+    public int getPollInterval() {
+        return 10;
+    }
+
+    @Override
+    public int getMaxPollInterval() {
+        return 60;
+    }
+
+    @Override
+    public boolean canRunConcurrently() {
+        return true;
+    }
+
     @Override
     public void onTick() {
         enabled = !CraftPresence.CONFIG.hasChanged ? CraftPresence.CONFIG.advancedSettings.enablePerItem : enabled;
+        if (enabled && scanner.isOutdated()) {
+            // Re-populate names once the game language changes
+            clearScanData();
+        }
         final boolean needsConfigUpdate = enabled && !hasScannedConfig() && canFetchConfig();
         final boolean needsInternalUpdate = enabled && !hasScannedInternals() && canFetchInternals();
 
@@ -307,7 +356,7 @@ public class TileEntityUtils implements Module {
         }
 
         if (enabled) {
-            if (CraftPresence.player != null) {
+            if (CommandUtils.getGameState().getPlayer() != null) {
                 setInUse(true);
                 updateData();
             } else if (isInUse()) {
@@ -320,12 +369,13 @@ public class TileEntityUtils implements Module {
 
     @Override
     public void updateData() {
-        final ItemStack NEW_CURRENT_MAIN_HAND_ITEM = CraftPresence.player.getHeldItemMainhand();
-        final ItemStack NEW_CURRENT_OFFHAND_ITEM = CraftPresence.player.getHeldItemOffhand();
-        final ItemStack NEW_CURRENT_HELMET = CraftPresence.player.inventory.armorInventory.get(3);
-        final ItemStack NEW_CURRENT_CHEST = CraftPresence.player.inventory.armorInventory.get(2);
-        final ItemStack NEW_CURRENT_LEGS = CraftPresence.player.inventory.armorInventory.get(1);
-        final ItemStack NEW_CURRENT_BOOTS = CraftPresence.player.inventory.armorInventory.get(0);
+        final GameState state = CommandUtils.getGameState();
+        final ItemStack NEW_CURRENT_MAIN_HAND_ITEM = state.getMainHand();
+        final ItemStack NEW_CURRENT_OFFHAND_ITEM = state.getOffHand();
+        final ItemStack NEW_CURRENT_HELMET = state.getHelmet();
+        final ItemStack NEW_CURRENT_CHEST = state.getChest();
+        final ItemStack NEW_CURRENT_LEGS = state.getLegs();
+        final ItemStack NEW_CURRENT_BOOTS = state.getBoots();
 
         final boolean hasMainHandChanged = NEW_CURRENT_MAIN_HAND_ITEM != CURRENT_MAIN_HAND_ITEM;
         final boolean hasOffHandChanged = NEW_CURRENT_OFFHAND_ITEM != CURRENT_OFFHAND_ITEM;
@@ -478,39 +528,36 @@ public class TileEntityUtils implements Module {
 
     @Override
     public void getInternalData() {
-        for (Block block : Block.REGISTRY) {
-            if (!isEmpty(block)) {
-                final ItemStack stack = getStackFrom(block);
-                final String blockName = getName(stack);
-                if (!BLOCK_NAMES.contains(blockName)) {
-                    BLOCK_NAMES.add(blockName);
-                }
-                if (!BLOCK_CLASSES.contains(block.getClass().getName())) {
-                    BLOCK_CLASSES.add(block.getClass().getName());
-                }
-                if (!TILE_ENTITY_RESOURCES.containsKey(blockName)) {
-                    TILE_ENTITY_RESOURCES.put(blockName, stack);
-                }
-            }
-        }
+        scanner.scan();
+    }
 
-        for (Item item : Item.REGISTRY) {
-            if (!isEmpty(item)) {
-                final ItemStack stack = getStackFrom(item);
-                final String itemName = getName(stack);
-                if (!ITEM_NAMES.contains(itemName)) {
-                    ITEM_NAMES.add(itemName);
-                }
-                if (!ITEM_CLASSES.contains(item.getClass().getName())) {
-                    ITEM_CLASSES.add(item.getClass().getName());
-                }
-                if (!TILE_ENTITY_RESOURCES.containsKey(itemName)) {
-                    TILE_ENTITY_RESOURCES.put(itemName, stack);
-                }
-            }
-        }
+    @Override
+    public void scanInternalData() {
+        // The scanner manages its own threads, and cancels any scan already running
+        getInternalData();
+    }
 
-        verifyEntities();
+    /**
+     * Add a Block or Item resolved by the registry scanner
+     *
+     * @param isBlock   Whether the entry is a Block, rather than an Item
+     * @param name      The translated display name of the entry
+     * @param className The class name of the entry
+     * @param stack     The default {@link ItemStack} for the entry
+     */
+    void addScannedEntry(final boolean isBlock, final String name, final String className, final ItemStack stack) {
+        if (isBlock) {
+            BLOCK_NAMES.add(name);
+            BLOCK_CLASSES.add(className);
+        } else {
+            ITEM_NAMES.add(name);
+            ITEM_CLASSES.add(className);
+        }
+        TILE_ENTITY_NAMES.add(name);
+        TILE_ENTITY_CLASSES.add(className);
+        if (stack != null) {
+            TILE_ENTITY_RESOURCES.putIfAbsent(name, stack);
+        }
     }
 
     @Override
@@ -578,7 +625,7 @@ public class TileEntityUtils implements Module {
      * Verifies, Synchronizes and Removes any Invalid Items and Blocks from their Lists
      */
     public void verifyEntities() {
-        for (String item : StringUtils.newArrayList(ITEM_NAMES)) {
+        for (String item : ITEM_NAMES) {
             if (isRawTE(item)) {
                 ITEM_NAMES.remove(item);
                 if (ModUtils.RAW_TRANSLATOR != null && ModUtils.RAW_TRANSLATOR.hasTranslation(item)) {
@@ -587,7 +634,7 @@ public class TileEntityUtils implements Module {
             }
         }
 
-        for (String item : StringUtils.newArrayList(BLOCK_NAMES)) {
+        for (String item : BLOCK_NAMES) {
             if (isRawTE(item)) {
                 BLOCK_NAMES.remove(item);
                 if (ModUtils.RAW_TRANSLATOR != null && ModUtils.RAW_TRANSLATOR.hasTranslation(item)) {
@@ -596,10 +643,10 @@ public class TileEntityUtils implements Module {
             }
         }
 
-        StringUtils.addEntriesNotPresent(TILE_ENTITY_NAMES, BLOCK_NAMES);
-        StringUtils.addEntriesNotPresent(TILE_ENTITY_NAMES, ITEM_NAMES);
+        TILE_ENTITY_NAMES.addAll(BLOCK_NAMES);
+        TILE_ENTITY_NAMES.addAll(ITEM_NAMES);
 
-        StringUtils.addEntriesNotPresent(TILE_ENTITY_CLASSES, BLOCK_CLASSES);
-        StringUtils.addEntriesNotPresent(TILE_ENTITY_CLASSES, ITEM_CLASSES);
+        TILE_ENTITY_CLASSES.addAll(BLOCK_CLASSES);
+        TILE_ENTITY_CLASSES.addAll(ITEM_CLASSES);
     }
 }
@@ -28,16 +28,24 @@ import com.gitlab.cdagaming.craftpresence.CraftPresence;
 import com.gitlab.cdagaming.craftpresence.config.Config;
 import com.gitlab.cdagaming.craftpresence.core.config.element.ModuleData;
 import com.gitlab.cdagaming.craftpresence.core.impl.Module;
+import com.gitlab.cdagaming.craftpresence.core.impl.ModuleEvent;
+import com.gitlab.cdagaming.craftpresence.core.impl.NameRegistry;
+import com.gitlab.cdagaming.craftpresence.utils.CommandUtils;
+import com.gitlab.cdagaming.craftpresence.utils.GameState;
+import com.gitlab.cdagaming.craftpresence.utils.scan.ClassScanUtils;
+import com.gitlab.cdagaming.craftpresence.utils.scan.ScannedClass;
 import io.github.cdagaming.unicore.utils.FileUtils;
 import io.github.cdagaming.unicore.utils.MappingUtils;
 import io.github.cdagaming.unicore.utils.StringUtils;
-import io.github.classgraph.ClassInfo;
 import net.minecraft.client.gui.FontRenderer;
 import net.minecraft.client.gui.GuiScreen;
 import net.minecraft.client.gui.inventory.GuiContainer;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Gui Utilities used to Parse Gui Data and handle related RPC Events
@@ -46,10 +54,17 @@ import java.util.Map;
  */
 @SuppressWarnings("DuplicatedCode")
 public class GuiUtils implements Module {
+    /**
+     * The {@link ModuleEvent} types that this module reacts to
+     */
+    private static final Set<ModuleEvent> EVENT_TYPES = EnumSet.of(
+            ModuleEvent.PLAYER_CHANGE,
+            ModuleEvent.SCREEN_CHANGE
+    );
     /**
      * A List of the detected Gui Screen Classes
      */
-    public final Map<String, ClassInfo> GUI_CLASSES = StringUtils.newHashMap();
+    public final Map<String, ScannedClass> GUI_CLASSES = new ConcurrentHashMap<>();
     /**
      * If an Element is being focused on in a GUI or if a GUI is currently open
      * <p>Conditions depend on Game Version
@@ -58,15 +73,15 @@ public class GuiUtils implements Module {
     /**
      * Whether this module is allowed to start and enabled
      */
-    public boolean enabled = false;
+    public volatile boolean enabled = false;
     /**
      * A List of the detected Gui Screen Names
      */
-    public List<String> GUI_NAMES = StringUtils.newArrayList();
+    public NameRegistry<String> GUI_NAMES = new NameRegistry<>();
     /**
      * A List of the default detected Gui Screen Names
      */
-    public List<String> DEFAULT_NAMES = StringUtils.newArrayList();
+    public NameRegistry<String> DEFAULT_NAMES = new NameRegistry<>();
     /**
      * The Current Instance of the Gui the player is in
      */
@@ -74,15 +89,15 @@ public class GuiUtils implements Module {
     /**
      * Whether this module is active and currently in use
      */
-    private boolean isInUse = false;
+    private volatile boolean isInUse = false;
     /**
      * Whether this module has performed an initial retrieval of config items
      */
-    private boolean hasScannedConfig = false;
+    private volatile boolean hasScannedConfig = false;
     /**
      * Whether this module has performed an initial retrieval of internal items
      */
-    private boolean hasScannedInternals = false;
+    private volatile boolean hasScannedInternals = false;
     /**
      * The name of the Current Gui the player is in
      */
@@ -117,10 +132,31 @@ public class GuiUtils implements Module {
         CraftPresence.CLIENT.clearOverride("screen.message", "screen.icon");
     }
 
+    @Override
+    public Set<ModuleEvent> getEventTypes() {
+        return EVENT_TYPES;
+    }
+
+    @Override
+    public int getPollInterval() {
+        return 10;
+    }
+
+    @Override
+    public int getMaxPollInterval() {
+        return 60;
+    }
+
+    @Override
+    public boolean canRunConcurrently() {
+        return true;
+    }
+
     @Override
     public void onTick() {
         enabled = !CraftPresence.CONFIG.hasChanged ? CraftPresence.CONFIG.advancedSettings.enablePerGui : enabled;
-        isFocused = CraftPresence.instance.currentScreen != null && (CraftPresence.instance.currentScreen.isFocused() || CraftPresence.player != null);
+        final GameState state = CommandUtils.getGameState();
+        isFocused = state.getScreen() != null && (state.getScreen().isFocused() || state.getPlayer() != null);
         final boolean needsConfigUpdate = enabled && !hasScannedConfig() && canFetchConfig();
         final boolean needsInternalUpdate = enabled && !hasScannedInternals() && canFetchInternals();
 
@@ -134,7 +170,7 @@ public class GuiUtils implements Module {
         }
 
         if (enabled) {
-            if (CraftPresence.instance.currentScreen != null) {
+            if (state.getScreen() != null) {
                 setInUse(true);
                 updateData();
             } else if (isInUse()) {
@@ -147,10 +183,10 @@ public class GuiUtils implements Module {
 
     @Override
     public void updateData() {
-        if (CraftPresence.instance.currentScreen == null) {
+        final GuiScreen newScreen = CommandUtils.getGameState().getScreen();
+        if (newScreen == null) {
             clearClientData();
         } else {
-            final GuiScreen newScreen = CraftPresence.instance.currentScreen;
             final String newScreenName = MappingUtils.getClassName(newScreen);
 
             if (!newScreen.equals(CURRENT_SCREEN) || !newScreenName.equals(CURRENT_GUI_NAME)) {
@@ -173,8 +209,8 @@ public class GuiUtils implements Module {
     public void getInternalData() {
         final List<Class<?>> searchClasses = StringUtils.newArrayList(GuiScreen.class, GuiContainer.class);
 
-        for (ClassInfo classObj : FileUtils.getClassNamesMatchingSuperType(searchClasses).values()) {
-            final String screenName = MappingUtils.getClassName(classObj);
+        for (ScannedClass classObj : ClassScanUtils.getSubTypes(searchClasses)) {
+            final String screenName = classObj.getClassName();
             if (!DEFAULT_NAMES.contains(screenName)) {
                 DEFAULT_NAMES.add(screenName);
             }
@@ -198,7 +234,7 @@ public class GuiUtils implements Module {
 
     @Override
     public boolean canFetchInternals() {
-        return MappingUtils.areMappingsLoaded() && FileUtils.isClassGraphEnabled() && FileUtils.canScanClasses();
+        return MappingUtils.areMappingsLoaded() && FileUtils.isClassGraphEnabled() && ClassScanUtils.canScanClasses();
     }
 
     @Override
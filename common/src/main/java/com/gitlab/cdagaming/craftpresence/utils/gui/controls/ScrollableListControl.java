@@ -32,10 +32,9 @@ import com.gitlab.cdagaming.craftpresence.utils.entity.TileEntityUtils;
 import com.gitlab.cdagaming.craftpresence.utils.gui.GuiUtils;
 import com.gitlab.cdagaming.craftpresence.utils.gui.RenderUtils;
 import com.gitlab.cdagaming.craftpresence.utils.gui.integrations.ExtendedScreen;
+import com.gitlab.cdagaming.craftpresence.utils.scan.ScannedClass;
 import io.github.cdagaming.unicore.impl.Pair;
-import io.github.cdagaming.unicore.utils.MappingUtils;
 import io.github.cdagaming.unicore.utils.StringUtils;
-import io.github.classgraph.ClassInfo;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.FontRenderer;
 import net.minecraft.client.gui.GuiSlot;
@@ -48,6 +47,7 @@ import javax.annotation.Nonnull;
 import java.awt.*;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 /**
@@ -84,6 +84,10 @@ public class ScrollableListControl extends GuiSlot {
      * The current screen instance
      */
     public ExtendedScreen currentScreen;
+    /**
+     * Mapping representing a link between the entries original name, and the handle for its texture
+     */
+    private final Map<String, CompletableFuture<ResourceLocation>> textureHandles = StringUtils.newHashMap();
 
     /**
      * Initialization Event for this Control, assigning defined arguments
@@ -308,6 +312,25 @@ public class ScrollableListControl extends GuiSlot {
         }
     }
 
+    /**
+     * Retrieve the texture for the specified entry, once it has finished loading
+     * <p>Until the handle for the texture is completed, an empty texture is returned without looking it up again
+     *
+     * @param originalName The original entry name, before processing
+     * @param url          The url to retrieve the texture
+     * @return The Resulting Texture Data
+     */
+    private ResourceLocation getTexture(final String originalName, final String url) {
+        final CompletableFuture<ResourceLocation> handle = textureHandles.get(originalName);
+        if (handle == null) {
+            textureHandles.put(originalName, ImageUtils.loadTexture(originalName, (Object) url));
+            return new ResourceLocation("");
+        } else if (!handle.isDone()) {
+            return new ResourceLocation("");
+        }
+        return ImageUtils.getTextureFromUrl(originalName, (Object) url);
+    }
+
     /**
      * Renders a Slot Entry for this Control
      *
@@ -336,7 +359,7 @@ public class ScrollableListControl extends GuiSlot {
 
             if (data != null && !StringUtils.isNullOrEmpty(data.getBase64EncodedIconData())) {
                 assetUrl = "data:image/png;base64," + data.getBase64EncodedIconData();
-                texture = ImageUtils.getTextureFromUrl(originalName, new Pair<>(ImageUtils.InputType.ByteStream, assetUrl));
+                texture = getTexture(originalName, assetUrl);
             } else if (CraftPresence.CONFIG.advancedSettings.allowEndpointIcons &&
                     !StringUtils.isNullOrEmpty(CraftPresence.CONFIG.advancedSettings.serverIconEndpoint)) {
                 final String formattedIP = originalName.contains(":") ? StringUtils.formatAddress(originalName, false) : originalName;
@@ -347,7 +370,7 @@ public class ScrollableListControl extends GuiSlot {
                         new Pair<>("server.address.short", () -> formattedIP),
                         new Pair<>("server.address.full", () -> originalName)
                 ).get().toString();
-                texture = ImageUtils.getTextureFromUrl(originalName, endpointUrl);
+                texture = getTexture(originalName, endpointUrl);
                 if (currentScreen.isDebugMode() && isHovering) {
                     hoverText.add(Constants.TRANSLATOR.translate("gui.config.message.editor.url") + " " + endpointUrl);
                 }
@@ -360,7 +383,7 @@ public class ScrollableListControl extends GuiSlot {
             if (currentScreen.isDebugMode() && isHovering) {
                 hoverText.add(Constants.TRANSLATOR.translate("gui.config.message.editor.url") + " " + assetUrl);
             }
-            texture = ImageUtils.getTextureFromUrl(originalName, assetUrl);
+            texture = getTexture(originalName, assetUrl);
         } else if (renderType == RenderType.EntityData) {
             final boolean isPlayer = CraftPresence.ENTITIES.PLAYER_BINDINGS.containsKey(originalName);
             final boolean isValidUuid = StringUtils.isValidUuid(originalName);
@@ -374,7 +397,7 @@ public class ScrollableListControl extends GuiSlot {
                         new Pair<>("player.uuid.full", () -> isValidUuid ? StringUtils.getFromUuid(originalName, false) : ""),
                         new Pair<>("player.uuid.short", () -> isValidUuid ? StringUtils.getFromUuid(originalName, true) : "")
                 ).get().toString();
-                texture = ImageUtils.getTextureFromUrl(originalName, endpointUrl);
+                texture = getTexture(originalName, endpointUrl);
                 if (currentScreen.isDebugMode() && isHovering) {
                     hoverText.add(Constants.TRANSLATOR.translate("gui.config.message.editor.url") + " " + endpointUrl);
                 }
@@ -544,8 +567,8 @@ public class ScrollableListControl extends GuiSlot {
             String identifierName;
             switch (this) {
                 case Gui: {
-                    final ClassInfo target = CraftPresence.GUIS.GUI_CLASSES.get(originalName);
-                    identifierName = target != null ? MappingUtils.getCanonicalName(target) : originalName;
+                    final ScannedClass target = CraftPresence.GUIS.GUI_CLASSES.get(originalName);
+                    identifierName = target != null ? target.getCanonicalName() : originalName;
                     break;
                 }
                 case None:
@@ -26,8 +26,11 @@ package com.gitlab.cdagaming.craftpresence.utils.gui.impl;
 
 import com.gitlab.cdagaming.craftpresence.CraftPresence;
 import com.gitlab.cdagaming.craftpresence.core.Constants;
+import com.gitlab.cdagaming.craftpresence.core.impl.ModuleTickState;
 import com.gitlab.cdagaming.craftpresence.core.impl.discord.DiscordStatus;
 import com.gitlab.cdagaming.craftpresence.utils.CommandUtils;
+import com.gitlab.cdagaming.craftpresence.utils.ImageUtils;
+import com.gitlab.cdagaming.craftpresence.utils.discord.assets.AssetExporter;
 import com.gitlab.cdagaming.craftpresence.utils.discord.assets.DiscordAsset;
 import com.gitlab.cdagaming.craftpresence.utils.discord.assets.DiscordAssetUtils;
 import com.gitlab.cdagaming.craftpresence.utils.gui.controls.ExtendedButtonControl;
@@ -37,17 +40,14 @@ import com.gitlab.cdagaming.craftpresence.utils.gui.integrations.ExtendedScreen;
 import com.gitlab.cdagaming.craftpresence.utils.gui.integrations.ScrollPane;
 import com.gitlab.cdagaming.craftpresence.utils.gui.widgets.TextDisplayWidget;
 import com.jagrosh.discordipc.IPCClient;
-import io.github.cdagaming.unicore.utils.FileUtils;
 import io.github.cdagaming.unicore.utils.StringUtils;
 import org.lwjgl.input.Keyboard;
 import org.meteordev.starscript.value.Value;
 
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.OutputStreamWriter;
-import java.nio.file.Files;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -447,6 +447,45 @@ public class CommandsGui extends ExtendedScreen {
                             } else {
                                 executionString = Constants.TRANSLATOR.translate("craftpresence.command.offline");
                             }
+                        } else if (executionCommandArgs[1].equalsIgnoreCase("stats")) {
+                            final StringBuilder statsString = new StringBuilder(Constants.TRANSLATOR.translate("craftpresence.command.stats.presence",
+                                    CraftPresence.CLIENT.getSentPackets(),
+                                    CraftPresence.CLIENT.getCoalescedPackets(),
+                                    CraftPresence.CLIENT.getDroppedPackets(),
+                                    CraftPresence.CLIENT.getSuppressedPackets()
+                            ));
+                            statsString.append("\\n\\n").append(Constants.TRANSLATOR.translate("craftpresence.command.stats.textures",
+                                    ImageUtils.getCacheHits(),
+                                    ImageUtils.getCacheMisses(),
+                                    ImageUtils.getCacheEvictions(),
+                                    ImageUtils.getCacheResidentBytes() / 1024L
+                            ));
+                            statsString.append("\\n\\n").append(Constants.TRANSLATOR.translate("craftpresence.command.stats.icons",
+                                    CraftPresence.CLIENT.getImageCacheHits(),
+                                    CraftPresence.CLIENT.getImageCacheMisses(),
+                                    DiscordAssetUtils.ASSET_LIST.size(),
+                                    DiscordAssetUtils.getVersion()
+                            ));
+                            statsString.append("\\n\\n").append(Constants.TRANSLATOR.translate("craftpresence.command.stats.connection",
+                                    CraftPresence.CLIENT.getConnectionAttempts(),
+                                    CraftPresence.CLIENT.getSuccessfulConnections(),
+                                    CraftPresence.CLIENT.getFailedConnections(),
+                                    CraftPresence.CLIENT.getLastConnectionDelay()
+                            ));
+                            statsString.append("\\n\\n").append(Constants.TRANSLATOR.translate("craftpresence.command.stats.modules"));
+                            for (Map.Entry<String, ModuleTickState> entry : CommandUtils.getModuleStats().entrySet()) {
+                                final ModuleTickState state = entry.getValue();
+                                statsString.append("\\n").append(Constants.TRANSLATOR.translate("craftpresence.command.stats.modules.entry",
+                                        entry.getKey(),
+                                        state.getTickCount(),
+                                        state.getSkipCount(),
+                                        state.getChangeCount(),
+                                        state.getAverageTime() / 1000L,
+                                        state.getMaxTime() / 1000L,
+                                        state.getInterval()
+                                ));
+                            }
+                            executionString = statsString.toString();
                         } else if (executionCommandArgs[1].equalsIgnoreCase("assets")) {
                             if (executionCommandArgs.length == 2) {
                                 executionString = Constants.TRANSLATOR.translate("craftpresence.command.usage.view.assets");
@@ -543,6 +582,7 @@ public class CommandsGui extends ExtendedScreen {
             } else if (args[0].equalsIgnoreCase("view")) {
                 completions.add("placeholders");
                 completions.add("currentData");
+                completions.add("stats");
                 completions.add("assets");
                 completions.add("dimensions");
                 completions.add("biomes");
@@ -574,52 +614,28 @@ public class CommandsGui extends ExtendedScreen {
         Constants.getThreadFactory().newThread(() -> {
             blockInteractions = true;
             final DiscordAsset[] assetList = DiscordAssetUtils.loadAssets(clientId, false);
-            boolean hasError = false;
 
             if (assetList != null) {
-                final String filePath = Constants.MOD_ID + File.separator + "export" + File.separator + clientId + File.separator;
+                final String filePath = Constants.MOD_ID + File.separator + "export" + File.separator + clientId;
                 executionString = Constants.TRANSLATOR.translate("craftpresence.command.export.pre", assetList.length, clientId, doFullCopy);
 
-                final File dataDir = new File(filePath + "downloads.txt");
                 final String encoding = CraftPresence.CLIENT.isAvailable() ?
                         CraftPresence.CLIENT.ipcInstance.getEncoding() : "UTF-8";
-
-                // Create Data Directory if non-existent
-                try {
-                    FileUtils.assertFileExists(dataDir);
-                } catch (Exception ex) {
-                    Constants.LOG.debugError(ex);
-                    hasError = true;
-                }
-
-                try (BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(dataDir.toPath()), encoding))) {
-                    // Create and write initial data, using the encoding of our current ipc instance (UTF-8 by default)
-                    bw.write("## Export Data => " + clientId);
-                    bw.newLine();
-                    bw.newLine();
-
-                    for (int i = 0; i < assetList.length; i++) {
+                final AssetExporter exporter = new AssetExporter(clientId, assetList, new File(filePath), urlMeta, encoding);
+                final boolean completed = exporter.export(doFullCopy, count ->
                         executionString = Constants.TRANSLATOR.translate("craftpresence.command.export.progress",
-                                clientId, i + 1, assetList.length
-                        );
-                        final DiscordAsset asset = assetList[i];
-                        final String assetUrl = DiscordAssetUtils.getDiscordAssetUrl(clientId, asset.getId(), false) + urlMeta;
-                        final String assetName = asset.getName() + ".png";
-                        if (doFullCopy) {
-                            FileUtils.downloadFile(assetUrl, new File(filePath + assetName));
-                        }
-                        bw.write("* " + assetName + " => " + assetUrl);
-                        bw.newLine();
-                    }
-                } catch (Throwable ex) {
-                    Constants.LOG.debugError(ex);
-                    hasError = true;
-                }
+                                clientId, count, assetList.length
+                        )
+                );
 
-                if (!hasError) {
-                    executionString = Constants.TRANSLATOR.translate("craftpresence.command.export.post", assetList.length, clientId, doFullCopy);
-                } else {
+                if (!completed) {
                     executionString = Constants.TRANSLATOR.translate("craftpresence.command.export.exception", clientId);
+                } else if (exporter.getFailedCount() > 0) {
+                    executionString = Constants.TRANSLATOR.translate("craftpresence.command.export.failed",
+                            assetList.length - exporter.getFailedCount(), assetList.length, clientId, exporter.getFailedCount()
+                    );
+                } else {
+                    executionString = Constants.TRANSLATOR.translate("craftpresence.command.export.post", assetList.length, clientId, doFullCopy);
                 }
             } else {
                 executionString = Constants.TRANSLATOR.translate("craftpresence.command.export.exception", clientId);
@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.utils.scan;
+
+import com.google.gson.annotations.Expose;
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The Json Parsing Syntax for a Persisted Class Scan Index
+ *
+ * @author CDAGaming
+ */
+public class ClassScanData {
+    /**
+     * The format version of this index
+     */
+    @SerializedName("version")
+    @Expose
+    private int version;
+
+    /**
+     * The recorded state and query results of each classpath file
+     * <p>Format: filePath, fileData
+     */
+    @SerializedName("files")
+    @Expose
+    private Map<String, ScannedFile> files;
+
+    /**
+     * Initializes a new Class Scan Index
+     *
+     * @param version The format version of this index
+     * @param files   The recorded state and query results of each classpath file
+     */
+    public ClassScanData(final int version, final Map<String, ScannedFile> files) {
+        this.version = version;
+        this.files = new TreeMap<>(files);
+    }
+
+    /**
+     * Retrieves the format version of this index
+     *
+     * @return The format version of this index
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Retrieves the recorded state and query results of each classpath file
+     *
+     * @return The recorded classpath file data
+     */
+    public Map<String, ScannedFile> getFiles() {
+        return files;
+    }
+
+    /**
+     * Create a copy of this index, for writing to disk while the original is still in use
+     *
+     * @return a copy of this index
+     */
+    public ClassScanData copy() {
+        final Map<String, ScannedFile> result = new TreeMap<>();
+        for (Map.Entry<String, ScannedFile> entry : files.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().copy());
+        }
+        return new ClassScanData(version, result);
+    }
+}
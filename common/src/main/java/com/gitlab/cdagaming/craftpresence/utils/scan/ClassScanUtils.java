@@ -0,0 +1,584 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.utils.scan;
+
+import com.gitlab.cdagaming.craftpresence.core.Constants;
+import io.github.cdagaming.unicore.utils.FileUtils;
+import io.github.cdagaming.unicore.utils.MappingUtils;
+import io.github.cdagaming.unicore.utils.StringUtils;
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ScanResult;
+
+import java.io.File;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Persistent Index for Class Scan Results
+ * <p>Results from {@link FileUtils#getClassNamesMatchingSuperType(List)} are stored on disk per classpath file,
+ * alongside the recorded state of that file.
+ * <p>Queries are answered from the index for every file that is unchanged since the last launch,
+ * and only files that have changed are scanned again; A jar is only re-hashed if its size or modification time have changed.
+ *
+ * @author CDAGaming
+ */
+public class ClassScanUtils {
+    /**
+     * The format version of the index, invalidating older indexes when changed
+     */
+    private static final int INDEX_VERSION = 2;
+    /**
+     * The buffer size to use while hashing classpath files
+     */
+    private static final int BUFFER_SIZE = 65536;
+    /**
+     * The time, in milliseconds, to wait before writing changes to the index
+     */
+    private static final long SAVE_DELAY = 5000L;
+    /**
+     * The file storing the class scan index
+     */
+    private static final File INDEX_FILE = new File(
+            Constants.configDir + File.separator + Constants.MOD_ID + File.separator + "cache" + File.separator + "class-index.json"
+    );
+    /**
+     * The currently active class scan index
+     */
+    private static ClassScanData indexData;
+    /**
+     * Whether the active index was loaded from a previous launch, and can answer queries for unchanged files
+     */
+    private static volatile boolean indexValid = false;
+    /**
+     * Whether the active index has changes that have not been written to disk
+     */
+    private static boolean dirty = false;
+    /**
+     * Whether a write of the index is currently scheduled
+     */
+    private static boolean saveScheduled = false;
+
+    /**
+     * Load the class scan index, verifying each recorded file against the current classpath
+     *
+     * @return {@link Boolean#TRUE} if the index can be used, and no full Class Scan is required
+     */
+    public static synchronized boolean load() {
+        ClassScanData storedData = null;
+        if (INDEX_FILE.exists()) {
+            try {
+                storedData = FileUtils.getJsonData(INDEX_FILE, ClassScanData.class);
+            } catch (Exception ex) {
+                Constants.LOG.debugError(ex);
+            }
+        }
+        if (storedData != null && (storedData.getVersion() != INDEX_VERSION || storedData.getFiles() == null)) {
+            storedData = null;
+        }
+
+        final Map<String, ScannedFile> previous = storedData != null ? storedData.getFiles() : Collections.emptyMap();
+        final Map<String, ScannedFile> files = getClasspathFiles(previous);
+        int unchanged = 0;
+        for (Map.Entry<String, ScannedFile> entry : files.entrySet()) {
+            if (!entry.getValue().getQueries().isEmpty()) {
+                unchanged++;
+            }
+        }
+
+        indexData = new ClassScanData(INDEX_VERSION, files);
+        indexValid = storedData != null;
+        if (indexValid) {
+            Constants.LOG.debugInfo(Constants.TRANSLATOR.translate("craftpresence.logger.info.scan.cached", unchanged, files.size()));
+        }
+        scheduleHashing();
+        return indexValid;
+    }
+
+    /**
+     * Clear the active class scan index from memory, leaving the stored index intact
+     */
+    public static synchronized void reset() {
+        indexData = null;
+        indexValid = false;
+        dirty = false;
+    }
+
+    /**
+     * Whether class data can currently be retrieved, either from the index or from a Class Scan
+     *
+     * @return {@link Boolean#TRUE} if class data can be retrieved
+     */
+    public static boolean canScanClasses() {
+        return indexValid || FileUtils.canScanClasses();
+    }
+
+    /**
+     * Retrieve the classes matching the specified super-types, using the index when possible
+     * <p>Classpath files without a recorded result for this query are scanned on their own,
+     * unless no file has one, in which case a full Class Scan is performed
+     *
+     * @param superTypes The super-types to search for
+     * @return the matching classes
+     */
+    public static List<ScannedClass> getSubTypes(final List<Class<?>> superTypes) {
+        final List<Class<?>> searchTypes = StringUtils.newArrayList();
+        for (Class<?> superType : superTypes) {
+            if (superType != null) {
+                searchTypes.add(superType);
+            }
+        }
+        if (searchTypes.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final String queryKey = getQueryKey(searchTypes);
+        final List<ScannedClass> results = StringUtils.newArrayList();
+        final List<String> pendingFiles = StringUtils.newArrayList();
+        boolean hasCachedFiles = false;
+        synchronized (ClassScanUtils.class) {
+            if (indexData != null) {
+                for (Map.Entry<String, ScannedFile> entry : indexData.getFiles().entrySet()) {
+                    final List<ScannedClass> cached = entry.getValue().getQueries().get(queryKey);
+                    if (cached != null) {
+                        results.addAll(cached);
+                        hasCachedFiles = true;
+                    } else {
+                        pendingFiles.add(entry.getKey());
+                    }
+                }
+                if (pendingFiles.isEmpty()) {
+                    return results;
+                }
+            }
+        }
+
+        if (hasCachedFiles) {
+            // Classes from unchanged files are already known, so only the changed files need to be scanned
+            final Set<String> knownTypes = new HashSet<>();
+            for (Class<?> searchType : searchTypes) {
+                knownTypes.add(searchType.getName());
+            }
+            for (ScannedClass classObj : results) {
+                knownTypes.add(classObj.getName());
+            }
+            final Map<String, List<ScannedClass>> found = scanFiles(pendingFiles, knownTypes);
+            if (found != null) {
+                for (List<ScannedClass> classes : found.values()) {
+                    results.addAll(classes);
+                }
+                store(queryKey, found);
+                return results;
+            }
+        }
+
+        // Index miss, so fall back to a full Class Scan for this query
+        if (!FileUtils.hasScannedClasses()) {
+            FileUtils.detectClasses();
+        }
+        results.clear();
+        final Map<String, List<ScannedClass>> found = StringUtils.newHashMap();
+        boolean canStore = FileUtils.canScanClasses();
+        for (ClassInfo classInfo : FileUtils.getClassNamesMatchingSuperType(searchTypes).values()) {
+            final ScannedClass classObj = toScannedClass(classInfo);
+            results.add(classObj);
+
+            final File source = classInfo.getClasspathElementFile();
+            if (source != null) {
+                found.computeIfAbsent(source.getAbsolutePath(), key -> StringUtils.newArrayList()).add(classObj);
+            } else {
+                // Results that cannot be attributed to a file would be lost once stored
+                canStore = false;
+            }
+        }
+        if (canStore) {
+            synchronized (ClassScanUtils.class) {
+                if (indexData != null) {
+                    for (String path : indexData.getFiles().keySet()) {
+                        found.putIfAbsent(path, Collections.emptyList());
+                    }
+                }
+            }
+            store(queryKey, found);
+        }
+        return results;
+    }
+
+    /**
+     * Retrieve the classes matching the specified super-types, using the index when possible
+     *
+     * @param superTypes The super-types to search for
+     * @return the matching classes
+     */
+    public static List<ScannedClass> getSubTypes(final Class<?>... superTypes) {
+        return getSubTypes(StringUtils.newArrayList(superTypes));
+    }
+
+    /**
+     * Scan the specified classpath files on their own, for classes extending any of the specified types
+     *
+     * @param paths      The classpath files to scan
+     * @param knownTypes The names of the super-types, and of any classes already known to extend them
+     * @return the matching classes found within each file, or null if the files could not be scanned
+     */
+    private static Map<String, List<ScannedClass>> scanFiles(final List<String> paths, final Set<String> knownTypes) {
+        final Map<String, List<ScannedClass>> found = StringUtils.newHashMap();
+        final List<File> sources = StringUtils.newArrayList();
+        for (String path : paths) {
+            found.put(path, StringUtils.newArrayList());
+            sources.add(new File(path));
+        }
+        try (ScanResult scanResult = new ClassGraph()
+                .overrideClasspath(sources)
+                .enableClassInfo()
+                .ignoreClassVisibility()
+                .scan()) {
+            for (ClassInfo classInfo : scanResult.getAllClasses()) {
+                final File source = classInfo.getClasspathElementFile();
+                final List<ScannedClass> classes = source != null ? found.get(source.getAbsolutePath()) : null;
+                if (classes != null && isSubType(classInfo, knownTypes)) {
+                    classes.add(toScannedClass(classInfo));
+                }
+            }
+            return found;
+        } catch (Throwable ex) {
+            Constants.LOG.debugError(ex);
+            return null;
+        }
+    }
+
+    /**
+     * Whether the specified class extends or implements any of the specified types
+     * <p>Super-types outside the scanned files are only known by name, so the hierarchy is walked
+     * until a known type is found, or the hierarchy leaves the scanned files
+     *
+     * @param classInfo  The class to interpret
+     * @param knownTypes The names of the super-types, and of any classes already known to extend them
+     * @return {@link Boolean#TRUE} if condition is satisfied
+     */
+    private static boolean isSubType(final ClassInfo classInfo, final Set<String> knownTypes) {
+        for (ClassInfo parent = classInfo.getSuperclass(); parent != null; parent = parent.getSuperclass()) {
+            if (knownTypes.contains(parent.getName())) {
+                return true;
+            }
+        }
+        for (ClassInfo parent : classInfo.getInterfaces()) {
+            if (knownTypes.contains(parent.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Convert the specified class data into its stored form
+     *
+     * @param classInfo The class to interpret
+     * @return the stored form of the class
+     */
+    private static ScannedClass toScannedClass(final ClassInfo classInfo) {
+        return new ScannedClass(
+                classInfo.getName(),
+                MappingUtils.getClassName(classInfo),
+                MappingUtils.getCanonicalName(classInfo)
+        );
+    }
+
+    /**
+     * Record the results of a query for each of the specified classpath files
+     *
+     * @param queryKey The index key of the query
+     * @param found    The matching classes found within each file
+     */
+    private static synchronized void store(final String queryKey, final Map<String, List<ScannedClass>> found) {
+        if (indexData == null) {
+            return;
+        }
+        for (Map.Entry<String, List<ScannedClass>> entry : found.entrySet()) {
+            ScannedFile file = indexData.getFiles().get(entry.getKey());
+            if (file == null) {
+                file = getFileState(new File(entry.getKey()), null);
+                if (file == null) {
+                    continue;
+                }
+                indexData.getFiles().put(entry.getKey(), file);
+            }
+            file.getQueries().put(queryKey, entry.getValue());
+        }
+        scheduleSave();
+    }
+
+    /**
+     * Mark the index as changed, scheduling it to be written to disk if not already scheduled
+     */
+    private static synchronized void scheduleSave() {
+        dirty = true;
+        if (saveScheduled) {
+            return;
+        }
+
+        saveScheduled = true;
+        try {
+            Constants.getThreadPool().schedule(ClassScanUtils::flush, SAVE_DELAY, TimeUnit.MILLISECONDS);
+        } catch (Exception ex) {
+            // Scheduler unavailable, such as while shutting down, so the index is written on the next change
+            Constants.LOG.debugError(ex);
+            saveScheduled = false;
+        }
+    }
+
+    /**
+     * Write any pending changes to the index to disk
+     * <p>The index is copied while holding the lock, and written to disk without it
+     */
+    public static void flush() {
+        final ClassScanData data;
+        synchronized (ClassScanUtils.class) {
+            saveScheduled = false;
+            if (!dirty || indexData == null) {
+                return;
+            }
+            dirty = false;
+            data = indexData.copy();
+        }
+
+        final File directory = INDEX_FILE.getParentFile();
+        if (directory.exists() || directory.mkdirs()) {
+            FileUtils.writeJsonData(data, INDEX_FILE, "UTF-8");
+        }
+    }
+
+    /**
+     * Hash any classpath jars without a recorded hash in the background, so that later launches
+     * can tell whether a jar whose modification time has changed still has the same contents
+     * <p>Hashing runs on its own low-priority thread, as it can read hundreds of megabytes on larger packs,
+     * and must not hold up the shared thread pool driving client ticks
+     */
+    private static void scheduleHashing() {
+        try {
+            final Thread hashThread = Constants.getThreadFactory().newThread(() -> {
+                final Map<String, ScannedFile> pending = StringUtils.newTreeMap();
+                synchronized (ClassScanUtils.class) {
+                    if (indexData == null) {
+                        return;
+                    }
+                    for (Map.Entry<String, ScannedFile> entry : indexData.getFiles().entrySet()) {
+                        if (StringUtils.isNullOrEmpty(entry.getValue().getHash())) {
+                            pending.put(entry.getKey(), entry.getValue());
+                        }
+                    }
+                }
+
+                for (Map.Entry<String, ScannedFile> entry : pending.entrySet()) {
+                    if (Constants.IS_GAME_CLOSING) {
+                        return;
+                    }
+                    final File source = new File(entry.getKey());
+                    if (!source.isFile()) {
+                        continue;
+                    }
+                    final String hash = getHash(source);
+                    synchronized (ClassScanUtils.class) {
+                        if (indexData != null && indexData.getFiles().get(entry.getKey()) == entry.getValue()) {
+                            entry.getValue().setHash(hash);
+                            scheduleSave();
+                        }
+                    }
+                }
+            });
+            hashThread.setPriority(Thread.MIN_PRIORITY);
+            hashThread.start();
+        } catch (Exception ex) {
+            Constants.LOG.debugError(ex);
+        }
+    }
+
+    /**
+     * Retrieve the index key for the specified super-types
+     * <p>Stored class names depend on the loaded mappings, so results from different mapping states are kept apart
+     *
+     * @param superTypes The super-types to interpret
+     * @return the index key for the super-types
+     */
+    private static String getQueryKey(final List<Class<?>> superTypes) {
+        final List<String> names = StringUtils.newArrayList();
+        for (Class<?> superType : superTypes) {
+            names.add(superType.getName());
+        }
+        Collections.sort(names);
+        final String mappingState = MappingUtils.areMappingsLoaded() ?
+                "mapped:" + Integer.toHexString(MappingUtils.getClassMap().hashCode()) : "unmapped";
+        return mappingState + "|" + String.join(";", names);
+    }
+
+    /**
+     * Retrieve the current state of each classpath file, including jars within the mods directory
+     * <p>Recorded results from the previous index are kept for any file that is unchanged
+     *
+     * @param previous The recorded classpath file data from the previous index
+     * @return the current classpath file data
+     */
+    private static Map<String, ScannedFile> getClasspathFiles(final Map<String, ScannedFile> previous) {
+        final List<File> sources = StringUtils.newArrayList();
+        try {
+            sources.addAll(new ClassGraph().getClasspathFiles());
+        } catch (Throwable ex) {
+            Constants.LOG.debugError(ex);
+        }
+        addModFiles(new File(Constants.modsDir), sources, true);
+
+        final Map<String, ScannedFile> files = StringUtils.newTreeMap();
+        for (File source : sources) {
+            final String path = source.getAbsolutePath();
+            if (files.containsKey(path)) {
+                continue;
+            }
+            final ScannedFile state = getFileState(source, previous.get(path));
+            if (state != null) {
+                files.put(path, state);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Retrieve the current state of the specified classpath file
+     * <p>The recorded results are kept if the file's size and modification time are unchanged,
+     * or if its contents still match the recorded hash; Otherwise, the file is recorded without results
+     *
+     * @param source   The file to interpret
+     * @param previous The recorded data for this file from the previous index, if any
+     * @return the current file data, or null if the file does not exist
+     */
+    private static ScannedFile getFileState(final File source, final ScannedFile previous) {
+        if (!source.exists()) {
+            return null;
+        }
+        if (source.isDirectory()) {
+            final ScannedFile state = getDirectoryState(source);
+            return previous != null && previous.getSize() == state.getSize() && previous.getModified() == state.getModified() ?
+                    previous : state;
+        }
+
+        final long size = source.length();
+        final long modified = source.lastModified();
+        if (previous == null) {
+            // Hashed in the background, as there is nothing to compare against yet
+            return new ScannedFile(size, modified, "");
+        }
+        if (previous.getSize() == size && previous.getModified() == modified) {
+            return previous;
+        }
+        if (!StringUtils.isNullOrEmpty(previous.getHash()) && previous.getSize() == size) {
+            final String hash = getHash(source);
+            if (hash.equals(previous.getHash())) {
+                return new ScannedFile(size, modified, hash, previous.getQueries());
+            }
+            return new ScannedFile(size, modified, hash);
+        }
+        return new ScannedFile(size, modified, "");
+    }
+
+    /**
+     * Append the jar files within the specified mods directory
+     *
+     * @param directory The directory to search
+     * @param sources   The list to append found files to
+     * @param recursive Whether to search versioned sub-directories
+     */
+    private static void addModFiles(final File directory, final List<File> sources, final boolean recursive) {
+        final File[] children = directory.listFiles();
+        if (children == null) {
+            return;
+        }
+        for (File child : children) {
+            if (child.isDirectory()) {
+                if (recursive) {
+                    addModFiles(child, sources, false);
+                }
+            } else if (child.getName().endsWith(".jar") || child.getName().endsWith(".zip")) {
+                sources.add(child);
+            }
+        }
+    }
+
+    /**
+     * Retrieve the current state of the specified classpath directory, from the files within it
+     * <p>A directory's own modification time is unaffected by changes to nested files,
+     * so the amount of files and the newest modification time within it are recorded instead
+     *
+     * @param directory The directory to interpret
+     * @return the current directory data
+     */
+    private static ScannedFile getDirectoryState(final File directory) {
+        long fileCount = 0L;
+        long newestModified = directory.lastModified();
+        try (Stream<Path> paths = Files.walk(directory.toPath())) {
+            final Iterator<Path> iterator = paths.iterator();
+            while (iterator.hasNext()) {
+                final File file = iterator.next().toFile();
+                if (file.isFile()) {
+                    fileCount++;
+                }
+                newestModified = Math.max(newestModified, file.lastModified());
+            }
+        } catch (Exception ex) {
+            Constants.LOG.debugError(ex);
+        }
+        return new ScannedFile(fileCount, newestModified, "");
+    }
+
+    /**
+     * Retrieve the SHA-256 hash of the specified file's contents
+     *
+     * @param file The file to interpret
+     * @return the hash of the file, or an empty string if it could not be read
+     */
+    private static String getHash(final File file) {
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            int length;
+            while ((length = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, length);
+            }
+            return String.format("%064x", new BigInteger(1, digest.digest()));
+        } catch (Exception ex) {
+            Constants.LOG.debugError(ex);
+            return "";
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.utils.scan;
+
+import com.google.gson.annotations.Expose;
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * The Json Parsing Syntax for a Class found during a Class Scan
+ *
+ * @author CDAGaming
+ */
+public class ScannedClass {
+    /**
+     * The runtime name of this class, used to load it
+     */
+    @SerializedName("name")
+    @Expose
+    private String name;
+
+    /**
+     * The mapped class name of this class
+     */
+    @SerializedName("className")
+    @Expose
+    private String className;
+
+    /**
+     * The mapped canonical name of this class
+     */
+    @SerializedName("canonicalName")
+    @Expose
+    private String canonicalName;
+
+    /**
+     * Initializes a new Scanned Class
+     *
+     * @param name          The runtime name of this class, used to load it
+     * @param className     The mapped class name of this class
+     * @param canonicalName The mapped canonical name of this class
+     */
+    public ScannedClass(final String name, final String className, final String canonicalName) {
+        this.name = name;
+        this.className = className;
+        this.canonicalName = canonicalName;
+    }
+
+    /**
+     * Retrieves the runtime name of this class, used to load it
+     *
+     * @return The runtime name of this class
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves the mapped class name of this class
+     *
+     * @return The mapped class name of this class
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * Retrieves the mapped canonical name of this class
+     *
+     * @return The mapped canonical name of this class
+     */
+    public String getCanonicalName() {
+        return canonicalName;
+    }
+}
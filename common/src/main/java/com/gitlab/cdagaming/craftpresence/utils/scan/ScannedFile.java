@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.utils.scan;
+
+import com.google.gson.annotations.Expose;
+import com.google.gson.annotations.SerializedName;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The Json Parsing Syntax for a Classpath File, and the Class Scan results found within it
+ *
+ * @author CDAGaming
+ */
+public class ScannedFile {
+    /**
+     * The size of this file, in bytes, or the amount of files within it for directories
+     */
+    @SerializedName("size")
+    @Expose
+    private long size;
+
+    /**
+     * The last modified time of this file, or the newest modification time within it for directories
+     */
+    @SerializedName("modified")
+    @Expose
+    private long modified;
+
+    /**
+     * The SHA-256 hash of this file's contents, or empty if not yet hashed or for directories
+     */
+    @SerializedName("hash")
+    @Expose
+    private String hash;
+
+    /**
+     * The classes found within this file for each super-type query
+     * <p>Format: queryKey, foundClasses
+     */
+    @SerializedName("queries")
+    @Expose
+    private Map<String, List<ScannedClass>> queries;
+
+    /**
+     * Initializes a new Scanned File
+     *
+     * @param size     The size of this file, in bytes, or the amount of files within it for directories
+     * @param modified The last modified time of this file, or the newest modification time within it for directories
+     * @param hash     The SHA-256 hash of this file's contents, or empty if not yet hashed or for directories
+     * @param queries  The classes found within this file for each super-type query
+     */
+    public ScannedFile(final long size, final long modified, final String hash, final Map<String, List<ScannedClass>> queries) {
+        this.size = size;
+        this.modified = modified;
+        this.hash = hash;
+        this.queries = new ConcurrentHashMap<>(queries);
+    }
+
+    /**
+     * Initializes a new Scanned File, without any recorded query results
+     *
+     * @param size     The size of this file, in bytes, or the amount of files within it for directories
+     * @param modified The last modified time of this file, or the newest modification time within it for directories
+     * @param hash     The SHA-256 hash of this file's contents, or empty if not yet hashed or for directories
+     */
+    public ScannedFile(final long size, final long modified, final String hash) {
+        this(size, modified, hash, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Create a copy of this file data, for writing to disk while the original is still in use
+     *
+     * @return a copy of this file data
+     */
+    public ScannedFile copy() {
+        return new ScannedFile(size, modified, hash, getQueries());
+    }
+
+    /**
+     * Retrieves the size of this file, in bytes
+     *
+     * @return The size of this file
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Retrieves the last modified time of this file
+     *
+     * @return The last modified time of this file
+     */
+    public long getModified() {
+        return modified;
+    }
+
+    /**
+     * Retrieves the SHA-256 hash of this file's contents
+     *
+     * @return The SHA-256 hash of this file, or empty if not yet hashed or for directories
+     */
+    public String getHash() {
+        return hash;
+    }
+
+    /**
+     * Sets the SHA-256 hash of this file's contents
+     *
+     * @param hash The SHA-256 hash of this file
+     */
+    public void setHash(final String hash) {
+        this.hash = hash;
+    }
+
+    /**
+     * Retrieves the classes found within this file for each super-type query
+     *
+     * @return The recorded query results
+     */
+    public Map<String, List<ScannedClass>> getQueries() {
+        if (!(queries instanceof ConcurrentHashMap)) {
+            queries = queries != null ? new ConcurrentHashMap<>(queries) : new ConcurrentHashMap<>();
+        }
+        return queries;
+    }
+}
@@ -32,9 +32,9 @@ import com.gitlab.cdagaming.craftpresence.core.config.element.ModuleData;
 import com.gitlab.cdagaming.craftpresence.core.impl.Module;
 import com.gitlab.cdagaming.craftpresence.core.impl.discord.DiscordStatus;
 import com.gitlab.cdagaming.craftpresence.core.impl.discord.PartyPrivacy;
-import com.gitlab.cdagaming.craftpresence.utils.entity.EntityUtils;
+import com.gitlab.cdagaming.craftpresence.utils.CommandUtils;
+import com.gitlab.cdagaming.craftpresence.utils.GameState;
 import io.github.cdagaming.unicore.impl.Pair;
-import io.github.cdagaming.unicore.impl.Tuple;
 import io.github.cdagaming.unicore.utils.MathUtils;
 import io.github.cdagaming.unicore.utils.StringUtils;
 import io.github.cdagaming.unicore.utils.TimeUtils;
@@ -44,6 +44,7 @@ import net.minecraft.client.multiplayer.ServerData;
 import net.minecraft.client.multiplayer.ServerList;
 import net.minecraft.client.network.NetHandlerPlayClient;
 import net.minecraft.client.network.NetworkPlayerInfo;
+import net.minecraft.world.EnumDifficulty;
 
 import java.time.Instant;
 import java.util.List;
@@ -173,14 +174,29 @@ public class ServerUtils implements Module {
      */
     private int serverIndex = 0;
     /**
-     * Mapping storing the Current X, Y and Z Position of the Player in a World
-     * Format: Position (X, Y, Z)
+     * The Current X, Y and Z Position of the Player in a World
      */
-    private Tuple<Double, Double, Double> currentCoordinates;
+    private double currentX, currentY, currentZ;
     /**
-     * Mapping storing the Current and Maximum Health the Player currently has in a World
+     * The Current and Maximum Health the Player currently has in a World
      */
-    private Pair<Double, Double> currentHealth;
+    private double currentHealth, currentMaxHealth;
+    /**
+     * The Difficulty Data used to derive the Current Difficulty Name
+     */
+    private EnumDifficulty lastDifficulty;
+    /**
+     * Whether the Current Difficulty Name was derived from a Hardcore World
+     */
+    private boolean lastHardcore;
+    /**
+     * The Weather Data used to derive the Current Weather Name
+     */
+    private String lastWeatherData;
+    /**
+     * The World Time used to derive the Current Time Data
+     */
+    private long lastWorldTime = -1L;
     /**
      * The Current Server Connection Data and Info
      */
@@ -224,9 +240,13 @@ public class ServerUtils implements Module {
         currentServer_Name = null;
         currentServerData = null;
         currentConnection = null;
-        currentCoordinates = null;
-        currentHealth = null;
+        currentX = currentY = currentZ = 0.0D;
+        currentHealth = currentMaxHealth = 0.0D;
         currentDifficulty = null;
+        lastDifficulty = null;
+        lastHardcore = false;
+        lastWeatherData = null;
+        lastWorldTime = -1L;
         currentWorldName = null;
         currentWeatherName = null;
         currentServerMessage = "";
@@ -248,6 +268,16 @@ public class ServerUtils implements Module {
         CraftPresence.CLIENT.clearPartyData();
     }
 
+    @Override
+    public int getPollInterval() {
+        return 1;
+    }
+
+    @Override
+    public int getMaxPollInterval() {
+        return 20;
+    }
+
     @Override
     public void onTick() {
         joinInProgress = CraftPresence.CLIENT.STATUS == DiscordStatus.JoinGame || CraftPresence.CLIENT.STATUS == DiscordStatus.SpectateGame;
@@ -265,7 +295,7 @@ public class ServerUtils implements Module {
         }
 
         if (enabled) {
-            if (CraftPresence.player != null && !joinInProgress) {
+            if (CommandUtils.getGameState().getPlayer() != null && !joinInProgress) {
                 setInUse(true);
                 updateData();
             } else if (isInUse()) {
@@ -278,13 +308,14 @@ public class ServerUtils implements Module {
 
     @Override
     public void updateData() {
-        final ServerData newServerData = CraftPresence.instance.getCurrentServerData();
-        final NetHandlerPlayClient newConnection = CraftPresence.instance.getConnection();
+        final GameState state = CommandUtils.getGameState();
+        final ServerData newServerData = state.getServerData();
+        final NetHandlerPlayClient newConnection = state.getConnection();
 
         if (!joinInProgress) {
             final List<NetworkPlayerInfo> newPlayerList = newConnection != null ? StringUtils.newArrayList(newConnection.getPlayerInfoMap()) : StringUtils.newArrayList();
-            final int newCurrentPlayers = newConnection != null ? newConnection.getPlayerInfoMap().size() : 1;
-            final int newMaxPlayers = newConnection != null && newConnection.currentServerMaxPlayers >= newCurrentPlayers ? newConnection.currentServerMaxPlayers : newCurrentPlayers + 1;
+            final int newCurrentPlayers = state.getPlayerCount();
+            final int newMaxPlayers = state.getMaxPlayers();
             final boolean newLANStatus = (CraftPresence.instance.isSingleplayer() && newCurrentPlayers > 1) || (newServerData != null && newServerData.isOnLAN());
 
             final String newServer_IP = newServerData != null && !StringUtils.isNullOrEmpty(newServerData.serverIP) ? newServerData.serverIP : "127.0.0.1";
@@ -332,48 +363,54 @@ public class ServerUtils implements Module {
             // `player` Sub-Arguments
 
             // `player.position` Argument = Current Coordinates of Player
-            final Tuple<Double, Double, Double> newCoordinates = new Tuple<>(
-                    MathUtils.roundDouble(CraftPresence.player.posX, 3),
-                    MathUtils.roundDouble(CraftPresence.player.posY, 3),
-                    MathUtils.roundDouble(CraftPresence.player.posZ, 3)
-            );
-            if (!Objects.equals(newCoordinates, currentCoordinates)) {
-                currentCoordinates = newCoordinates;
+            final double newX = MathUtils.roundDouble(state.getPosX(), 3);
+            final double newY = MathUtils.roundDouble(state.getPosY(), 3);
+            final double newZ = MathUtils.roundDouble(state.getPosZ(), 3);
+            if (newX != currentX || newY != currentY || newZ != currentZ) {
+                currentX = newX;
+                currentY = newY;
+                currentZ = newZ;
                 queuedForUpdate = true;
             }
 
             // 'player.health' Argument = Current and Maximum Health of Player
-            final Pair<Double, Double> newHealth = new Pair<>(
-                    MathUtils.roundDouble(CraftPresence.player.getHealth(), 0),
-                    MathUtils.roundDouble(CraftPresence.player.getMaxHealth(), 0)
-            );
-            if (!Objects.equals(newHealth, currentHealth)) {
+            final double newHealth = MathUtils.roundDouble(state.getHealth(), 0);
+            final double newMaxHealth = MathUtils.roundDouble(state.getMaxHealth(), 0);
+            if (newHealth != currentHealth || newMaxHealth != currentMaxHealth) {
                 currentHealth = newHealth;
+                currentMaxHealth = newMaxHealth;
                 queuedForUpdate = true;
             }
 
             // 'world' Sub-Arguments
 
             // 'world.difficulty' Argument = Current Difficulty of the World
-            final String newDifficulty = CraftPresence.player.world.getWorldInfo().isHardcoreModeEnabled() && ModUtils.RAW_TRANSLATOR != null ?
-                    ModUtils.RAW_TRANSLATOR.translate("selectWorld.gameMode.hardcore") :
-                    StringUtils.formatWord(CraftPresence.player.world.getDifficulty().name().toLowerCase());
-            if (!newDifficulty.equals(currentDifficulty)) {
-                currentDifficulty = newDifficulty;
-                queuedForUpdate = true;
+            if (currentDifficulty == null || state.getDifficulty() != lastDifficulty || state.isHardcore() != lastHardcore) {
+                lastDifficulty = state.getDifficulty();
+                lastHardcore = state.isHardcore();
+                final String newDifficulty = lastHardcore && ModUtils.RAW_TRANSLATOR != null ?
+                        ModUtils.RAW_TRANSLATOR.translate("selectWorld.gameMode.hardcore") :
+                        StringUtils.formatWord(lastDifficulty.name().toLowerCase());
+                if (!newDifficulty.equals(currentDifficulty)) {
+                    currentDifficulty = newDifficulty;
+                    queuedForUpdate = true;
+                }
             }
 
             // `world.weather` Arguments = Current Weather Data of the World
-            final String newWeatherData = EntityUtils.getWeather(CraftPresence.player);
-            final String newWeatherName = Constants.TRANSLATOR.translate("craftpresence.defaults.weather." + newWeatherData);
-            if (!newWeatherName.equals(currentWeatherName)) {
-                currentWeatherName = newWeatherName;
-                queuedForUpdate = true;
+            final String newWeatherData = state.getWeather();
+            if (!newWeatherData.equals(lastWeatherData)) {
+                lastWeatherData = newWeatherData;
+                final String newWeatherName = Constants.TRANSLATOR.translate("craftpresence.defaults.weather." + newWeatherData);
+                if (!newWeatherName.equals(currentWeatherName)) {
+                    currentWeatherName = newWeatherName;
+                    queuedForUpdate = true;
+                }
             }
 
             // 'world.name' Argument = Current Name of the World
             final String primaryWorldName = CraftPresence.instance.getIntegratedServer() != null ? CraftPresence.instance.getIntegratedServer().getWorldName() : "";
-            final String secondaryWorldName = StringUtils.getOrDefault(CraftPresence.player.world.getWorldInfo().getWorldName(), Constants.TRANSLATOR.translate("craftpresence.defaults.world_name"));
+            final String secondaryWorldName = StringUtils.getOrDefault(state.getWorld().getWorldInfo().getWorldName(), Constants.TRANSLATOR.translate("craftpresence.defaults.world_name"));
             final String newWorldName = StringUtils.getOrDefault(primaryWorldName, secondaryWorldName);
             if (!newWorldName.equals(currentWorldName)) {
                 currentWorldName = newWorldName;
@@ -381,13 +418,16 @@ public class ServerUtils implements Module {
             }
 
             // 'world.time' Arguments = Current Time Data of the World
-            final Pair<Long, Instant> newTimeData = TimeUtils.fromWorldTime(CraftPresence.player.world.getWorldTime());
-            if (!Objects.equals(newTimeData, worldTimeData)) {
-                dayCount = newTimeData.getFirst();
-                timeString24 = TimeUtils.toString(newTimeData.getSecond(), "HH:mm");
-                timeString12 = TimeUtils.toString(newTimeData.getSecond(), "hh:mm a");
-                worldTimeData = newTimeData;
-                queuedForUpdate = true;
+            if (GameState.getWorldTime() != lastWorldTime) {
+                lastWorldTime = GameState.getWorldTime();
+                final Pair<Long, Instant> newTimeData = TimeUtils.fromWorldTime(lastWorldTime);
+                if (!Objects.equals(newTimeData, worldTimeData)) {
+                    dayCount = newTimeData.getFirst();
+                    timeString24 = TimeUtils.toString(newTimeData.getSecond(), "HH:mm");
+                    timeString12 = TimeUtils.toString(newTimeData.getSecond(), "hh:mm a");
+                    worldTimeData = newTimeData;
+                    queuedForUpdate = true;
+                }
             }
 
             // 'server.players' Argument = Current and Maximum Allowed Players in Server/World
@@ -526,12 +566,12 @@ public class ServerUtils implements Module {
     @Override
     public void updatePresence() {
         // Form General Argument Lists & Sub Argument Lists
-        CraftPresence.CLIENT.syncArgument("player.position.x", currentCoordinates.getFirst());
-        CraftPresence.CLIENT.syncArgument("player.position.y", currentCoordinates.getSecond());
-        CraftPresence.CLIENT.syncArgument("player.position.z", currentCoordinates.getThird());
+        CraftPresence.CLIENT.syncArgument("player.position.x", currentX);
+        CraftPresence.CLIENT.syncArgument("player.position.y", currentY);
+        CraftPresence.CLIENT.syncArgument("player.position.z", currentZ);
 
-        CraftPresence.CLIENT.syncArgument("player.health.current", currentHealth.getFirst());
-        CraftPresence.CLIENT.syncArgument("player.health.max", currentHealth.getSecond());
+        CraftPresence.CLIENT.syncArgument("player.health.current", currentHealth);
+        CraftPresence.CLIENT.syncArgument("player.health.max", currentMaxHealth);
 
         // World Data Arguments
         CraftPresence.CLIENT.syncArgument("world.difficulty", StringUtils.getOrDefault(currentDifficulty));
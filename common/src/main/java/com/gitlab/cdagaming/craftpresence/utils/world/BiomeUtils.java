@@ -29,13 +29,19 @@ import com.gitlab.cdagaming.craftpresence.config.Config;
 import com.gitlab.cdagaming.craftpresence.core.Constants;
 import com.gitlab.cdagaming.craftpresence.core.config.element.ModuleData;
 import com.gitlab.cdagaming.craftpresence.core.impl.Module;
+import com.gitlab.cdagaming.craftpresence.core.impl.ModuleEvent;
+import com.gitlab.cdagaming.craftpresence.core.impl.NameRegistry;
+import com.gitlab.cdagaming.craftpresence.utils.CommandUtils;
+import com.gitlab.cdagaming.craftpresence.utils.scan.ClassScanUtils;
+import com.gitlab.cdagaming.craftpresence.utils.scan.ScannedClass;
 import io.github.cdagaming.unicore.utils.FileUtils;
 import io.github.cdagaming.unicore.utils.MappingUtils;
 import io.github.cdagaming.unicore.utils.StringUtils;
-import io.github.classgraph.ClassInfo;
 import net.minecraft.world.biome.Biome;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Biome Utilities used to Parse Biome Data and handle related RPC Events
@@ -44,30 +50,38 @@ import java.util.List;
  */
 @SuppressWarnings("DuplicatedCode")
 public class BiomeUtils implements Module {
+    /**
+     * The {@link ModuleEvent} types that this module reacts to
+     */
+    private static final Set<ModuleEvent> EVENT_TYPES = EnumSet.of(
+            ModuleEvent.PLAYER_CHANGE,
+            ModuleEvent.DIMENSION_CHANGE,
+            ModuleEvent.POSITION_CHANGE
+    );
     /**
      * Whether this module is allowed to start and enabled
      */
-    public boolean enabled = false;
+    public volatile boolean enabled = false;
     /**
      * A List of the detected Biome Names
      */
-    public List<String> BIOME_NAMES = StringUtils.newArrayList();
+    public NameRegistry<String> BIOME_NAMES = new NameRegistry<>();
     /**
      * A List of the default detected Biome Names
      */
-    public List<String> DEFAULT_NAMES = StringUtils.newArrayList();
+    public NameRegistry<String> DEFAULT_NAMES = new NameRegistry<>();
     /**
      * Whether this module is active and currently in use
      */
-    private boolean isInUse = false;
+    private volatile boolean isInUse = false;
     /**
      * Whether this module has performed an initial retrieval of config items
      */
-    private boolean hasScannedConfig = false;
+    private volatile boolean hasScannedConfig = false;
     /**
      * Whether this module has performed an initial retrieval of internal items
      */
-    private boolean hasScannedInternals = false;
+    private volatile boolean hasScannedInternals = false;
     /**
      * The Name of the Current Biome the Player is in
      */
@@ -101,6 +115,26 @@ public class BiomeUtils implements Module {
         CraftPresence.CLIENT.clearOverride("biome.message", "biome.icon");
     }
 
+    @Override
+    public Set<ModuleEvent> getEventTypes() {
+        return EVENT_TYPES;
+    }
+
+    @Override
+    public int getPollInterval() {
+        return 20;
+    }
+
+    @Override
+    public int getMaxPollInterval() {
+        return 100;
+    }
+
+    @Override
+    public boolean canRunConcurrently() {
+        return true;
+    }
+
     @Override
     public void onTick() {
         enabled = !CraftPresence.CONFIG.hasChanged ? CraftPresence.CONFIG.generalSettings.detectBiomeData : enabled;
@@ -117,7 +151,7 @@ public class BiomeUtils implements Module {
         }
 
         if (enabled) {
-            if (CraftPresence.player != null) {
+            if (CommandUtils.getGameState().getPlayer() != null) {
                 setInUse(true);
                 updateData();
             } else if (isInUse()) {
@@ -130,7 +164,7 @@ public class BiomeUtils implements Module {
 
     @Override
     public void updateData() {
-        final Biome newBiome = CraftPresence.player.world.getBiome(CraftPresence.player.getPosition());
+        final Biome newBiome = CommandUtils.getGameState().getBiome();
         final String newBiomeName = StringUtils.formatIdentifier(newBiome.getBiomeName(), false, !CraftPresence.CONFIG.advancedSettings.formatWords);
 
         final String newBiome_primaryIdentifier = StringUtils.formatIdentifier(newBiome.getBiomeName(), true, !CraftPresence.CONFIG.advancedSettings.formatWords);
@@ -194,7 +228,7 @@ public class BiomeUtils implements Module {
 
         if (biomeTypes.isEmpty() && FileUtils.isClassGraphEnabled()) {
             // Fallback: Use Manual Class Lookup
-            for (ClassInfo classInfo : FileUtils.getClassNamesMatchingSuperType(Biome.class).values()) {
+            for (ScannedClass classInfo : ClassScanUtils.getSubTypes(Biome.class)) {
                 if (classInfo != null) {
                     try {
                         Class<?> classObj = FileUtils.loadClass(classInfo.getName());
@@ -244,7 +278,7 @@ public class BiomeUtils implements Module {
 
     @Override
     public boolean canFetchInternals() {
-        return MappingUtils.areMappingsLoaded() && (!FileUtils.isClassGraphEnabled() || FileUtils.canScanClasses());
+        return MappingUtils.areMappingsLoaded() && (!FileUtils.isClassGraphEnabled() || ClassScanUtils.canScanClasses());
     }
 
     @Override
@@ -29,15 +29,21 @@ import com.gitlab.cdagaming.craftpresence.config.Config;
 import com.gitlab.cdagaming.craftpresence.core.Constants;
 import com.gitlab.cdagaming.craftpresence.core.config.element.ModuleData;
 import com.gitlab.cdagaming.craftpresence.core.impl.Module;
+import com.gitlab.cdagaming.craftpresence.core.impl.ModuleEvent;
+import com.gitlab.cdagaming.craftpresence.core.impl.NameRegistry;
+import com.gitlab.cdagaming.craftpresence.utils.CommandUtils;
+import com.gitlab.cdagaming.craftpresence.utils.scan.ClassScanUtils;
+import com.gitlab.cdagaming.craftpresence.utils.scan.ScannedClass;
 import io.github.cdagaming.unicore.utils.FileUtils;
 import io.github.cdagaming.unicore.utils.MappingUtils;
 import io.github.cdagaming.unicore.utils.StringUtils;
-import io.github.classgraph.ClassInfo;
 import net.minecraft.world.DimensionType;
 import net.minecraft.world.WorldProvider;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Dimension Utilities used to Parse Dimension Data and handle related RPC Events
@@ -46,30 +52,37 @@ import java.util.Map;
  */
 @SuppressWarnings("DuplicatedCode")
 public class DimensionUtils implements Module {
+    /**
+     * The {@link ModuleEvent} types that this module reacts to
+     */
+    private static final Set<ModuleEvent> EVENT_TYPES = EnumSet.of(
+            ModuleEvent.PLAYER_CHANGE,
+            ModuleEvent.DIMENSION_CHANGE
+    );
     /**
      * Whether this module is allowed to start and enabled
      */
-    public boolean enabled = false;
+    public volatile boolean enabled = false;
     /**
      * A List of the detected Dimension Names
      */
-    public List<String> DIMENSION_NAMES = StringUtils.newArrayList();
+    public NameRegistry<String> DIMENSION_NAMES = new NameRegistry<>();
     /**
      * A List of the default detected Dimension Names
      */
-    public List<String> DEFAULT_NAMES = StringUtils.newArrayList();
+    public NameRegistry<String> DEFAULT_NAMES = new NameRegistry<>();
     /**
      * Whether this module is active and currently in use
      */
-    private boolean isInUse = false;
+    private volatile boolean isInUse = false;
     /**
      * Whether this module has performed an initial retrieval of config items
      */
-    private boolean hasScannedConfig = false;
+    private volatile boolean hasScannedConfig = false;
     /**
      * Whether this module has performed an initial retrieval of internal items
      */
-    private boolean hasScannedInternals = false;
+    private volatile boolean hasScannedInternals = false;
     /**
      * The Name of the Current Dimension the Player is in
      */
@@ -103,6 +116,26 @@ public class DimensionUtils implements Module {
         CraftPresence.CLIENT.clearOverride("dimension.message", "dimension.icon");
     }
 
+    @Override
+    public Set<ModuleEvent> getEventTypes() {
+        return EVENT_TYPES;
+    }
+
+    @Override
+    public int getPollInterval() {
+        return 20;
+    }
+
+    @Override
+    public int getMaxPollInterval() {
+        return 200;
+    }
+
+    @Override
+    public boolean canRunConcurrently() {
+        return true;
+    }
+
     @Override
     public void onTick() {
         enabled = !CraftPresence.CONFIG.hasChanged ? CraftPresence.CONFIG.generalSettings.detectDimensionData : enabled;
@@ -119,7 +152,7 @@ public class DimensionUtils implements Module {
         }
 
         if (enabled) {
-            if (CraftPresence.player != null) {
+            if (CommandUtils.getGameState().getPlayer() != null) {
                 setInUse(true);
                 updateData();
             } else if (isInUse()) {
@@ -132,7 +165,7 @@ public class DimensionUtils implements Module {
 
     @Override
     public void updateData() {
-        final WorldProvider newProvider = CraftPresence.player.world.provider;
+        final WorldProvider newProvider = CommandUtils.getGameState().getProvider();
         final DimensionType newDimensionType = newProvider.getDimensionType();
         final String newDimensionName = StringUtils.formatIdentifier(newDimensionType.getName(), false, !CraftPresence.CONFIG.advancedSettings.formatWords);
 
@@ -203,7 +236,7 @@ public class DimensionUtils implements Module {
                 }
             } else if (FileUtils.isClassGraphEnabled()) {
                 // Fallback 2: Use Manual Class Lookup
-                for (ClassInfo classInfo : FileUtils.getClassNamesMatchingSuperType(WorldProvider.class).values()) {
+                for (ScannedClass classInfo : ClassScanUtils.getSubTypes(WorldProvider.class)) {
                     if (classInfo != null) {
                         try {
                             Class<?> classObj = FileUtils.loadClass(classInfo.getName());
@@ -254,7 +287,7 @@ public class DimensionUtils implements Module {
 
     @Override
     public boolean canFetchInternals() {
-        return MappingUtils.areMappingsLoaded() && (!FileUtils.isClassGraphEnabled() || FileUtils.canScanClasses());
+        return MappingUtils.areMappingsLoaded() && (!FileUtils.isClassGraphEnabled() || ClassScanUtils.canScanClasses());
     }
 
     @Override
@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.core.impl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ModuleTickState} adaptive polling
+ *
+ * @author CDAGaming
+ */
+public class ModuleTickStateTest {
+    @Test
+    void isDueOnFirstTick() {
+        final ModuleTickState state = new ModuleTickState(1, 8);
+
+        assertTrue(state.advance());
+        assertEquals(1, state.getInterval());
+    }
+
+    @Test
+    void intervalDoublesWithoutChanges() {
+        final ModuleTickState state = new ModuleTickState(1, 8);
+
+        state.record(0L, false);
+        assertEquals(2, state.getInterval());
+        state.record(0L, false);
+        assertEquals(4, state.getInterval());
+        state.record(0L, false);
+        assertEquals(8, state.getInterval());
+        state.record(0L, false);
+        assertEquals(8, state.getInterval());
+    }
+
+    @Test
+    void changeResetsToMinimumInterval() {
+        final ModuleTickState state = new ModuleTickState(2, 16);
+        state.record(0L, false);
+        state.record(0L, false);
+        assertEquals(8, state.getInterval());
+
+        state.record(0L, true);
+        assertEquals(2, state.getInterval());
+        assertEquals(1, state.getChangeCount());
+    }
+
+    @Test
+    void isDueOnlyAfterInterval() {
+        final ModuleTickState state = new ModuleTickState(1, 8);
+        state.record(0L, false);
+        state.record(0L, false);
+
+        assertFalse(state.advance());
+        assertFalse(state.advance());
+        assertFalse(state.advance());
+        assertTrue(state.advance());
+    }
+
+    @Test
+    void intervalsAreClamped() {
+        final ModuleTickState state = new ModuleTickState(0, -5);
+        assertEquals(1, state.getInterval());
+        state.record(0L, false);
+        assertEquals(1, state.getInterval());
+
+        state.setIntervals(4, 6);
+        assertEquals(4, state.getInterval());
+        state.record(0L, false);
+        assertEquals(6, state.getInterval());
+    }
+
+    @Test
+    void timingStatisticsAreTracked() {
+        final ModuleTickState state = new ModuleTickState(1, 1);
+        state.record(100L, false);
+        state.record(300L, false);
+        state.skip();
+
+        assertEquals(2, state.getTickCount());
+        assertEquals(1, state.getSkipCount());
+        assertEquals(400L, state.getTotalTime());
+        assertEquals(200L, state.getAverageTime());
+        assertEquals(300L, state.getMaxTime());
+        assertEquals(300L, state.getLastTime());
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.core.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link NameRegistry} ordering, uniqueness, positional changes and snapshot iteration
+ *
+ * @author CDAGaming
+ */
+public class NameRegistryTest {
+    @Test
+    void duplicatesAreIgnoredInInsertionOrder() {
+        final NameRegistry<String> registry = new NameRegistry<>(Arrays.asList("b", "a", "b"));
+
+        assertTrue(registry.add("c"));
+        assertFalse(registry.add("a"));
+        assertEquals(Arrays.asList("b", "a", "c"), registry);
+        assertEquals(3, registry.size());
+        assertEquals("a", registry.get(1));
+    }
+
+    @Test
+    void addAllReportsChanges() {
+        final NameRegistry<String> registry = new NameRegistry<>(Arrays.asList("a", "b"));
+
+        assertFalse(registry.addAll(Arrays.asList("a", "b")));
+        assertTrue(registry.addAll(Arrays.asList("b", "c")));
+        assertEquals(Arrays.asList("a", "b", "c"), registry);
+    }
+
+    @Test
+    void addAllFromRegistry() {
+        final NameRegistry<String> source = new NameRegistry<>(Arrays.asList("a", "b"));
+        final NameRegistry<String> registry = new NameRegistry<>(Arrays.asList("b"));
+
+        assertTrue(registry.addAll(source));
+        assertEquals(Arrays.asList("b", "a"), registry);
+        assertFalse(registry.addAll(registry));
+    }
+
+    @Test
+    void removalsKeepRemainingOrder() {
+        final NameRegistry<String> registry = new NameRegistry<>(Arrays.asList("a", "b", "c", "d"));
+
+        assertTrue(registry.remove("b"));
+        assertFalse(registry.remove("b"));
+        assertTrue(registry.removeAll(Arrays.asList("d", "x")));
+        assertEquals(Arrays.asList("a", "c"), registry);
+
+        assertTrue(registry.retainAll(Arrays.asList("c")));
+        assertEquals(Arrays.asList("c"), registry);
+        assertFalse(registry.contains("a"));
+        assertTrue(registry.contains("c"));
+
+        registry.clear();
+        assertTrue(registry.isEmpty());
+    }
+
+    @Test
+    void positionalChangesKeepEntriesUnique() {
+        final NameRegistry<String> registry = new NameRegistry<>(Arrays.asList("a", "b", "c"));
+
+        registry.add(1, "x");
+        registry.add(0, "c");
+        assertEquals(Arrays.asList("a", "x", "b", "c"), registry);
+
+        assertEquals("a", registry.set(0, "y"));
+        assertEquals("y", registry.set(0, "c"));
+        assertEquals(Arrays.asList("c", "x", "b", "y"), registry);
+
+        assertEquals("x", registry.remove(1));
+        assertEquals(Arrays.asList("c", "b", "y"), registry);
+        assertThrows(IndexOutOfBoundsException.class, () -> registry.add(4, "z"));
+    }
+
+    @Test
+    void inPlaceSortKeepsEveryEntry() {
+        final NameRegistry<String> registry = new NameRegistry<>(Arrays.asList("c", "b", "d", "a"));
+
+        Collections.sort(registry);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), registry);
+
+        registry.subList(1, 3).clear();
+        assertEquals(Arrays.asList("a", "d"), registry);
+    }
+
+    @Test
+    void iterationUsesSnapshot() {
+        final NameRegistry<String> registry = new NameRegistry<>(Arrays.asList("a", "b"));
+        final Iterator<String> iterator = registry.iterator();
+
+        // Changes made while iterating are not visible to, and do not break, the active iterator
+        registry.add("c");
+        registry.remove("a");
+        assertEquals("a", iterator.next());
+        assertEquals("b", iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals(Arrays.asList("b", "c"), registry);
+    }
+
+    @Test
+    void iteratorRemovesFromRegistry() {
+        final NameRegistry<String> registry = new NameRegistry<>(Arrays.asList("a", "b", "c"));
+        final Iterator<String> iterator = registry.iterator();
+
+        assertThrows(IllegalStateException.class, iterator::remove);
+        iterator.next();
+        iterator.remove();
+        assertEquals(Arrays.asList("b", "c"), registry);
+    }
+
+    @Test
+    void toArrayIsACopy() {
+        final NameRegistry<String> registry = new NameRegistry<>(Arrays.asList("a", "b"));
+        final Object[] data = registry.toArray();
+        data[0] = "z";
+
+        final List<String> copy = Arrays.asList("a", "b");
+        assertEquals(copy, registry);
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.core.impl;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link UrlCache} freshness, revalidation and storage limits
+ *
+ * @author CDAGaming
+ */
+public class UrlCacheTest {
+    /**
+     * The amount of requests received by {@link UrlCacheTest#server}
+     */
+    private final AtomicInteger requests = new AtomicInteger();
+    /**
+     * The {@code If-None-Match} header of the last request received, if any
+     */
+    private final AtomicReference<String> lastETag = new AtomicReference<>();
+    /**
+     * The response body currently being served
+     */
+    private final AtomicReference<String> body = new AtomicReference<>("first");
+    /**
+     * The {@code ETag} header currently being served
+     */
+    private final AtomicReference<String> eTag = new AtomicReference<>("\"v1\"");
+    /**
+     * The {@code Cache-Control} header currently being served
+     */
+    private final AtomicReference<String> cacheControl = new AtomicReference<>("no-cache");
+    /**
+     * The directory to store cached responses in
+     */
+    @TempDir
+    File directory;
+    /**
+     * The local server responses are retrieved from
+     */
+    private HttpServer server;
+    /**
+     * The url to request from {@link UrlCacheTest#server}
+     */
+    private URL url;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/image.png", exchange -> {
+            requests.incrementAndGet();
+            final String requestTag = exchange.getRequestHeaders().getFirst("If-None-Match");
+            lastETag.set(requestTag);
+
+            exchange.getResponseHeaders().set("ETag", eTag.get());
+            exchange.getResponseHeaders().set("Cache-Control", cacheControl.get());
+            if (eTag.get().equals(requestTag)) {
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                final byte[] data = body.get().getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, data.length);
+                try (OutputStream stream = exchange.getResponseBody()) {
+                    stream.write(data);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+        url = new URL("http://127.0.0.1:" + server.getAddress().getPort() + "/image.png");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void freshResponseIsServedWithoutRequest() throws IOException {
+        cacheControl.set("public, max-age=60");
+        final UrlCache cache = new UrlCache(directory, Long.MAX_VALUE, 0);
+
+        assertEquals("first", read(cache));
+        assertEquals("first", read(cache));
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void expiredResponseIsRevalidated() throws IOException {
+        final UrlCache cache = new UrlCache(directory, Long.MAX_VALUE, 0);
+
+        assertEquals("first", read(cache));
+        assertNull(lastETag.get());
+
+        body.set("ignored");
+        assertEquals("first", read(cache));
+        assertEquals(2, requests.get());
+        assertEquals("\"v1\"", lastETag.get());
+    }
+
+    @Test
+    void changedResponseReplacesCachedData() throws IOException {
+        final UrlCache cache = new UrlCache(directory, Long.MAX_VALUE, 0);
+        assertEquals("first", read(cache));
+
+        body.set("second");
+        eTag.set("\"v2\"");
+        assertEquals("second", read(cache));
+        assertEquals("second", read(cache));
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    void noCacheTakesPriorityOverMaxAge() throws IOException {
+        cacheControl.set("max-age=60, no-cache");
+        final UrlCache cache = new UrlCache(directory, Long.MAX_VALUE, 0);
+
+        assertEquals("first", read(cache));
+        assertEquals("first", read(cache));
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void noStoreResponseIsNotPersisted() throws IOException {
+        cacheControl.set("max-age=60, no-store");
+        final UrlCache cache = new UrlCache(directory, Long.MAX_VALUE, 0);
+
+        assertEquals("first", read(cache));
+        assertEquals("first", read(cache));
+        assertEquals(2, requests.get());
+        assertArrayEquals(new String[0], directory.list());
+    }
+
+    @Test
+    void oversizedResponseIsRejected() {
+        final UrlCache cache = new UrlCache(directory, Long.MAX_VALUE, 0, 4);
+
+        assertThrows(IOException.class, () -> read(cache));
+        assertArrayEquals(new String[0], directory.list());
+    }
+
+    @Test
+    void indexIsRestoredFromDisk() throws IOException {
+        cacheControl.set("max-age=60");
+        assertEquals("first", read(new UrlCache(directory, Long.MAX_VALUE, 0)));
+
+        final UrlCache cache = new UrlCache(directory, Long.MAX_VALUE, 0);
+        assertArrayEquals("first".getBytes(StandardCharsets.UTF_8), readBytes(cache));
+        assertEquals(1, requests.get());
+    }
+
+    /**
+     * Read the response for {@link UrlCacheTest#url} through the specified cache, as a string
+     *
+     * @param cache The cache to interpret
+     * @return the response body
+     * @throws IOException If an error occurs during operation
+     */
+    private String read(final UrlCache cache) throws IOException {
+        return new String(readBytes(cache), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read the response for {@link UrlCacheTest#url} through the specified cache
+     *
+     * @param cache The cache to interpret
+     * @return the response body
+     * @throws IOException If an error occurs during operation
+     */
+    private byte[] readBytes(final UrlCache cache) throws IOException {
+        try (InputStream stream = cache.getStream(url, 5000, 5000, "UrlCacheTest")) {
+            final ByteArrayOutputStream result = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            int length;
+            while ((length = stream.read(buffer)) != -1) {
+                result.write(buffer, 0, length);
+            }
+            return result.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.gitlab.cdagaming.craftpresence.utils.discord;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.meteordev.starscript.value.Value;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link CompiledArgument} result re-use and invalidation
+ *
+ * @author CDAGaming
+ */
+public class CompiledArgumentTest {
+    /**
+     * The amount of times an expression has been evaluated
+     */
+    private final AtomicInteger evaluations = new AtomicInteger();
+    /**
+     * The {@link DiscordUtils} instance arguments are evaluated against
+     */
+    private DiscordUtils client;
+
+    @BeforeEach
+    void setUp() {
+        client = new DiscordUtils() {
+            @Override
+            public Supplier<Value> compileData(final String input) {
+                // Expressions are resolved as a direct reference to the named placeholder
+                return () -> {
+                    evaluations.incrementAndGet();
+                    return getArgument(input).get();
+                };
+            }
+        };
+        client.syncArgument("first", () -> Value.string("one"));
+        client.syncArgument("second", () -> Value.string("two"));
+    }
+
+    @Test
+    void resultIsReusedUntilDependencyChanges() {
+        final CompiledArgument argument = client.compileArgument("first", false);
+        assertEquals("one", argument.get().getString());
+        assertEquals("one", argument.get().getString());
+        assertEquals(1, evaluations.get());
+
+        client.syncArgument("first", () -> Value.string("uno"));
+        assertEquals("uno", argument.get().getString());
+        assertEquals(2, evaluations.get());
+    }
+
+    @Test
+    void unrelatedChangeKeepsResult() {
+        final CompiledArgument argument = client.compileArgument("first", false);
+        assertEquals("one", argument.get().getString());
+
+        client.syncArgument("second", () -> Value.string("dos"));
+        assertEquals("one", argument.get().getString());
+        assertEquals(1, evaluations.get());
+    }
+
+    @Test
+    void nestedDependencyInvalidatesOuterResult() {
+        client.syncArgument("inner", "first", false);
+        final CompiledArgument argument = client.compileArgument("inner", false);
+        assertEquals("one", argument.get().getString());
+        assertEquals("one", argument.get().getString());
+        assertEquals(2, evaluations.get());
+
+        client.syncArgument("first", () -> Value.string("uno"));
+        assertEquals("uno", argument.get().getString());
+        assertEquals(4, evaluations.get());
+    }
+
+    @Test
+    void plainDataIsNeverEvaluated() {
+        final CompiledArgument argument = client.compileArgument("first", true);
+        assertEquals("first", argument.get().getString());
+        assertEquals(0, evaluations.get());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 - 2024 CDAGaming (cstack2011@yahoo.com)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.gitlab.cdagaming.craftpresence.utils.discord;
+
+import org.junit.jupiter.api.Test;
+import org.meteordev.starscript.value.Value;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link PlaceholderRegistry} type indexing and re-evaluation
+ *
+ * @author CDAGaming
+ */
+public class PlaceholderRegistryTest {
+    @Test
+    void constantTypesAreEvaluatedOnce() {
+        final PlaceholderRegistry registry = new PlaceholderRegistry();
+        final AtomicInteger evaluations = new AtomicInteger();
+        registry.put("general.name", () -> {
+            evaluations.incrementAndGet();
+            return Value.string("name");
+        }, true);
+        registry.put("general.count", () -> Value.number(1), true);
+
+        assertEquals(Collections.singleton("general.name"), registry.getKeysOfType("string"::equals, 0L));
+        assertEquals(Collections.singleton("general.name"), registry.getKeysOfType("string"::equals, 1L));
+        assertEquals(1, evaluations.get());
+    }
+
+    @Test
+    void dynamicTypesAreEvaluatedOncePerRevision() {
+        final PlaceholderRegistry registry = new PlaceholderRegistry();
+        final AtomicReference<Value> value = new AtomicReference<>(Value.null_());
+        final AtomicInteger evaluations = new AtomicInteger();
+        registry.put("player.name", () -> {
+            evaluations.incrementAndGet();
+            return value.get();
+        });
+
+        assertEquals(Collections.singleton("player.name"), registry.getKeysOfType("null"::equals, 0L));
+        assertEquals(Collections.singleton("player.name"), registry.getKeysOfType("null"::equals, 0L));
+        assertEquals(1, evaluations.get());
+
+        value.set(Value.string("Steve"));
+        assertEquals(Collections.emptySet(), registry.getKeysOfType("null"::equals, 1L));
+        assertEquals(Collections.singleton("player.name"), registry.getKeysOfType("string"::equals, 1L));
+        assertEquals(2, evaluations.get());
+    }
+
+    @Test
+    void replacedAndRemovedPlaceholdersAreReindexed() {
+        final PlaceholderRegistry registry = new PlaceholderRegistry();
+        registry.put("world.name", () -> Value.string("overworld"), true);
+        registry.put("world.time", () -> Value.number(0), true);
+        assertEquals(Collections.singleton("world.name"), registry.getKeysOfType("string"::equals, 0L));
+
+        registry.put("world.name", () -> Value.number(1), true);
+        registry.remove("world.time");
+        assertEquals(Collections.singleton("world.name"), registry.getKeysOfType("number"::equals, 0L));
+        assertEquals(Collections.emptySet(), registry.getKeysOfType("string"::equals, 0L));
+    }
+}
@@ -25,9 +25,16 @@
 package com.gitlab.cdagaming.craftpresence.forge;
 
 import com.gitlab.cdagaming.craftpresence.CraftPresence;
+import com.gitlab.cdagaming.craftpresence.core.impl.ModuleEvent;
 import io.github.cdagaming.unicore.utils.MappingUtils;
 import io.github.cdagaming.unicore.utils.OSUtils;
+import net.minecraftforge.client.event.GuiOpenEvent;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.network.FMLNetworkEvent;
 
 /**
  * The Primary Application Class and Utilities
@@ -36,6 +43,11 @@ import net.minecraftforge.fml.common.Mod;
  */
 @Mod(modid = "craftpresence", name = "@MOD_NAME@", version = "@VERSION_ID@", clientSideOnly = true, guiFactory = "com.gitlab.cdagaming.craftpresence.forge.config.ConfigGuiDataFactory", canBeDeactivated = true, updateJSON = "https://raw.githubusercontent.com/CDAGaming/VersionLibrary/master/CraftPresence/update.json", acceptedMinecraftVersions = "*")
 public class CraftPresenceForge {
+    /**
+     * Whether a screen has been opened, closed, or replaced since the last client tick
+     */
+    private boolean screenChanged = false;
+
     /**
      * Begins Scheduling Ticks on Class Initialization
      */
@@ -51,6 +63,76 @@ public class CraftPresenceForge {
      * Setup external integrations and attachments to the primary application
      */
     public void setupIntegrations() {
-        // N/A
+        // Screen and Dimension changes are posted from here, rather than being detected each tick
+        CraftPresence.EVENTS.setProvided(ModuleEvent.SCREEN_CHANGE, ModuleEvent.DIMENSION_CHANGE);
+        MinecraftForge.EVENT_BUS.register(this);
+    }
+
+    /**
+     * Event to run when a screen is opened, closed, or replaced
+     * <p>The event fires before the new screen is assigned, so the change is posted on the next client tick
+     *
+     * @param event The event data
+     */
+    @SubscribeEvent
+    public void onGuiOpen(final GuiOpenEvent event) {
+        screenChanged = true;
+    }
+
+    /**
+     * Event to run at the end of each client tick, posting any screen change since the last tick
+     *
+     * @param event The event data
+     */
+    @SubscribeEvent
+    public void onClientTick(final TickEvent.ClientTickEvent event) {
+        if (event.phase == TickEvent.Phase.END && screenChanged) {
+            screenChanged = false;
+            CraftPresence.EVENTS.post(ModuleEvent.SCREEN_CHANGE);
+        }
+    }
+
+    /**
+     * Event to run when a world is loaded, such as upon changing dimensions
+     *
+     * @param event The event data
+     */
+    @SubscribeEvent
+    public void onWorldLoad(final WorldEvent.Load event) {
+        if (event.getWorld().isRemote) {
+            CraftPresence.EVENTS.post(ModuleEvent.DIMENSION_CHANGE);
+        }
+    }
+
+    /**
+     * Event to run when a world is unloaded, such as upon leaving a world or server
+     *
+     * @param event The event data
+     */
+    @SubscribeEvent
+    public void onWorldUnload(final WorldEvent.Unload event) {
+        if (event.getWorld().isRemote) {
+            CraftPresence.EVENTS.post(ModuleEvent.DIMENSION_CHANGE);
+        }
+    }
+
+    /**
+     * Event to run when connecting to a server
+     *
+     * @param event The event data
+     */
+    @SubscribeEvent
+    public void onConnect(final FMLNetworkEvent.ClientConnectedToServerEvent event) {
+        CraftPresence.EVENTS.post(ModuleEvent.SERVER_CHANGE);
+    }
+
+    /**
+     * Event to run when disconnecting from a server
+     *
+     * @param event The event data
+     */
+    @SubscribeEvent
+    public void onDisconnect(final FMLNetworkEvent.ClientDisconnectionFromServerEvent event) {
+        CraftPresence.EVENTS.post(ModuleEvent.SERVER_CHANGE);
     }
 }
\ No newline at end of file